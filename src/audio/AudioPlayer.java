@@ -1,15 +1,9 @@
 package audio;
 
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.FloatControl;
-import javax.sound.sampled.LineEvent;
-import javax.sound.sampled.LineListener;
-
 /**
  * <p>
- * The AudioPlayer class provides functionality to play audio files.
+ * The AudioPlayer class provides functionality to play audio files. Songs
+ * are played through the {@link SoftwareMixer}.
  * </p>
  * @author Nick Clouse
  * @author Andrew Denegar
@@ -22,17 +16,14 @@ import javax.sound.sampled.LineListener;
  */
 public class AudioPlayer {
 
-    /** The currently playing audio clip. */
-    private Clip clip;
-
-    /** Indicates whether an audio clip is currently playing. */
-    private boolean isPlaying = false;
+    /** The currently playing voice in the mixer. */
+    private SoftwareMixer.Voice voice;
 
     /**
      * Constructs a new AudioPlayer instance.
      */
     public AudioPlayer() {
-        // Initialize arrays for songs and effects
+        // Sound is played through the shared mixer, nothing to set up
     }
 
     /**
@@ -40,15 +31,8 @@ public class AudioPlayer {
      * @param fileName The name of the song file to play.
      */
     public void playSong(String fileName) {
-        try {
-            AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(getClass().getResourceAsStream(fileName));
-            clip = AudioSystem.getClip();
-            clip.open(audioInputStream);
-            clip.loop(Clip.LOOP_CONTINUOUSLY); // Loop the clip continuously
-            isPlaying = true;
-        } catch (Exception e) {
-            System.err.println("Failed to load audio file " + fileName);
-        }
+        // Songs are streamed, so a long one isn't decoded all at once
+        voice = SoftwareMixer.getInstance().play(new MusicStream(fileName, true), 0);
     }
 
     /**
@@ -56,7 +40,7 @@ public class AudioPlayer {
      * @return true if an audio clip is currently active, false otherwise.
      */
     public boolean isActive() {
-        return isPlaying;
+        return voice != null && voice.isPlaying();
     }
 
     /**
@@ -65,32 +49,19 @@ public class AudioPlayer {
      */
     public void playSongOnce(String fileName) {
         try {
-            AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(getClass().getResourceAsStream(fileName));
-            clip = AudioSystem.getClip();
-            clip.open(audioInputStream);
-            clip.start(); // Play the clip once
-            isPlaying = true;
-            clip.addLineListener(new LineListener() {
-                @Override
-                public void update(LineEvent event) {
-                    if (event.getType() == LineEvent.Type.STOP) {
-                        isPlaying = false;
-                    }
-                }
-            });
+            voice = SoftwareMixer.getInstance().play(SoftwareMixer.decode(getClass().getResourceAsStream(fileName)), false);
         } catch (Exception e) {
-        	System.err.println("Failed to load audio file " + fileName);
+            System.err.println("Failed to load audio file " + fileName);
         }
     }
 
+
     /**
      * Stops the currently playing audio clip.
      */
     public void stop() {
-        if (clip != null) {
-            clip.stop();
-            clip.close();
-            isPlaying = false;
+        if (voice != null) {
+            voice.stop();
         }
     }
     
@@ -99,15 +70,8 @@ public class AudioPlayer {
      * @param volumeValue The volume value to set (0.0f to 1.0f).
      */
     public void setVolume(float volumeValue) {
-        if (clip != null) {
-            try {
-                FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-                float range = gainControl.getMaximum() - gainControl.getMinimum();
-                float gain = (range * volumeValue) + gainControl.getMinimum();
-                gainControl.setValue(gain);
-            } catch (Exception e) {
-            	System.err.println("Failed to set volume! ");
-            }
+        if (voice != null) {
+            voice.setVolume(volumeValue);
         }
     }
 	
@@ -0,0 +1,149 @@
+package audio;
+
+/**
+ * <p>
+ * MusicPlayer plays the background music, one looping song at a time. Songs
+ * are streamed (see {@link MusicStream}) rather than decoded all at once, and
+ * changing songs fades the old one out while the new one fades in.
+ * </p>
+ *
+ * <p>
+ * Testing is found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see SoftwareMixer
+ */
+public final class MusicPlayer {
+
+	/** How long songs take to fade in and out, in milliseconds. */
+	public static final int CROSSFADE_MILLIS = 500;
+
+	/** The single instance of MusicPlayer. */
+	private static MusicPlayer single_instance = null;
+
+	/**
+	 * Gets the single instance of MusicPlayer.
+	 *
+	 * @return The MusicPlayer.
+	 */
+	public static synchronized MusicPlayer getInstance() {
+		if (single_instance == null) {
+			single_instance = new MusicPlayer();
+		}
+		return single_instance;
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 * @throws InterruptedException If interrupted while waiting for a fade.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		boolean allPassed = true;
+		final MusicPlayer music = getInstance();
+
+		music.play("hitEnemy.wav");
+		final SoftwareMixer.Voice first = music.voice;
+		music.play("hitEnemy.wav");
+		if (!music.isPlaying() || music.voice != first) {
+			System.err.println("Playing the same song again restarted it!");
+			allPassed = false;
+		}
+
+		// Changing songs fades the old one out
+		music.play("playerHit.wav");
+		if (!"playerHit.wav".equals(music.getSong()) || !music.isPlaying()) {
+			System.err.println("New song isn't playing!");
+			allPassed = false;
+		}
+		Thread.sleep(CROSSFADE_MILLIS * 2);
+		if (first.isPlaying()) {
+			System.err.println("Old song didn't fade out!");
+			allPassed = false;
+		}
+
+		music.stop();
+		if (music.isPlaying() || music.getSong() != null) {
+			System.err.println("Music was still playing after it was stopped!");
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** The song playing, null if none is. */
+	private SoftwareMixer.Voice voice;
+
+	/** Name of the song playing, null if none is. */
+	private String song;
+
+	/**
+	 * Constructs a new MusicPlayer, use {@link #getInstance()} to get one.
+	 */
+	private MusicPlayer() {
+	}
+
+	/**
+	 * Plays a song over and over, fading out the song that was playing. Does
+	 * nothing if the song is already playing.
+	 *
+	 * @param fileName The name of the song file to play.
+	 */
+	public synchronized void play(String fileName) {
+		if (fileName.equals(song) && isPlaying()) {
+			return;
+		}
+		if (voice != null) {
+			voice.fadeOut(CROSSFADE_MILLIS);
+		}
+		voice = SoftwareMixer.getInstance().play(new MusicStream(fileName, true), CROSSFADE_MILLIS);
+		song = fileName;
+	}
+
+	/**
+	 * Fades out the song playing.
+	 */
+	public synchronized void stop() {
+		if (voice != null) {
+			voice.fadeOut(CROSSFADE_MILLIS);
+			voice = null;
+			song = null;
+		}
+	}
+
+	/**
+	 * Checks if a song is playing.
+	 *
+	 * @return true if a song is playing.
+	 */
+	public synchronized boolean isPlaying() {
+		return voice != null && voice.isPlaying();
+	}
+
+	/**
+	 * Gets the name of the song playing.
+	 *
+	 * @return The song's file name, null if none is playing.
+	 */
+	public synchronized String getSong() {
+		return song;
+	}
+
+	/**
+	 * Sets the volume of the song playing.
+	 *
+	 * @param volume The volume, 0.0f to 1.0f.
+	 */
+	public synchronized void setVolume(float volume) {
+		if (voice != null) {
+			voice.setVolume(volume);
+		}
+	}
+}
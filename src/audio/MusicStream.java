@@ -0,0 +1,275 @@
+package audio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * <p>
+ * MusicStream plays a song without decoding all of it. A background thread
+ * decodes the file a small piece at a time into a ring buffer, and the mixer
+ * reads from the other end, so the memory used is the same however long the
+ * song is. When a looping song reaches its end the file is opened again and
+ * decoding carries on into the same ring buffer, so there is no gap.
+ * </p>
+ *
+ * <p>
+ * Only one thread writes to the ring buffer and only the mixer reads from it,
+ * so neither has to lock. Testing is found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see MusicPlayer
+ */
+final class MusicStream implements SoftwareMixer.Source, Runnable {
+
+	/** Number of frames the ring buffer holds, about a third of a second. */
+	static final int RING_FRAMES = 16384;
+
+	/** Number of frames decoded at a time. */
+	private static final int CHUNK_FRAMES = 2048;
+
+	/** How long the decoding thread waits when the ring buffer is full. */
+	private static final long FULL_WAIT_NANOS = 20_000_000L;
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 * @throws Exception If the test sound can't be read.
+	 */
+	public static void main(String[] args) throws Exception {
+		boolean allPassed = true;
+
+		// A looping stream is the whole song over and over, with nothing in between
+		final short[] whole = SoftwareMixer.decode(MusicStream.class.getResourceAsStream("hitEnemy.wav"));
+		final MusicStream stream = new MusicStream("hitEnemy.wav", true);
+		final short[] played = new short[whole.length * 2 + 2000];
+		int count = 0;
+		final long giveUp = System.nanoTime() + 10_000_000_000L;
+		while (count < played.length && System.nanoTime() < giveUp) {
+			count += stream.read(played, count, played.length - count);
+		}
+		for (int i = 0; i < count; i++) {
+			if (played[i] != whole[i % whole.length]) {
+				System.err.println("Streamed sample " + i + " didn't match the decoded song!");
+				allPassed = false;
+				break;
+			}
+		}
+		if (count < played.length) {
+			System.err.println("Stream didn't keep up!");
+			allPassed = false;
+		}
+		if (stream.isFinished()) {
+			System.err.println("Looping stream finished!");
+			allPassed = false;
+		}
+		stream.close();
+
+		// The ring buffer never holds more than its size
+		if (stream.written - stream.readCount > stream.ring.length) {
+			System.err.println("Ring buffer held more than it can!");
+			allPassed = false;
+		}
+
+		// A stream that doesn't loop finishes once it's read
+		final MusicStream once = new MusicStream("attack2.wav", false);
+		final short[] out = new short[4096];
+		while (!once.isFinished() && System.nanoTime() < giveUp) {
+			once.read(out, 0, out.length);
+		}
+		if (!once.isFinished()) {
+			System.err.println("Stream that doesn't loop didn't finish!");
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Name of the song file. */
+	private final String fileName;
+
+	/** If the song starts over at the end. */
+	private final boolean loop;
+
+	/** Left and right samples of each frame, waiting to be mixed. */
+	private final short[] ring = new short[RING_FRAMES * 2];
+
+	/** Number of samples put in the ring buffer, only written by the decoder. */
+	private volatile long written = 0;
+
+	/** Number of samples taken from the ring buffer, only written by the mixer. */
+	private volatile long readCount = 0;
+
+	/** If the song has been decoded to its end. */
+	private volatile boolean ended = false;
+
+	/** If the stream is no longer being played. */
+	private volatile boolean closed = false;
+
+	/** Thread decoding the song. */
+	private final Thread decoder;
+
+	/** Position of the next frame made, in frames of the song after the last one. */
+	private double next = 0;
+
+	/** Left sample of the last frame of the song's previous piece. */
+	private int lastLeft = 0;
+
+	/** Right sample of the last frame of the song's previous piece. */
+	private int lastRight = 0;
+
+	/**
+	 * Constructs a new MusicStream and starts decoding it.
+	 *
+	 * @param fileName Name of the song file.
+	 * @param loop     true to start over at the end until closed.
+	 */
+	MusicStream(String fileName, boolean loop) {
+		this.fileName = fileName;
+		this.loop = loop;
+		decoder = new Thread(this, "music-stream");
+		decoder.setDaemon(true);
+		decoder.start();
+	}
+
+	/**
+	 * Decodes the song into the ring buffer until it ends or the stream is closed.
+	 */
+	@Override
+	public void run() {
+		boolean played;
+		do {
+			played = false;
+			final InputStream in = getClass().getResourceAsStream(fileName);
+			if (in == null) {
+				System.err.println("Failed to load audio file " + fileName);
+				break;
+			}
+			try (AudioInputStream pcm = SoftwareMixer.openPcm(in)) {
+				final AudioFormat format = pcm.getFormat();
+				final int channels = format.getChannels();
+				final double step = format.getSampleRate() / SoftwareMixer.FORMAT.getSampleRate();
+				final byte[] bytes = new byte[CHUNK_FRAMES * format.getFrameSize()];
+				final short[] out = new short[((int) Math.ceil(CHUNK_FRAMES / step) + 2) * 2];
+				int length;
+				while (!closed && (length = pcm.read(bytes)) != -1) {
+					final int frames = length / format.getFrameSize();
+					if (frames > 0) {
+						write(out, resample(bytes, frames, channels, step, out));
+						played = true;
+					}
+				}
+			} catch (IOException | UnsupportedAudioFileException | IllegalArgumentException e) {
+				System.err.println("Failed to load audio file " + fileName);
+				break;
+			}
+			// An empty song would loop forever without playing anything
+		} while (loop && played && !closed);
+		ended = true;
+	}
+
+	@Override
+	public int read(short[] out, int length) {
+		return read(out, 0, length);
+	}
+
+	@Override
+	public boolean isFinished() {
+		return closed || (ended && readCount == written);
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		LockSupport.unpark(decoder);
+	}
+
+	/**
+	 * Takes samples out of the ring buffer, as many as are there. Whole frames
+	 * are always taken.
+	 *
+	 * @param out    Where the samples are put.
+	 * @param offset Index of the first sample put in out.
+	 * @param length Most samples to take.
+	 * @return Number of samples taken.
+	 */
+	private int read(short[] out, int offset, int length) {
+		final long start = readCount;
+		final int count = (int) Math.min(length, written - start) & ~1;
+		final int from = (int) (start % ring.length);
+		final int first = Math.min(count, ring.length - from);
+		System.arraycopy(ring, from, out, offset, first);
+		System.arraycopy(ring, 0, out, offset + first, count - first);
+		readCount = start + count;
+		return count;
+	}
+
+	/**
+	 * Puts samples in the ring buffer, waiting while it's full.
+	 *
+	 * @param samples The samples.
+	 * @param count   Number of samples.
+	 */
+	private void write(short[] samples, int count) {
+		int offset = 0;
+		while (offset < count && !closed) {
+			final long end = written;
+			final int free = (int) (ring.length - (end - readCount));
+			if (free == 0) {
+				LockSupport.parkNanos(FULL_WAIT_NANOS);
+				continue;
+			}
+			final int to = (int) (end % ring.length);
+			final int length = Math.min(count - offset, Math.min(free, ring.length - to));
+			System.arraycopy(samples, offset, ring, to, length);
+			offset += length;
+			written = end + length;
+		}
+	}
+
+	/**
+	 * Converts one piece of the song to the mixer's format, carrying on from
+	 * where the last piece stopped so pieces join without a seam. Mono is copied
+	 * to both sides, and other sample rates are resampled by drawing a line
+	 * between samples.
+	 *
+	 * @param pcm      16 bit little-endian samples.
+	 * @param frames   Number of frames in pcm.
+	 * @param channels Number of channels in pcm.
+	 * @param step     Frames of the song per frame made.
+	 * @param out      Where the left and right samples are put.
+	 * @return Number of samples made.
+	 */
+	private int resample(byte[] pcm, int frames, int channels, double step, short[] out) {
+		final int right = Math.min(1, channels - 1);
+		int count = 0;
+		// A frame before this piece uses the last frame of the previous piece
+		while (next < frames - 1) {
+			final int before = (int) Math.floor(next);
+			final double fraction = next - before;
+			for (int side = 0; side < 2; side++) {
+				final int channel = side == 0 ? 0 : right;
+				final int a = before < 0 ? (side == 0 ? lastLeft : lastRight)
+						: SoftwareMixer.sample(pcm, before * channels + channel);
+				final int b = SoftwareMixer.sample(pcm, (before + 1) * channels + channel);
+				out[count++] = (short) Math.round(a + (b - a) * fraction);
+			}
+			next += step;
+		}
+		next -= frames;
+		lastLeft = SoftwareMixer.sample(pcm, (frames - 1) * channels);
+		lastRight = SoftwareMixer.sample(pcm, (frames - 1) * channels + right);
+		return count;
+	}
+}
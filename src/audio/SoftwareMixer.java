@@ -0,0 +1,754 @@
+package audio;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * <p>
+ * SoftwareMixer plays every sound through one {@link SourceDataLine}. A thread
+ * adds all playing voices together into a small buffer and writes it to the
+ * line, so the number of sounds playing doesn't depend on how many lines the
+ * sound system has. Sounds are converted to {@link #FORMAT} once, when they are
+ * decoded.
+ * </p>
+ *
+ * <p>
+ * Starting a voice only adds it to a lock-free queue, and stopping it or
+ * changing its volume only sets a field, so the game thread never waits on the
+ * mixer. If no line can be opened, the mixer writes to a line that throws the
+ * sound away, so it works the same without a sound device. Testing is found in
+ * the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see AudioPlayer
+ * @see SoundBank
+ */
+public final class SoftwareMixer {
+
+	/** Format everything is mixed in, 16 bit stereo at 44.1 kHz. */
+	public static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 2, true, false);
+
+	/** Number of frames mixed at a time. */
+	public static final int BUFFER_FRAMES = 512;
+
+	/** Number of buffers the line holds before a write waits. */
+	private static final int LINE_BUFFERS = 4;
+
+	/** Lowest gain a volume maps to, in decibels, the same as a Clip's. */
+	private static final float MIN_GAIN_DB = -80f;
+
+	/** Highest gain a volume maps to, in decibels, the same as a Clip's. */
+	private static final float MAX_GAIN_DB = 6.0206f;
+
+	/** The single instance of SoftwareMixer. */
+	private static SoftwareMixer single_instance = null;
+
+	/**
+	 * Gets the single instance of SoftwareMixer, opening the line and starting
+	 * the mixer thread the first time.
+	 *
+	 * @return The SoftwareMixer.
+	 */
+	public static synchronized SoftwareMixer getInstance() {
+		if (single_instance == null) {
+			single_instance = new SoftwareMixer(openLine());
+			final Thread thread = new Thread(() -> {
+				while (true) {
+					single_instance.mixBuffer();
+				}
+			}, "audio-mixer");
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MAX_PRIORITY);
+			thread.start();
+		}
+		return single_instance;
+	}
+
+	/**
+	 * Turns a volume into the amount samples are multiplied by. The volume is
+	 * spread over the gain range in decibels, like {@link AudioPlayer} used to
+	 * do with a Clip's gain control.
+	 *
+	 * @param volume The volume, 0.0f to 1.0f.
+	 * @return The linear gain.
+	 */
+	public static float gainFor(float volume) {
+		final float decibels = (MAX_GAIN_DB - MIN_GAIN_DB) * volume + MIN_GAIN_DB;
+		return (float) Math.pow(10, decibels / 20);
+	}
+
+	/**
+	 * Decodes a sound file into samples in {@link #FORMAT}.
+	 *
+	 * @param in The sound file.
+	 * @return Left and right samples of each frame, one after the other.
+	 * @throws IOException                   If the file can't be read.
+	 * @throws UnsupportedAudioFileException If the file isn't a sound file.
+	 */
+	public static short[] decode(InputStream in) throws IOException, UnsupportedAudioFileException {
+		try (AudioInputStream pcm = openPcm(in)) {
+			return toMixFormat(pcm.readAllBytes(), pcm.getFormat());
+		}
+	}
+
+	/**
+	 * Opens a sound file as 16 bit little-endian samples, at its own sample rate
+	 * and number of channels.
+	 *
+	 * @param in The sound file.
+	 * @return The samples.
+	 * @throws IOException                   If the file can't be read.
+	 * @throws UnsupportedAudioFileException If the file isn't a sound file.
+	 */
+	static AudioInputStream openPcm(InputStream in) throws IOException, UnsupportedAudioFileException {
+		final AudioInputStream encoded = AudioSystem.getAudioInputStream(new BufferedInputStream(in));
+		final AudioFormat source = encoded.getFormat();
+		final AudioFormat pcmFormat = new AudioFormat(source.getSampleRate(), 16, source.getChannels(), true, false);
+		try {
+			return AudioSystem.getAudioInputStream(pcmFormat, encoded);
+		} catch (final IllegalArgumentException e) {
+			encoded.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Converts 16 bit little-endian samples to {@link #FORMAT}. Mono is copied to
+	 * both sides, and other sample rates are resampled by drawing a line between
+	 * samples.
+	 *
+	 * @param pcm    The samples.
+	 * @param format Format of the samples.
+	 * @return Left and right samples of each frame, one after the other.
+	 */
+	static short[] toMixFormat(byte[] pcm, AudioFormat format) {
+		final int channels = format.getChannels();
+		final int frames = pcm.length / (2 * channels);
+		if (frames == 0) {
+			return new short[0];
+		}
+		final double step = format.getSampleRate() / FORMAT.getSampleRate();
+		final int outFrames = (int) (frames / step);
+		final short[] out = new short[outFrames * 2];
+		for (int frame = 0; frame < outFrames; frame++) {
+			final double position = frame * step;
+			final int before = (int) position;
+			final int after = Math.min(before + 1, frames - 1);
+			final double fraction = position - before;
+			for (int side = 0; side < 2; side++) {
+				final int channel = Math.min(side, channels - 1);
+				final int a = sample(pcm, before * channels + channel);
+				final int b = sample(pcm, after * channels + channel);
+				out[frame * 2 + side] = (short) Math.round(a + (b - a) * fraction);
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Reads one 16 bit little-endian sample.
+	 *
+	 * @param pcm   The samples.
+	 * @param index Index of the sample.
+	 * @return The sample.
+	 */
+	static int sample(byte[] pcm, int index) {
+		return (short) ((pcm[index * 2] & 0xFF) | (pcm[index * 2 + 1] << 8));
+	}
+
+	/**
+	 * Opens the sound line, or a null line if there isn't one.
+	 *
+	 * @return Where mixed sound is written.
+	 */
+	private static Output openLine() {
+		final int bytes = BUFFER_FRAMES * LINE_BUFFERS * FORMAT.getFrameSize();
+		try {
+			final SourceDataLine line = AudioSystem.getSourceDataLine(FORMAT);
+			line.open(FORMAT, bytes);
+			line.start();
+			return new LineOutput(line);
+		} catch (LineUnavailableException | IllegalArgumentException e) {
+			System.err.println("No audio line available, sound is muted");
+			return new NullLine(true, BUFFER_FRAMES * LINE_BUFFERS);
+		}
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		// Mono at half the rate becomes stereo at the full rate, in between samples
+		// are a line between their neighbors
+		final AudioFormat half = new AudioFormat(22050f, 16, 1, true, false);
+		final short[] converted = toMixFormat(new byte[] { 0, 0, (byte) 0xE8, 0x03 }, half);
+		if (converted.length != 8 || converted[0] != 0 || converted[1] != 0 || converted[2] != 500
+				|| converted[3] != 500 || converted[4] != 1000) {
+			System.err.println("Samples weren't converted to the mixer format! " + Arrays.toString(converted));
+			allPassed = false;
+		}
+
+		if (Math.abs(gainFor(MIN_GAIN_DB / (MIN_GAIN_DB - MAX_GAIN_DB)) - 1f) > 0.001f || gainFor(0f) > 0.001f) {
+			System.err.println("Volume didn't match a Clip's gain!");
+			allPassed = false;
+		}
+
+		final NullLine line = new NullLine(false, 0);
+		final SoftwareMixer mixer = new SoftwareMixer(line);
+
+		// Two voices are added together, and clipped instead of wrapping around
+		final short[] loud = new short[BUFFER_FRAMES * 2];
+		Arrays.fill(loud, (short) 20000);
+		final short[] quiet = new short[BUFFER_FRAMES * 2];
+		Arrays.fill(quiet, (short) 100);
+		final Voice first = mixer.play(quiet, false);
+		final Voice second = mixer.play(quiet, false);
+		mixer.mixBuffer();
+		if (line.sample(0) != 200) {
+			System.err.println("Voices weren't added together!");
+			allPassed = false;
+		}
+		if (first.isPlaying() || second.isPlaying() || mixer.getActiveVoices() != 0) {
+			System.err.println("Voices that reached their end are still playing!");
+			allPassed = false;
+		}
+		mixer.play(loud, false);
+		mixer.play(loud, false);
+		mixer.mixBuffer();
+		if (line.sample(0) != Short.MAX_VALUE) {
+			System.err.println("Mixed sound wasn't clipped!");
+			allPassed = false;
+		}
+
+		// Looping voices keep playing until stopped, and gain is applied
+		final short[] shortLoop = new short[] { 1000, 1000 };
+		final Voice music = mixer.play(shortLoop, true);
+		music.setGain(0.5f);
+		mixer.mixBuffer();
+		mixer.mixBuffer();
+		if (!music.isPlaying() || line.sample(BUFFER_FRAMES * 2 - 1) != 500) {
+			System.err.println("Looping voice didn't keep playing at its gain!");
+			allPassed = false;
+		}
+		music.stop();
+		mixer.mixBuffer();
+		if (music.isPlaying() || line.sample(0) != 0) {
+			System.err.println("Stopped voice kept playing!");
+			allPassed = false;
+		}
+
+		// A fade in starts silent and reaches full volume, a fade out stops the voice
+		final short[] steady = new short[] { 10000, 10000 };
+		final Voice faded = mixer.play(new SampleSource(steady, true), (int) (BUFFER_FRAMES * 1000 / FORMAT.getFrameRate()));
+		mixer.mixBuffer();
+		if (line.sample(0) > 100 || line.sample(BUFFER_FRAMES * 2 - 1) < 9900) {
+			System.err.println("Voice didn't fade in!");
+			allPassed = false;
+		}
+		faded.fadeOut(1);
+		mixer.mixBuffer();
+		if (faded.isPlaying()) {
+			System.err.println("Voice wasn't stopped after fading out!");
+			allPassed = false;
+		}
+
+		if (line.getFramesWritten() != BUFFER_FRAMES * 7L || mixer.getBuffersMixed() != 7) {
+			System.err.println("Every buffer wasn't written to the line!");
+			allPassed = false;
+		}
+		if (mixer.getLatencyMillis() <= 0 || mixer.getLoad() < 0) {
+			System.err.println("Latency and load weren't measured!");
+			allPassed = false;
+		}
+		System.out.printf("Latency %.1f ms, load %.3f%%%n", mixer.getLatencyMillis(), mixer.getLoad() * 100);
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Where mixed sound is written. */
+	private final Output output;
+
+	/** Voices waiting to be picked up by the mixer thread. */
+	private final Queue<Voice> started = new ConcurrentLinkedQueue<>();
+
+	/** Voices being mixed, only used by the mixer thread. */
+	private final List<Voice> active = new ArrayList<>();
+
+	/** Samples read from one voice. */
+	private final short[] read = new short[BUFFER_FRAMES * 2];
+
+	/** Sum of every voice for one buffer, before it's clipped. */
+	private final int[] sum = new int[BUFFER_FRAMES * 2];
+
+	/** The mixed buffer written to the line. */
+	private final byte[] buffer = new byte[BUFFER_FRAMES * FORMAT.getFrameSize()];
+
+	/** Number of voices mixed into the last buffer. */
+	private volatile int activeVoices = 0;
+
+	/** Number of buffers mixed. */
+	private volatile long buffersMixed = 0;
+
+	/** Time spent mixing, in nanoseconds. */
+	private volatile long mixNanos = 0;
+
+	/**
+	 * Constructs a new SoftwareMixer, use {@link #getInstance()} to get one.
+	 *
+	 * @param output Where mixed sound is written.
+	 */
+	private SoftwareMixer(Output output) {
+		this.output = output;
+	}
+
+	/**
+	 * Starts playing samples at normal volume. Returns right away, the voice is
+	 * mixed from the next buffer on.
+	 *
+	 * @param samples Left and right samples of each frame in {@link #FORMAT}.
+	 * @param loop    true to start over at the end until stopped.
+	 * @return The voice, used to stop it or change its volume.
+	 */
+	public Voice play(short[] samples, boolean loop) {
+		return play(new SampleSource(samples, loop), 0);
+	}
+
+	/**
+	 * Starts playing a source, fading it in from silence. Returns right away, the
+	 * voice is mixed from the next buffer on.
+	 *
+	 * @param source     Where the samples come from, read on the mixer thread.
+	 * @param fadeMillis How long it takes to reach full volume, 0 to start at it.
+	 * @return The voice, used to stop it or change its volume.
+	 */
+	Voice play(Source source, int fadeMillis) {
+		final Voice voice = new Voice(source, fadeMillis);
+		started.add(voice);
+		return voice;
+	}
+
+	/**
+	 * Gets the number of voices mixed into the last buffer.
+	 *
+	 * @return Number of voices playing.
+	 */
+	public int getActiveVoices() {
+		return activeVoices;
+	}
+
+	/**
+	 * Gets the number of buffers mixed.
+	 *
+	 * @return Number of buffers mixed.
+	 */
+	public long getBuffersMixed() {
+		return buffersMixed;
+	}
+
+	/**
+	 * Gets how long a sound takes from being started to being heard, at most.
+	 * This is the buffer being mixed plus everything the line holds.
+	 *
+	 * @return The latency, in milliseconds.
+	 */
+	public double getLatencyMillis() {
+		return (BUFFER_FRAMES + output.getBufferFrames()) * 1000.0 / FORMAT.getFrameRate();
+	}
+
+	/**
+	 * Gets the share of the time the mixer thread spends mixing, the time it
+	 * took to mix every buffer over the time the buffers play for.
+	 *
+	 * @return The load, 0 to 1, where 1 means mixing can't keep up.
+	 */
+	public double getLoad() {
+		final long buffers = buffersMixed;
+		if (buffers == 0) {
+			return 0;
+		}
+		final double playNanos = buffers * BUFFER_FRAMES * 1_000_000_000.0 / FORMAT.getFrameRate();
+		return mixNanos / playNanos;
+	}
+
+	/**
+	 * Mixes one buffer of every playing voice and writes it to the line. Voices
+	 * that were stopped or reached their end are dropped.
+	 */
+	private void mixBuffer() {
+		final long start = System.nanoTime();
+		Voice voice;
+		while ((voice = started.poll()) != null) {
+			active.add(voice);
+		}
+
+		Arrays.fill(sum, 0);
+		for (final Iterator<Voice> it = active.iterator(); it.hasNext();) {
+			voice = it.next();
+			if (voice.stopped || !voice.mixInto(sum, read)) {
+				voice.finished = true;
+				voice.source.close();
+				it.remove();
+			}
+		}
+		activeVoices = active.size();
+
+		for (int i = 0; i < sum.length; i++) {
+			final int clipped = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sum[i]));
+			buffer[i * 2] = (byte) clipped;
+			buffer[i * 2 + 1] = (byte) (clipped >> 8);
+		}
+		// Only the mixer thread writes these
+		mixNanos += System.nanoTime() - start;
+		buffersMixed++;
+		output.write(buffer, buffer.length);
+	}
+
+	/**
+	 * Turns a time into a number of frames.
+	 *
+	 * @param millis The time, in milliseconds.
+	 * @return Number of frames.
+	 */
+	private static int frames(int millis) {
+		return (int) (millis * FORMAT.getFrameRate() / 1000);
+	}
+
+	/**
+	 * <p>
+	 * One sound being played by the mixer. Stopping it or changing its volume
+	 * takes effect from the next buffer mixed. Fades move the gain a little every
+	 * frame.
+	 * </p>
+	 */
+	public static final class Voice {
+
+		/** Where the samples come from. */
+		private final Source source;
+
+		/** Gain the voice is at or fading to. */
+		private volatile float gain = 1f;
+
+		/** Most the gain changes each frame. */
+		private volatile float step = Float.MAX_VALUE;
+
+		/** If the voice stops once it has faded to silence. */
+		private volatile boolean stopWhenSilent = false;
+
+		/** If the voice was stopped. */
+		private volatile boolean stopped = false;
+
+		/** If the mixer has dropped the voice. */
+		private volatile boolean finished = false;
+
+		/** Gain of the last frame mixed, only used by the mixer thread. */
+		private float current;
+
+		/**
+		 * Constructs a new Voice.
+		 *
+		 * @param source     Where the samples come from.
+		 * @param fadeMillis How long it takes to fade in, 0 to start at full volume.
+		 */
+		private Voice(Source source, int fadeMillis) {
+			this.source = source;
+			if (fadeMillis > 0) {
+				current = 0f;
+				step = 1f / frames(fadeMillis);
+			} else {
+				current = 1f;
+			}
+		}
+
+		/**
+		 * Checks if the voice is playing.
+		 *
+		 * @return true until the voice is stopped or reaches its end.
+		 */
+		public boolean isPlaying() {
+			return !stopped && !finished;
+		}
+
+		/**
+		 * Stops the voice.
+		 */
+		public void stop() {
+			stopped = true;
+		}
+
+		/**
+		 * Sets the volume of the voice, the same way {@link AudioPlayer} sets it.
+		 *
+		 * @param volume The volume, 0.0f to 1.0f.
+		 */
+		public void setVolume(float volume) {
+			gain = gainFor(volume);
+		}
+
+		/**
+		 * Sets the amount samples are multiplied by.
+		 *
+		 * @param gain The linear gain.
+		 */
+		public void setGain(float gain) {
+			this.gain = gain;
+		}
+
+		/**
+		 * Fades the voice to silence and then stops it.
+		 *
+		 * @param millis How long the fade takes.
+		 */
+		public void fadeOut(int millis) {
+			step = Math.max(gain, Float.MIN_NORMAL) / Math.max(1, frames(millis));
+			gain = 0f;
+			stopWhenSilent = true;
+		}
+
+		/**
+		 * Adds the next buffer of samples to the mix.
+		 *
+		 * @param sum  The mix.
+		 * @param read Space to read samples into.
+		 * @return false if the voice has reached its end.
+		 */
+		private boolean mixInto(int[] sum, short[] read) {
+			final int count = source.read(read, sum.length);
+			final float target = gain;
+			final float change = step;
+			for (int i = 0; i + 1 < count; i += 2) {
+				if (current < target) {
+					current = Math.min(target, current + change);
+				} else if (current > target) {
+					current = Math.max(target, current - change);
+				}
+				sum[i] += (int) (read[i] * current);
+				sum[i + 1] += (int) (read[i + 1] * current);
+			}
+			if (stopWhenSilent && current == 0f) {
+				return false;
+			}
+			return !source.isFinished();
+		}
+	}
+
+	/**
+	 * <p>
+	 * Where a voice's samples come from. Sources are read on the mixer thread, so
+	 * reading must never wait.
+	 * </p>
+	 */
+	interface Source {
+
+		/**
+		 * Reads the next samples, as many as are ready.
+		 *
+		 * @param out    Where the left and right samples of each frame are put.
+		 * @param length Most samples to read.
+		 * @return Number of samples read, less than length if no more are ready.
+		 */
+		int read(short[] out, int length);
+
+		/**
+		 * Checks if every sample has been read.
+		 *
+		 * @return true if there is nothing left to read.
+		 */
+		boolean isFinished();
+
+		/**
+		 * Called once the voice is dropped by the mixer.
+		 */
+		void close();
+	}
+
+	/**
+	 * Plays samples that are already decoded.
+	 */
+	private static final class SampleSource implements Source {
+
+		/** Left and right samples of each frame. */
+		private final short[] samples;
+
+		/** If the samples start over at the end. */
+		private final boolean loop;
+
+		/** Index of the next sample. */
+		private int position = 0;
+
+		/**
+		 * Constructs a new SampleSource.
+		 *
+		 * @param samples Left and right samples of each frame.
+		 * @param loop    If the samples start over at the end.
+		 */
+		private SampleSource(short[] samples, boolean loop) {
+			this.samples = samples;
+			this.loop = loop && samples.length > 0;
+		}
+
+		@Override
+		public int read(short[] out, int length) {
+			int count = 0;
+			while (count < length) {
+				if (position == samples.length) {
+					if (!loop) {
+						break;
+					}
+					position = 0;
+				}
+				final int copied = Math.min(length - count, samples.length - position);
+				System.arraycopy(samples, position, out, count, copied);
+				position += copied;
+				count += copied;
+			}
+			return count;
+		}
+
+		@Override
+		public boolean isFinished() {
+			return !loop && position == samples.length;
+		}
+
+		@Override
+		public void close() {
+			// Nothing to free, the samples may be played again
+		}
+	}
+
+	/**
+	 * Where mixed sound is written.
+	 */
+	private interface Output {
+
+		/**
+		 * Writes mixed sound, waiting if the output is full.
+		 *
+		 * @param data   The sound, in {@link SoftwareMixer#FORMAT}.
+		 * @param length Number of bytes to write.
+		 */
+		void write(byte[] data, int length);
+
+		/**
+		 * Gets the number of frames the output holds before they're heard.
+		 *
+		 * @return Number of frames.
+		 */
+		int getBufferFrames();
+	}
+
+	/**
+	 * Writes mixed sound to a sound line.
+	 */
+	private static final class LineOutput implements Output {
+
+		/** The open sound line. */
+		private final SourceDataLine line;
+
+		/**
+		 * Constructs a new LineOutput.
+		 *
+		 * @param line The open sound line.
+		 */
+		private LineOutput(SourceDataLine line) {
+			this.line = line;
+		}
+
+		@Override
+		public void write(byte[] data, int length) {
+			line.write(data, 0, length);
+		}
+
+		@Override
+		public int getBufferFrames() {
+			return line.getBufferSize() / FORMAT.getFrameSize();
+		}
+	}
+
+	/**
+	 * Throws mixed sound away, used when there is no sound device and for
+	 * testing. It keeps the last buffer written so it can be checked.
+	 */
+	private static final class NullLine implements Output {
+
+		/** If writes take as long as the sound would play for. */
+		private final boolean realTime;
+
+		/** Number of frames it pretends to hold. */
+		private final int bufferFrames;
+
+		/** The last buffer written. */
+		private final byte[] last = new byte[BUFFER_FRAMES * FORMAT.getFrameSize()];
+
+		/** Number of frames written. */
+		private long framesWritten = 0;
+
+		/**
+		 * Constructs a new NullLine.
+		 *
+		 * @param realTime     If writes take as long as the sound would play for.
+		 * @param bufferFrames Number of frames it pretends to hold.
+		 */
+		private NullLine(boolean realTime, int bufferFrames) {
+			this.realTime = realTime;
+			this.bufferFrames = bufferFrames;
+		}
+
+		@Override
+		public void write(byte[] data, int length) {
+			System.arraycopy(data, 0, last, 0, Math.min(length, last.length));
+			framesWritten += length / FORMAT.getFrameSize();
+			if (realTime) {
+				LockSupport.parkNanos((long) (length / FORMAT.getFrameSize() * 1_000_000_000.0 / FORMAT.getFrameRate()));
+			}
+		}
+
+		@Override
+		public int getBufferFrames() {
+			return bufferFrames;
+		}
+
+		/**
+		 * Gets one sample of the last buffer written.
+		 *
+		 * @param index Index of the sample.
+		 * @return The sample.
+		 */
+		private int sample(int index) {
+			return (short) ((last[index * 2] & 0xFF) | (last[index * 2 + 1] << 8));
+		}
+
+		/**
+		 * Gets the number of frames written.
+		 *
+		 * @return Number of frames written.
+		 */
+		private long getFramesWritten() {
+			return framesWritten;
+		}
+	}
+}
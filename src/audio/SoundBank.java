@@ -0,0 +1,322 @@
+package audio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * <p>
+ * SoundBank plays short sound effects. Each effect is decoded once into the
+ * {@link SoftwareMixer}'s format, so playing an effect only starts a new voice
+ * in the mixer. An effect plays at most {@link #VOICES} times at once, if it's
+ * played again the one closest to finishing is stopped.
+ * </p>
+ *
+ * <p>
+ * Calls from the game thread never wait on the sound system, the work is done
+ * in order on a background thread. Testing is found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see SoftwareMixer
+ */
+public final class SoundBank {
+
+	/** Most times an effect can overlap itself. */
+	public static final int VOICES = 3;
+
+	/** The single instance of SoundBank. */
+	private static SoundBank single_instance = null;
+
+	/**
+	 * Gets the single instance of SoundBank.
+	 *
+	 * @return The SoundBank.
+	 */
+	public static synchronized SoundBank getInstance() {
+		if (single_instance == null) {
+			single_instance = new SoundBank();
+		}
+		return single_instance;
+	}
+
+	/**
+	 * Picks the voice to play next, the first one that isn't playing, or if they
+	 * all are, the one that finishes first.
+	 *
+	 * @param endsAt When each voice finishes, in nanoseconds.
+	 * @param now    The current time, in nanoseconds.
+	 * @return Index of the voice to use.
+	 */
+	static int chooseVoice(long[] endsAt, long now) {
+		int soonest = 0;
+		for (int i = 0; i < endsAt.length; i++) {
+			if (endsAt[i] <= now) {
+				return i;
+			}
+			if (endsAt[i] < endsAt[soonest]) {
+				soonest = i;
+			}
+		}
+		return soonest;
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		if (chooseVoice(new long[] { 50, 10, 30 }, 20) != 1) {
+			System.err.println("A finished voice wasn't reused!");
+			allPassed = false;
+		}
+		if (chooseVoice(new long[] { 50, 40, 60 }, 20) != 1) {
+			System.err.println("The voice closest to finishing wasn't taken!");
+			allPassed = false;
+		}
+
+		final SoundBank sounds = new SoundBank();
+		final Effect effect = sounds.effect("hitEnemy.wav");
+		sounds.effect("hitEnemy.wav");
+		if (effect.samples.length == 0 || effect.durationNanos <= 0) {
+			System.err.println("Effect wasn't decoded!");
+			allPassed = false;
+		}
+		if (sounds.getDecodeCount() != 1) {
+			System.err.println("Effect was decoded " + sounds.getDecodeCount() + " times instead of once!");
+			allPassed = false;
+		}
+
+		// Playing marks the effect right away, stopping clears it
+		sounds.play("hitEnemy.wav");
+		if (!sounds.isPlaying("hitEnemy.wav")) {
+			System.err.println("Effect wasn't playing right after it was started!");
+			allPassed = false;
+		}
+		sounds.stop("hitEnemy.wav");
+		if (sounds.isPlaying("hitEnemy.wav")) {
+			System.err.println("Effect was still playing after it was stopped!");
+			allPassed = false;
+		}
+
+		// A missing effect doesn't stay marked as playing
+		sounds.play("missing.wav");
+		sounds.waitForQueue();
+		if (sounds.isPlaying("missing.wav")) {
+			System.err.println("A missing effect was left playing!");
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Decoded effects, by file name. */
+	private final Map<String, Effect> effects = new ConcurrentHashMap<>();
+
+	/** When each effect stops playing, in nanoseconds, by file name. */
+	private final Map<String, AtomicLong> playingUntil = new ConcurrentHashMap<>();
+
+	/** Decodes, starts and stops effects in order, off the game thread. */
+	private final ExecutorService queue = Executors.newSingleThreadExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "sound-effects");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/** Number of effects decoded. */
+	private final AtomicInteger decodeCount = new AtomicInteger();
+
+	/**
+	 * Constructs a new SoundBank, use {@link #getInstance()} to get one.
+	 */
+	private SoundBank() {
+	}
+
+	/**
+	 * Decodes effects on the background thread, so the first time each one plays
+	 * doesn't have to.
+	 *
+	 * @param fileNames Names of the effect files.
+	 */
+	public void preload(String... fileNames) {
+		for (final String fileName : fileNames) {
+			queue.execute(() -> effect(fileName));
+		}
+	}
+
+	/**
+	 * Plays an effect. Returns right away, the effect is started on the
+	 * background thread, but {@link #isPlaying(String)} is true from now on.
+	 *
+	 * @param fileName Name of the effect file.
+	 */
+	public void play(String fileName) {
+		final AtomicLong until = until(fileName);
+		until.set(Long.MAX_VALUE);
+		queue.execute(() -> {
+			final long end = effect(fileName).start();
+			// Unless the effect was stopped while it was waiting to start
+			until.compareAndSet(Long.MAX_VALUE, end);
+		});
+	}
+
+	/**
+	 * Checks if an effect is playing.
+	 *
+	 * @param fileName Name of the effect file.
+	 * @return true if the effect is playing, or about to.
+	 */
+	public boolean isPlaying(String fileName) {
+		return until(fileName).get() > System.nanoTime();
+	}
+
+	/**
+	 * Stops every voice of an effect.
+	 *
+	 * @param fileName Name of the effect file.
+	 */
+	public void stop(String fileName) {
+		until(fileName).set(0);
+		queue.execute(() -> effect(fileName).stop());
+	}
+
+	/**
+	 * Gets the number of effects decoded.
+	 *
+	 * @return Number of effects decoded.
+	 */
+	public int getDecodeCount() {
+		return decodeCount.get();
+	}
+
+	/**
+	 * Gets when an effect stops playing.
+	 *
+	 * @param fileName Name of the effect file.
+	 * @return When the effect stops, in nanoseconds.
+	 */
+	private AtomicLong until(String fileName) {
+		return playingUntil.computeIfAbsent(fileName, name -> new AtomicLong());
+	}
+
+	/**
+	 * Gets an effect, decoding it the first time it's used.
+	 *
+	 * @param fileName Name of the effect file.
+	 * @return The effect.
+	 */
+	private Effect effect(String fileName) {
+		return effects.computeIfAbsent(fileName, this::decode);
+	}
+
+	/**
+	 * Waits for everything queued so far to be done.
+	 */
+	private void waitForQueue() {
+		try {
+			queue.submit(() -> {
+			}).get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (final ExecutionException e) {
+			// Nothing is queued that can fail
+		}
+	}
+
+	/**
+	 * Reads an effect file into samples the mixer can play. A missing file gives
+	 * an effect with no sound.
+	 *
+	 * @param fileName Name of the effect file.
+	 * @return The effect.
+	 */
+	private Effect decode(String fileName) {
+		final InputStream resource = getClass().getResourceAsStream(fileName);
+		if (resource == null) {
+			System.err.println("Failed to load audio file " + fileName);
+			return new Effect(new short[0]);
+		}
+		try {
+			final short[] samples = SoftwareMixer.decode(resource);
+			decodeCount.incrementAndGet();
+			return new Effect(samples);
+		} catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+			System.err.println("Failed to load audio file " + fileName);
+			return new Effect(new short[0]);
+		}
+	}
+
+	/**
+	 * One decoded effect and its voices in the mixer. Only used on the background
+	 * thread once made.
+	 */
+	private static final class Effect {
+
+		/** Left and right samples of each frame, in the mixer's format. */
+		private final short[] samples;
+
+		/** How long the effect plays, in nanoseconds. */
+		private final long durationNanos;
+
+		/** The last voices started, null where none has been. */
+		private final SoftwareMixer.Voice[] voices = new SoftwareMixer.Voice[VOICES];
+
+		/** When each voice finishes, in nanoseconds. */
+		private final long[] endsAt = new long[VOICES];
+
+		/**
+		 * Constructs a new Effect.
+		 *
+		 * @param samples Left and right samples of each frame.
+		 */
+		private Effect(short[] samples) {
+			this.samples = samples;
+			this.durationNanos = (long) (samples.length / 2 / SoftwareMixer.FORMAT.getFrameRate() * 1_000_000_000L);
+		}
+
+		/**
+		 * Plays the effect from the start as a new voice. If too many voices of it
+		 * are playing, the one closest to finishing is stopped.
+		 *
+		 * @return When the effect finishes, in nanoseconds.
+		 */
+		private long start() {
+			final long now = System.nanoTime();
+			final int voice = chooseVoice(endsAt, now);
+			if (voices[voice] != null) {
+				voices[voice].stop();
+			}
+			voices[voice] = SoftwareMixer.getInstance().play(samples, false);
+			endsAt[voice] = now + durationNanos;
+			return endsAt[voice];
+		}
+
+		/**
+		 * Stops every voice of the effect.
+		 */
+		private void stop() {
+			for (int i = 0; i < voices.length; i++) {
+				if (voices[i] != null) {
+					voices[i].stop();
+				}
+				endsAt[i] = 0;
+			}
+		}
+	}
+}
@@ -6,15 +6,13 @@ import java.awt.GraphicsDevice;
 import java.awt.GraphicsEnvironment;
 import java.awt.image.BufferedImage;
 import java.awt.image.VolatileImage;
-import java.io.File;
 import java.io.IOException;
 
-import javax.imageio.ImageIO;
-
 import blocks.EndBlock;
 import blocks.PositionBlock;
 import blocks.StartingBlock;
 import blocks.Wall;
+import gameTools.AssetLoader;
 import gameTools.CollisionDetection;
 import gameTools.GameVariables;
 
@@ -109,7 +107,7 @@ public class Chunk implements GameVariables {
 		try {
 			vImage = graphicsConfig.createCompatibleVolatileImage(WALL_WIDTH, WALL_HEIGHT);
 			final Graphics2D g = vImage.createGraphics();
-			final BufferedImage positionBlockImage = ImageIO.read(new File("images/emptyBlock.png"));
+			final BufferedImage positionBlockImage = AssetLoader.getInstance().load("images/emptyBlock.png");
 			g.drawImage(positionBlockImage, 0, 0, null);
 			g.dispose();
 		} catch (final IOException e) {
@@ -4,6 +4,7 @@ import java.awt.Graphics2D;
 import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsDevice;
 import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.awt.image.VolatileImage;
 import java.io.File;
@@ -15,19 +16,22 @@ import java.util.List;
 import java.util.Scanner;
 import java.util.Set;
 
-import javax.imageio.ImageIO;
-
-import audio.AudioPlayer;
 import blocks.EmptyBlock;
 import blocks.EndBlock;
 import blocks.PositionBlock;
 import blocks.StartingBlock;
 import blocks.Wall;
+import gameTools.AssetLoader;
 import gameTools.CollisionDetection;
+import gameTools.GameEvents;
 import gameTools.GameVariables;
+import gameTools.TickClock;
+import panels.BackgroundLayer;
 import panels.GamePanel;
+import panels.RenderSnapshot;
 import sprites.Enemy;
 import sprites.EnemyFactory;
+import sprites.EnemyLOD;
 import sprites.GhostFactory;
 import sprites.MageFactory;
 
@@ -252,6 +256,19 @@ public class ChunkManager implements GameVariables {
 			}
 		}
 
+		// Testing tile culling, 5 tiles of 200 starting at -300 cover -300 to 700.
+		// A screen from 0 to 500 sees tiles 1 (-100 to 100) to 3 (300 to 500)
+		if (firstVisibleTile(0, -300, 200, 5) != 1 || endVisibleTile(500, -300, 200, 5) != 4) {
+			System.err.println("The wrong tiles were found to be visible!");
+			allPassed = false;
+		}
+		// Chunks fully off the screen have no visible tiles
+		if (endVisibleTile(500, 600, 200, 5) > firstVisibleTile(0, 600, 200, 5)
+				|| endVisibleTile(500, -1200, 200, 5) > firstVisibleTile(0, -1200, 200, 5)) {
+			System.err.println("Tiles of a chunk off the screen were found to be visible!");
+			allPassed = false;
+		}
+
 		if (allPassed) {
 			System.out.println("All cases passed! :)");
 		} else {
@@ -292,6 +309,33 @@ public class ChunkManager implements GameVariables {
 		yOffset += dy;
 	}
 
+	/**
+	 * Finds the first tile in a row (or column) of tiles that can be seen.
+	 *
+	 * @param viewStart Left (or top) edge of the screen.
+	 * @param origin    Left (or top) edge of the first tile.
+	 * @param size      Width (or height) of each tile.
+	 * @param count     Number of tiles.
+	 * @return Index of the first tile that can be seen, count if none can be.
+	 */
+	static int firstVisibleTile(int viewStart, int origin, int size, int count) {
+		return Math.max(0, Math.min(count, Math.floorDiv(viewStart - origin, size)));
+	}
+
+	/**
+	 * Finds the tile after the last tile in a row (or column) of tiles that can be
+	 * seen.
+	 *
+	 * @param viewEnd Right (or bottom) edge of the screen.
+	 * @param origin  Left (or top) edge of the first tile.
+	 * @param size    Width (or height) of each tile.
+	 * @param count   Number of tiles.
+	 * @return Index after the last tile that can be seen, 0 if none can be.
+	 */
+	static int endVisibleTile(int viewEnd, int origin, int size, int count) {
+		return Math.max(0, Math.min(count, -Math.floorDiv(origin - viewEnd, size)));
+	}
+
 	/** Height of each chunk. */
 	private int chunkHeight;
 
@@ -307,6 +351,24 @@ public class ChunkManager implements GameVariables {
 	/** Number of chunks per column. */
 	private int chunkYDimension;
 
+	/** Number of tiles skipped in the last drawn frame because they were off the screen. */
+	private int culledTileCount = 0;
+
+	/** Number of tiles drawn in the last drawn frame. */
+	private int drawnTileCount = 0;
+
+	/** Left x of each chunk, reused by {@link #coversScreen} every frame. */
+	private int[] coverXs = new int[0];
+
+	/** Top y of each chunk, reused by {@link #coversScreen} every frame. */
+	private int[] coverYs = new int[0];
+
+	/** Where the chunks split up the width, reused by {@link #coversScreen}. */
+	private int[] coverCutsX = new int[1];
+
+	/** Where the chunks split up the height, reused by {@link #coversScreen}. */
+	private int[] coverCutsY = new int[1];
+
 	/** The end block. */
 	private EndBlock endBlock;
 
@@ -342,6 +404,12 @@ public class ChunkManager implements GameVariables {
 	/** Speed player is knocked back each time. */
 	private final int knockbackSpeed = 10;
 
+	/** Turns the x knockback per reference tick into movement for this tick. */
+	private final TickClock.Accumulator knockbackXMover = new TickClock.Accumulator();
+
+	/** Turns the y knockback per reference tick into movement for this tick. */
+	private final TickClock.Accumulator knockbackYMover = new TickClock.Accumulator();
+
 	/** Name of level. */
 	private String levelName = "";
 
@@ -354,6 +422,9 @@ public class ChunkManager implements GameVariables {
 	/** Used to make mage enemies. */
 	private final EnemyFactory mageCreator = MageFactory.getInstance();
 
+	/** Decides how often each enemy is simulated based on its distance. */
+	private final EnemyLOD enemyLOD = EnemyLOD.getInstance();
+
 	/** How many times the player is knocked back. */
 	private final int maxKnockbackCount = 14;
 
@@ -362,17 +433,16 @@ public class ChunkManager implements GameVariables {
 
 	/** Coordinates of start block. */
 	private int[] startCoords;
-	
-	/** Audio for when player is getting attacked */
-	private AudioPlayer gettingAttacked;
 
+	/** Event bus, used to tell the rest of the game the player was hit. */
+	private final GameEvents events = GameEvents.getInstance();
 
 	/**
 	 * Constructor for ChunkManager. This is private because ChunkManager is a
 	 * singleton, and only one instance of ChunkManager can exist at a time.
 	 */
 	private ChunkManager() {
-		gettingAttacked = new AudioPlayer();
+
 	}
 
 	/**
@@ -411,32 +481,14 @@ public class ChunkManager implements GameVariables {
 	}
 
 	/**
-	 * Calls each chunk to draw itself.
-	 *
-	 * @param g2d 2D graphics to draw on.
+	 * Moves the animation of every active enemy forward by one tick. Enemies that
+	 * finished their death animation are removed from the level.
 	 */
-	public synchronized void draw(Graphics2D g2d) {
-		for (final Chunk c : activeChunks) {
-			final PositionBlock[][] pbs = c.getBlocks();
-			for (final PositionBlock[] pb : pbs) {
-				for (int x = 0; x < pbs[0].length; x++) {
-					pb[x].draw(g2d, c.getXPosition(), c.getYPosition());
-				}
-			}
-		}
-	}
-
-	/**
-	 * Draws all active enemies to the screen. A enemy is considered active if it's
-	 * current position is visible on the screen.
-	 *
-	 * @param g2d The 2D graphics to draw on.
-	 */
-	public synchronized void drawEnemies(Graphics2D g2d) {
+	public synchronized void animateEnemies() {
 		final List<Enemy> toRemove = new ArrayList<>();
 
 		for (final Enemy e : Enemy.activeEnemies) {
-			if (e.draw(g2d)) {
+			if (e.animate()) {
 				toRemove.add(e);
 			}
 		}
@@ -445,7 +497,114 @@ public class ChunkManager implements GameVariables {
 			Enemy.activeEnemies.remove(e);
 			Enemy.enemies.remove(e);
 		}
+		if (!toRemove.isEmpty()) {
+			enemyLOD.invalidate();
+		}
+	}
+
+	/**
+	 * Calls each chunk stored in a snapshot to draw itself. Only the tiles of each
+	 * chunk that are inside the clip of the graphics (or the screen, if there is no
+	 * clip) are drawn. Only reads the snapshot, so it doesn't need to wait on the
+	 * game thread.
+	 *
+	 * @param g2d      2D graphics to draw on.
+	 * @param snapshot The snapshot to draw.
+	 * @param alpha    How far between the last two ticks to draw, from 0 to 1.
+	 */
+	public void draw(Graphics2D g2d, RenderSnapshot snapshot, double alpha) {
+		final Rectangle clip = g2d.getClipBounds();
+		final int viewX = clip == null ? 0 : clip.x;
+		final int viewY = clip == null ? 0 : clip.y;
+		final int viewRight = clip == null ? SCREEN_WIDTH : clip.x + clip.width;
+		final int viewBottom = clip == null ? SCREEN_HEIGHT : clip.y + clip.height;
+
+		int drawn = 0;
+		int culled = 0;
+		for (int i = 0; i < snapshot.getChunkCount(); i++) {
+			final PositionBlock[][] pbs = snapshot.getChunk(i).getBlocks();
+			final int chunkX = snapshot.getChunkX(i, alpha);
+			final int chunkY = snapshot.getChunkY(i, alpha);
+
+			// Only the rectangle of tiles that overlaps the screen is drawn
+			final int firstRow = firstVisibleTile(viewY, chunkY, WALL_HEIGHT, pbs.length);
+			final int endRow = endVisibleTile(viewBottom, chunkY, WALL_HEIGHT, pbs.length);
+			final int firstCol = firstVisibleTile(viewX, chunkX, WALL_WIDTH, pbs[0].length);
+			final int endCol = endVisibleTile(viewRight, chunkX, WALL_WIDTH, pbs[0].length);
+			for (int y = firstRow; y < endRow; y++) {
+				for (int x = firstCol; x < endCol; x++) {
+					pbs[y][x].draw(g2d, chunkX, chunkY);
+				}
+			}
+
+			final int visible = Math.max(0, endRow - firstRow) * Math.max(0, endCol - firstCol);
+			drawn += visible;
+			culled += pbs.length * pbs[0].length - visible;
+		}
+		drawnTileCount = drawn;
+		culledTileCount = culled;
+	}
+
+	/**
+	 * Gets the number of tiles skipped in the last drawn frame because they were
+	 * off the screen.
+	 *
+	 * @return Number of tiles culled.
+	 */
+	public int getCulledTileCount() {
+		return culledTileCount;
+	}
+
+	/**
+	 * Gets the number of tiles drawn in the last drawn frame.
+	 *
+	 * @return Number of tiles drawn.
+	 */
+	public int getDrawnTileCount() {
+		return drawnTileCount;
+	}
 
+	/**
+	 * Checks if the chunks in a snapshot cover the whole screen. Every block is
+	 * opaque, so when this is true nothing drawn under the chunks can be seen.
+	 *
+	 * @param snapshot The snapshot to draw.
+	 * @param alpha    How far between the last two ticks to draw, from 0 to 1.
+	 * @param width    Width of the screen.
+	 * @param height   Height of the screen.
+	 * @return true if no part of the screen is left uncovered by chunks.
+	 */
+	public boolean coversScreen(RenderSnapshot snapshot, double alpha, int width, int height) {
+		final int count = snapshot.getChunkCount();
+		// Only grows when there are more chunks than ever before
+		if (coverXs.length < count) {
+			coverXs = new int[count];
+			coverYs = new int[count];
+			coverCutsX = new int[count * 2 + 1];
+			coverCutsY = new int[count * 2 + 1];
+		}
+		for (int i = 0; i < count; i++) {
+			coverXs[i] = snapshot.getChunkX(i, alpha);
+			coverYs[i] = snapshot.getChunkY(i, alpha);
+		}
+		return BackgroundLayer.covers(coverXs, coverYs, count, chunkWidth, chunkHeight, width, height, coverCutsX,
+				coverCutsY);
+	}
+
+	/**
+	 * Draws all active enemies stored in a snapshot. A enemy is considered active
+	 * if it's current position is visible on the screen. Only reads the snapshot,
+	 * so it doesn't need to wait on the game thread.
+	 *
+	 * @param g2d      The 2D graphics to draw on.
+	 * @param snapshot The snapshot to draw.
+	 * @param alpha    How far between the last two ticks to draw, from 0 to 1.
+	 */
+	public void drawEnemies(Graphics2D g2d, RenderSnapshot snapshot, double alpha) {
+		for (int i = 0; i < snapshot.getEnemyCount(); i++) {
+			snapshot.getEnemy(i).drawFrame(g2d, snapshot.getEnemyFrame(i), snapshot.getEnemyX(i, alpha),
+					snapshot.getEnemyY(i, alpha), snapshot.isEnemyAttacking(i));
+		}
 	}
 
 	/**
@@ -493,10 +652,8 @@ public class ChunkManager implements GameVariables {
 	 * @param damage how much health the player will lose from this hit.
 	 */
 	public void handlePlayerHit(Facing d, int damage) {
-		GamePanel.ourPlayer.subtractHealth(damage);		
-		if (gettingAttacked.isActive() == false) {
-			gettingAttacked.playSongOnce("playerHit.wav");
-		}
+		GamePanel.ourPlayer.subtractHealth(damage);
+		events.post(GameEvents.Type.PLAYER_HIT, damage);
 
 		if (!knockback) {
 			knockback = true;
@@ -537,17 +694,21 @@ public class ChunkManager implements GameVariables {
 	 * player would result in hitting a wall, the knockback effect stops.
 	 */
 	public void knockback() {
+		// Knockback speed is per reference tick, scale it to this tick
+		final int dx = knockbackXMover.step(knockbackDx);
+		final int dy = knockbackYMover.step(knockbackDy);
+
 		// If knockback would result in a collision with a wall, then end the knockback
-		if (checkCollision(new Integer[] { -knockbackDx, -knockbackDy })) {
+		if (checkCollision(new Integer[] { -dx, -dy })) {
 			stopKnockback();
 		} else {
-			updateCoords(knockbackDx, knockbackDy);
+			updateCoords(dx, dy);
 
 		}
 
 		knockbackCounter++;
 		// Knockback limit, reset everything
-		if (knockbackCounter == maxKnockbackCount) {
+		if (knockbackCounter >= TickClock.getInstance().ticksFor(maxKnockbackCount)) {
 			stopKnockback();
 		}
 	}
@@ -595,7 +756,7 @@ public class ChunkManager implements GameVariables {
 			// Load Images for each type of PositionBlock.
 			VolatileImage EmptyImage = null;
 			try {
-				EmptyImage = convertToVolatile(ImageIO.read(new File("images/emptyBlock.png")));
+				EmptyImage = convertToVolatile(AssetLoader.getInstance().load("images/emptyBlock.png"));
 			} catch (final IOException e) {
 				System.err.println("Failed to load emptyBlock.png!");
 			}
@@ -603,7 +764,7 @@ public class ChunkManager implements GameVariables {
 
 			VolatileImage wallImage = null;
 			try {
-				wallImage = convertToVolatile(ImageIO.read(new File("images/wall.png")));
+				wallImage = convertToVolatile(AssetLoader.getInstance().load("images/wall.png"));
 			} catch (final IOException e) {
 				System.err.println("Failed to load wall.png!");
 			}
@@ -611,7 +772,7 @@ public class ChunkManager implements GameVariables {
 
 			VolatileImage startImage = null;
 			try {
-				startImage = convertToVolatile(ImageIO.read(new File("images/startBlock.png")));
+				startImage = convertToVolatile(AssetLoader.getInstance().load("images/startBlock.png"));
 			} catch (final IOException e) {
 				System.err.println("Failed to load startBlock.png!");
 			}
@@ -619,7 +780,7 @@ public class ChunkManager implements GameVariables {
 
 			VolatileImage endImage = null;
 			try {
-				endImage = convertToVolatile(ImageIO.read(new File("images/endBlock.png")));
+				endImage = convertToVolatile(AssetLoader.getInstance().load("images/endBlock.png"));
 			} catch (final IOException e) {
 				System.err.println("Failed to load endBlock.png!");
 			}
@@ -679,6 +840,7 @@ public class ChunkManager implements GameVariables {
 				yPosition++;
 			}
 
+			enemyLOD.invalidate();
 			setStartLocation();
 
 			return true;
@@ -697,6 +859,7 @@ public class ChunkManager implements GameVariables {
 		activeChunks.clear();
 		Enemy.activeEnemies.clear();
 		Enemy.enemies.clear();
+		enemyLOD.reset();
 		resetOffset();
 	}
 
@@ -736,7 +899,8 @@ public class ChunkManager implements GameVariables {
 		knockbackCounter = 0;
 		knockbackDx = 0;
 		knockbackDy = 0;
-
+		knockbackXMover.reset();
+		knockbackYMover.reset();
 	}
 
 	/**
@@ -775,24 +939,14 @@ public class ChunkManager implements GameVariables {
 
 	/**
 	 * Adds all enemies currently visible on the screen to activeEnemies Set, so
-	 * they can be drawn. It then moves all enemies that are active.
+	 * they can be drawn. It then moves all enemies that are active. Enemies just
+	 * off the screen are updated less often, and enemies far away sleep until the
+	 * player gets closer.
+	 *
+	 * @see EnemyLOD
 	 */
 	public synchronized void updateEnemies() {
-		// Get enemies that can be see on the screen right now
-		for (final Enemy e : Enemy.enemies) {
-			if (e.isVisible()) {
-				Enemy.activeEnemies.add(e);
-			} else {
-				Enemy.activeEnemies.remove(e);
-			}
-		}
-
-		// Move enemies that are active
-		for (final Enemy e : Enemy.activeEnemies) {
-			if (e.getState() != State.Dead) {
-				e.move();
-			}
-		}
+		enemyLOD.update();
 	}
 
 	/**
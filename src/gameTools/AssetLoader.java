@@ -0,0 +1,536 @@
+package gameTools;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+/**
+ * <p>
+ * AssetLoader loads every image used by the game. Each image is read from its
+ * file once, copied into the format the screen uses (opaque if the file has no
+ * transparency, translucent if it does) and kept by its path, so loading the
+ * same path again gives back the same image. Images in the screen's format are
+ * drawn with a plain copy, instead of being converted on every draw like the
+ * types the PNG reader gives back.
+ * </p>
+ *
+ * <p>
+ * If the asset pack {@value #ASSET_PACK} exists, images in it are read from the
+ * pack instead of their files, unless a file has changed since it was packed,
+ * see {@link AssetPack}.
+ * </p>
+ *
+ * <p>
+ * Images can be loaded ahead of time on a pool of threads with
+ * {@link #preload(Collection, ProgressListener)}, using the same cache. Each
+ * file is only ever read by one thread, anyone else asking for it while it's
+ * being read waits for that read to finish.
+ * </p>
+ *
+ * <p>
+ * The time taken to load each image and how many bytes it uses are kept, see
+ * {@link #getStats(String)} and {@link #printReport(PrintStream)}. Testing is
+ * found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ */
+public class AssetLoader {
+
+	/**
+	 * How long an image took to load and how much memory it uses.
+	 */
+	public static final class Stats {
+
+		/** Path the image was loaded from. */
+		private final String path;
+
+		/** Time taken to read and convert the image, in nanoseconds. */
+		private final long loadNanos;
+
+		/** Bytes used by the converted image. */
+		private final long bytes;
+
+		/**
+		 * Constructs a new Stats.
+		 *
+		 * @param path      Path the image was loaded from.
+		 * @param loadNanos Time taken to read and convert the image, in nanoseconds.
+		 * @param bytes     Bytes used by the converted image.
+		 */
+		private Stats(String path, long loadNanos, long bytes) {
+			this.path = path;
+			this.loadNanos = loadNanos;
+			this.bytes = bytes;
+		}
+
+		/**
+		 * Gets the path the image was loaded from.
+		 *
+		 * @return The path.
+		 */
+		public String getPath() {
+			return path;
+		}
+
+		/**
+		 * Gets the time taken to read and convert the image.
+		 *
+		 * @return Load time in nanoseconds.
+		 */
+		public long getLoadNanos() {
+			return loadNanos;
+		}
+
+		/**
+		 * Gets the bytes used by the converted image.
+		 *
+		 * @return Bytes used.
+		 */
+		public long getBytes() {
+			return bytes;
+		}
+	}
+
+	/**
+	 * Told each time an image finishes preloading.
+	 */
+	@FunctionalInterface
+	public interface ProgressListener {
+
+		/**
+		 * Called each time an image finishes preloading.
+		 *
+		 * @param loaded Number of images finished so far.
+		 * @param total  Number of images being preloaded.
+		 */
+		void loaded(int loaded, int total);
+	}
+
+	/** Pack file images are read from when it exists, see {@link AssetPackBuilder}. */
+	public static final String ASSET_PACK = "assets.pack";
+
+	/** Folders searched for images by {@link #knownAssets()}. */
+	private static final String[] ASSET_FOLDERS = { "images", "Textures" };
+
+	/**
+	 * The current instance of AssetLoader.
+	 */
+	private static AssetLoader single_instance = null;
+
+	/**
+	 * Makes a new instance of AssetLoader. AssetLoader is a singleton so every
+	 * part of the game shares one cache.
+	 *
+	 * @return The current instance of AssetLoader.
+	 */
+	public static synchronized AssetLoader getInstance() {
+		if (single_instance == null) {
+			single_instance = new AssetLoader();
+		}
+
+		return single_instance;
+	}
+
+	/**
+	 * Finds every PNG image in the image folders and the folders inside them.
+	 *
+	 * @return Paths to every image, in the form they are loaded with.
+	 */
+	public static List<String> knownAssets() {
+		final List<String> paths = new ArrayList<>();
+		for (final String folder : ASSET_FOLDERS) {
+			findImages(new File(folder), paths);
+		}
+		return paths;
+	}
+
+	/**
+	 * Adds the path of every PNG image in a folder and the folders inside it.
+	 *
+	 * @param folder The folder to search.
+	 * @param paths  List the paths are added to.
+	 */
+	private static void findImages(File folder, List<String> paths) {
+		final File[] files = folder.listFiles();
+		if (files == null) {
+			return;
+		}
+		Arrays.sort(files);
+		for (final File file : files) {
+			if (file.isDirectory()) {
+				findImages(file, paths);
+			} else if (file.getName().toLowerCase().endsWith(".png")) {
+				paths.add(file.getPath());
+			}
+		}
+	}
+
+	/**
+	 * Copies an image into a new image in the format the screen uses. The copy is
+	 * opaque if the image has no transparency. When there is no screen a plain RGB
+	 * or ARGB image is used.
+	 *
+	 * @param image The image to copy.
+	 * @return The copy.
+	 */
+	public static BufferedImage toCompatible(BufferedImage image) {
+		final int transparency = image.getColorModel().getTransparency();
+		final BufferedImage copy;
+		if (GraphicsEnvironment.isHeadless()) {
+			copy = new BufferedImage(image.getWidth(), image.getHeight(),
+					transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+		} else {
+			copy = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+					.getDefaultConfiguration().createCompatibleImage(image.getWidth(), image.getHeight(), transparency);
+		}
+		final Graphics2D g = copy.createGraphics();
+		g.drawImage(image, 0, 0, null);
+		g.dispose();
+		return copy;
+	}
+
+	/**
+	 * Finds about how many bytes an image uses, from the size of its pixel data.
+	 *
+	 * @param image The image.
+	 * @return Bytes used.
+	 */
+	private static long sizeOf(BufferedImage image) {
+		final DataBuffer buffer = image.getRaster().getDataBuffer();
+		return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+		final AssetLoader loader = getInstance();
+
+		try {
+			// PNG reader gives back an indexed image for this file
+			final File file = File.createTempFile("asset", ".png");
+			file.deleteOnExit();
+			final BufferedImage indexed = new BufferedImage(20, 10, BufferedImage.TYPE_BYTE_INDEXED);
+			indexed.setRGB(5, 5, 0xFFFFFFFF);
+			ImageIO.write(indexed, "png", file);
+
+			final BufferedImage image = loader.load(file.getPath());
+			if (image.getType() == BufferedImage.TYPE_BYTE_INDEXED || image.getRGB(5, 5) != 0xFFFFFFFF) {
+				System.err.println("Image wasn't converted to the screen's format!");
+				allPassed = false;
+			}
+			if (image.getColorModel().getTransparency() != Transparency.OPAQUE) {
+				System.err.println("An image with no transparency should be opaque!");
+				allPassed = false;
+			}
+
+			// Loading the same path again uses the cache
+			if (loader.load(file.getPath()) != image || loader.getDecodeCount() != 1) {
+				System.err.println("Image was read again when it was already cached!");
+				allPassed = false;
+			}
+
+			final Stats stats = loader.getStats(file.getPath());
+			if (stats == null || stats.getBytes() != 20 * 10 * 4 || stats.getLoadNanos() <= 0) {
+				System.err.println("Load stats weren't kept!");
+				allPassed = false;
+			}
+
+			// Evicted images don't count any more, and are read again
+			final long totalBefore = loader.getTotalBytes();
+			loader.evict(file.getPath());
+			if (loader.getStats(file.getPath()) != null || loader.getTotalBytes() != totalBefore - 20 * 10 * 4) {
+				System.err.println("Evicted image was still counted!");
+				allPassed = false;
+			}
+			if (loader.load(file.getPath()) == image || loader.getDecodeCount() != 2) {
+				System.err.println("Evicted image wasn't read again!");
+				allPassed = false;
+			}
+		} catch (final IOException e) {
+			System.err.println("Test image couldn't be loaded: " + e.getMessage());
+			allPassed = false;
+		}
+
+		// Preloading the same files many times at once reads each file only once
+		try {
+			final List<String> paths = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				final File file = File.createTempFile("preload", ".png");
+				file.deleteOnExit();
+				ImageIO.write(new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB), "png", file);
+				for (int copy = 0; copy < 5; copy++) {
+					paths.add(file.getPath());
+				}
+			}
+			final int before = loader.getDecodeCount();
+			final int[] progress = { 0 };
+			loader.preload(paths, (loaded, total) -> {
+				synchronized (progress) {
+					progress[0] = Math.max(progress[0], loaded);
+				}
+			}).join();
+			if (loader.getDecodeCount() - before != 4) {
+				System.err.println("4 files should be read once each, " + (loader.getDecodeCount() - before)
+						+ " reads were made!");
+				allPassed = false;
+			}
+			synchronized (progress) {
+				if (progress[0] != paths.size()) {
+					System.err.println("Progress didn't reach " + paths.size() + ", it reached " + progress[0]);
+					allPassed = false;
+				}
+			}
+			// Later loads use what was preloaded
+			if (loader.load(paths.get(0)) == null || loader.getDecodeCount() - before != 4) {
+				System.err.println("A preloaded image was read again!");
+				allPassed = false;
+			}
+		} catch (final IOException e) {
+			System.err.println("Test images couldn't be made: " + e.getMessage());
+			allPassed = false;
+		}
+
+		// Missing files throw, and aren't cached
+		try {
+			loader.load("images/doesNotExist.png");
+			System.err.println("Loading a missing file should throw!");
+			allPassed = false;
+		} catch (final IOException e) {
+			if (loader.getStats("images/doesNotExist.png") != null) {
+				System.err.println("A missing file shouldn't be cached!");
+				allPassed = false;
+			}
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Loads of each image, by path. Finished loads hold the image. */
+	private final Map<String, FutureTask<BufferedImage>> images = new ConcurrentHashMap<>();
+
+	/** Load stats of each image, by path. */
+	private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+	/** Paths in the order they were loaded. */
+	private final List<String> order = new ArrayList<>();
+
+	/** Number of images read from files. */
+	private final AtomicInteger decodeCount = new AtomicInteger();
+
+	/** Pack images are read from, null if there is no pack. */
+	private final AssetPack pack;
+
+	/**
+	 * Constructs a new AssetLoader, use {@link #getInstance()} to get one. Opens
+	 * the asset pack if there is one.
+	 */
+	private AssetLoader() {
+		AssetPack opened = null;
+		final File packFile = new File(ASSET_PACK);
+		if (packFile.isFile()) {
+			try {
+				opened = AssetPack.open(packFile);
+			} catch (final IOException e) {
+				System.err.println("Failed to open " + ASSET_PACK + ", images will be read from their files!");
+			}
+		}
+		pack = opened;
+	}
+
+	/**
+	 * Gets an image, reading it from its file the first time it's asked for. If
+	 * another thread is already reading the same file, this waits for it instead
+	 * of reading the file again.
+	 *
+	 * @param path Path to the image file.
+	 * @return The image in the screen's format.
+	 * @throws IOException If the file couldn't be read or isn't an image.
+	 */
+	public BufferedImage load(String path) throws IOException {
+		final String key = new File(path).getPath();
+		final FutureTask<BufferedImage> task = images.computeIfAbsent(key,
+				k -> new FutureTask<>(() -> decode(k)));
+		// Does nothing if the task already ran or another thread is running it
+		task.run();
+
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					return task.get();
+				} catch (final InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		} catch (final ExecutionException e) {
+			// Failed loads aren't kept, so the file is tried again next time
+			images.remove(key, task);
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IOException("Failed to load '" + path + "'", e.getCause());
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Drops an image from the cache, used once an image is no longer needed (like
+	 * a sprite sheet that has been cut into frames). Its stats are dropped too, so
+	 * it no longer counts in {@link #getTotalBytes()} or the report. Loading it
+	 * again reads the file again.
+	 *
+	 * @param path Path to the image file.
+	 */
+	public void evict(String path) {
+		final String key = new File(path).getPath();
+		synchronized (order) {
+			images.remove(key);
+			stats.remove(key);
+			order.remove(key);
+		}
+	}
+
+	/**
+	 * Loads images on a pool of threads, one per processor. Images already loaded
+	 * or being loaded aren't read again, and failed loads are skipped.
+	 *
+	 * @param paths    Paths to the image files.
+	 * @param listener Told each time an image finishes, on a loading thread. Can be
+	 *                 null.
+	 * @return Completes once every image has finished.
+	 */
+	public CompletableFuture<Void> preload(Collection<String> paths, ProgressListener listener) {
+		final int total = paths.size();
+		final AtomicInteger loaded = new AtomicInteger();
+		final ExecutorService pool = Executors.newFixedThreadPool(
+				Math.max(1, Math.min(total, Runtime.getRuntime().availableProcessors())), runnable -> {
+					final Thread thread = new Thread(runnable, "asset-loader");
+					thread.setDaemon(true);
+					return thread;
+				});
+
+		final CompletableFuture<?>[] loads = new CompletableFuture<?>[total];
+		int i = 0;
+		for (final String path : paths) {
+			loads[i++] = CompletableFuture.runAsync(() -> {
+				try {
+					load(path);
+				} catch (final IOException e) {
+					System.err.println("Failed to preload '" + path + "'!");
+				}
+				if (listener != null) {
+					listener.loaded(loaded.incrementAndGet(), total);
+				}
+			}, pool);
+		}
+		return CompletableFuture.allOf(loads).whenComplete((result, error) -> pool.shutdown());
+	}
+
+	/**
+	 * Gets the number of images read from files.
+	 *
+	 * @return Number of images read.
+	 */
+	public int getDecodeCount() {
+		return decodeCount.get();
+	}
+
+	/**
+	 * Gets how long an image took to load and how many bytes it uses.
+	 *
+	 * @param path Path to the image file.
+	 * @return The stats, or null if the image hasn't been loaded.
+	 */
+	public Stats getStats(String path) {
+		return stats.get(new File(path).getPath());
+	}
+
+	/**
+	 * Gets the total bytes used by every loaded image.
+	 *
+	 * @return Bytes used.
+	 */
+	public long getTotalBytes() {
+		long total = 0;
+		for (final Stats s : stats.values()) {
+			total += s.getBytes();
+		}
+		return total;
+	}
+
+	/**
+	 * Prints the load time and size of every loaded image, in the order they were
+	 * loaded, followed by the totals.
+	 *
+	 * @param out Where to print the report.
+	 */
+	public void printReport(PrintStream out) {
+		long totalNanos = 0;
+		synchronized (order) {
+			for (final String path : order) {
+				final Stats s = stats.get(path);
+				totalNanos += s.getLoadNanos();
+				out.printf("%-50s %8.2f ms %10d bytes%n", path, s.getLoadNanos() / 1e6, s.getBytes());
+			}
+			out.printf("%-50s %8.2f ms %10d bytes%n", order.size() + " images", totalNanos / 1e6, getTotalBytes());
+		}
+	}
+
+	/**
+	 * Reads an image from the asset pack, or from its file if it isn't packed, and
+	 * converts it, keeping its load stats.
+	 *
+	 * @param path Path to the image file.
+	 * @return The image in the screen's format.
+	 * @throws IOException If the file couldn't be read or isn't an image.
+	 */
+	private BufferedImage decode(String path) throws IOException {
+		final long start = System.nanoTime();
+		BufferedImage decoded = pack == null ? null : pack.read(path);
+		if (decoded == null) {
+			decoded = ImageIO.read(new File(path));
+		}
+		if (decoded == null) {
+			throw new IOException("No image could be read from '" + path + "'");
+		}
+		final BufferedImage image = toCompatible(decoded);
+		decodeCount.incrementAndGet();
+
+		stats.put(path, new Stats(path, System.nanoTime() - start, sizeOf(image)));
+		synchronized (order) {
+			order.add(path);
+		}
+		return image;
+	}
+}
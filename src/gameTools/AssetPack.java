@@ -0,0 +1,475 @@
+package gameTools;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+/**
+ * <p>
+ * AssetPack holds many images in one file, so they can be loaded without
+ * opening a file for each one. The pack starts with a table of contents (the
+ * path, format, size and location of each image) followed by the images. Each
+ * image is either raw ARGB pixels, which are copied straight into an image with
+ * no decoding, or the PNG file's bytes.
+ * </p>
+ *
+ * <p>
+ * The pack is read through a memory mapped file, so the operating system pages
+ * images in as they are read and no copy of the file is made on the heap. The
+ * mapping is released once the pack is no longer used. Packs are made with
+ * {@link #write(File, Collection, Format)}, see {@link AssetPackBuilder}.
+ * </p>
+ *
+ * <p>
+ * The size and last modified time of each image's file are kept too. If the
+ * file has changed since it was packed, the packed copy is out of date and
+ * isn't used, so the file is read instead. Testing is found in the main method.
+ * </p>
+ *
+ * <pre>
+ * int    magic ("MZPK")
+ * int    version
+ * int    number of images
+ * for each image:
+ *   UTF  path, using '/' between folders
+ *   long size of the image's file when packed
+ *   long last modified time of the image's file when packed
+ *   byte format (0 = raw ARGB, 1 = PNG)
+ *   byte 1 if the image has transparency
+ *   int  width
+ *   int  height
+ *   long offset of the image from the start of the file
+ *   int  length of the image in bytes
+ * image data
+ * </pre>
+ *
+ * @since October 19, 2026
+ *
+ * @see AssetLoader
+ */
+public final class AssetPack {
+
+	/**
+	 * How an image is stored in the pack.
+	 */
+	public enum Format {
+		/** Raw ARGB pixels, 4 bytes each. Large, but needs no decoding. */
+		RAW,
+		/** The PNG file's bytes. Small, but has to be decoded. */
+		PNG
+	}
+
+	/**
+	 * Where an image is in the pack.
+	 */
+	private static final class Entry {
+
+		/** How the image is stored. */
+		private final Format format;
+
+		/** If the image has transparency. */
+		private final boolean translucent;
+
+		/** Width of the image. */
+		private final int width;
+
+		/** Height of the image. */
+		private final int height;
+
+		/** Offset of the image from the start of the file. */
+		private final long offset;
+
+		/** Length of the image in bytes. */
+		private final int length;
+
+		/** Size of the image's file when it was packed. */
+		private final long sourceSize;
+
+		/** Last modified time of the image's file when it was packed. */
+		private final long sourceModified;
+
+		/**
+		 * Constructs a new Entry.
+		 *
+		 * @param sourceSize     Size of the image's file when it was packed.
+		 * @param sourceModified Last modified time of the image's file when it was
+		 *                       packed.
+		 * @param format         How the image is stored.
+		 * @param translucent    If the image has transparency.
+		 * @param width          Width of the image.
+		 * @param height         Height of the image.
+		 * @param offset         Offset of the image from the start of the file.
+		 * @param length         Length of the image in bytes.
+		 */
+		private Entry(long sourceSize, long sourceModified, Format format, boolean translucent, int width, int height,
+				long offset, int length) {
+			this.sourceSize = sourceSize;
+			this.sourceModified = sourceModified;
+			this.format = format;
+			this.translucent = translucent;
+			this.width = width;
+			this.height = height;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+
+	/**
+	 * Reads bytes from a buffer, so ImageIO can decode PNGs straight from the
+	 * mapped file.
+	 */
+	private static final class BufferInputStream extends InputStream {
+
+		/** The bytes being read. */
+		private final ByteBuffer buffer;
+
+		/**
+		 * Constructs a new BufferInputStream.
+		 *
+		 * @param buffer The bytes to read.
+		 */
+		private BufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (!buffer.hasRemaining()) {
+				return -1;
+			}
+			final int count = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, count);
+			return count;
+		}
+	}
+
+	/** Start of every pack file, "MZPK". */
+	private static final int MAGIC = 0x4D5A504B;
+
+	/** Version of the pack format. */
+	private static final int VERSION = 2;
+
+	/**
+	 * Changes a path so it's the same on every system, with '/' between folders.
+	 *
+	 * @param path The path.
+	 * @return The path with '/' between folders.
+	 */
+	static String normalize(String path) {
+		return new File(path).getPath().replace(File.separatorChar, '/');
+	}
+
+	/**
+	 * Writes a pack holding images read from files.
+	 *
+	 * @param pack   File to write the pack to.
+	 * @param paths  Paths to the image files, kept in the pack as they are given.
+	 * @param format How the images are stored.
+	 * @throws IOException If an image couldn't be read or the pack couldn't be
+	 *                     written.
+	 */
+	public static void write(File pack, Collection<String> paths, Format format) throws IOException {
+		final List<String> names = new ArrayList<>();
+		final List<File> sources = new ArrayList<>();
+		final List<BufferedImage> images = new ArrayList<>();
+		final List<byte[]> payloads = new ArrayList<>();
+		for (final String path : paths) {
+			final BufferedImage image = ImageIO.read(new File(path));
+			if (image == null) {
+				throw new IOException("No image could be read from '" + path + "'");
+			}
+			names.add(normalize(path));
+			sources.add(new File(path));
+			images.add(image);
+			payloads.add(format == Format.RAW ? rawBytes(image) : Files.readAllBytes(new File(path).toPath()));
+		}
+
+		// The table of contents is written once to find its size, so the offsets
+		// of the images are known
+		final int tocSize = tableOfContents(names, sources, images, payloads, format, 0).length;
+		final byte[] toc = tableOfContents(names, sources, images, payloads, format, tocSize);
+		try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(pack)))) {
+			out.write(toc);
+			for (final byte[] payload : payloads) {
+				out.write(payload);
+			}
+		}
+	}
+
+	/**
+	 * Gets the pixels of an image as ARGB bytes, one row after another.
+	 *
+	 * @param image The image.
+	 * @return 4 bytes for each pixel.
+	 */
+	private static byte[] rawBytes(BufferedImage image) {
+		final int[] pixels = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+		final ByteBuffer bytes = ByteBuffer.allocate(pixels.length * 4);
+		bytes.asIntBuffer().put(pixels);
+		return bytes.array();
+	}
+
+	/**
+	 * Makes the header and table of contents of a pack.
+	 *
+	 * @param names    Path of each image.
+	 * @param sources  File of each image.
+	 * @param images   Each image.
+	 * @param payloads Bytes stored for each image.
+	 * @param format   How the images are stored.
+	 * @param tocSize  Size of the header and table of contents, where the first
+	 *                 image starts.
+	 * @return The header and table of contents.
+	 * @throws IOException If the table couldn't be written.
+	 */
+	private static byte[] tableOfContents(List<String> names, List<File> sources, List<BufferedImage> images,
+			List<byte[]> payloads, Format format, int tocSize) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(names.size());
+		long offset = tocSize;
+		for (int i = 0; i < names.size(); i++) {
+			final BufferedImage image = images.get(i);
+			out.writeUTF(names.get(i));
+			out.writeLong(sources.get(i).length());
+			out.writeLong(sources.get(i).lastModified());
+			out.writeByte(format.ordinal());
+			out.writeByte(image.getColorModel().hasAlpha() ? 1 : 0);
+			out.writeInt(image.getWidth());
+			out.writeInt(image.getHeight());
+			out.writeLong(offset);
+			out.writeInt(payloads.get(i).length);
+			offset += payloads.get(i).length;
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		try {
+			final File folder = Files.createTempDirectory("pack").toFile();
+			folder.deleteOnExit();
+			final File translucent = new File(folder, "ghost.png");
+			final File opaque = new File(folder, "wall.png");
+			translucent.deleteOnExit();
+			opaque.deleteOnExit();
+
+			final BufferedImage ghost = new BufferedImage(6, 4, BufferedImage.TYPE_INT_ARGB);
+			ghost.setRGB(5, 3, 0x80FF0000);
+			ImageIO.write(ghost, "png", translucent);
+			final BufferedImage wall = new BufferedImage(3, 3, BufferedImage.TYPE_INT_RGB);
+			wall.setRGB(1, 1, 0xFF00FF00);
+			ImageIO.write(wall, "png", opaque);
+
+			final List<String> paths = List.of(translucent.getPath(), opaque.getPath());
+			for (final Format format : Format.values()) {
+				final File packFile = new File(folder, format + ".pack");
+				packFile.deleteOnExit();
+				write(packFile, paths, format);
+
+				final AssetPack pack = open(packFile);
+				if (pack.size() != 2 || !pack.contains(translucent.getPath())) {
+					System.err.println(format + ": Table of contents is wrong!");
+					allPassed = false;
+				}
+				final BufferedImage readGhost = pack.read(translucent.getPath());
+				final BufferedImage readWall = pack.read(opaque.getPath());
+				if (readGhost.getWidth() != 6 || readGhost.getRGB(5, 3) != 0x80FF0000
+						|| readGhost.getRGB(0, 0) != 0) {
+					System.err.println(format + ": Translucent image came back wrong!");
+					allPassed = false;
+				}
+				if (readWall.getRGB(1, 1) != 0xFF00FF00 || readWall.getColorModel().hasAlpha()) {
+					System.err.println(format + ": Opaque image came back wrong!");
+					allPassed = false;
+				}
+				if (pack.read("images/notInPack.png") != null) {
+					System.err.println(format + ": An image not in the pack should give null!");
+					allPassed = false;
+				}
+			}
+
+			// A file changed after it was packed is read from the file instead
+			final File packFile = new File(folder, "stale.pack");
+			packFile.deleteOnExit();
+			write(packFile, paths, Format.RAW);
+			final AssetPack pack = open(packFile);
+			wall.setRGB(0, 0, 0xFF0000FF);
+			ImageIO.write(wall, "png", opaque);
+			opaque.setLastModified(opaque.lastModified() + 2000);
+			if (pack.read(opaque.getPath()) != null || pack.read(translucent.getPath()) == null) {
+				System.err.println("A changed file's packed copy was still used!");
+				allPassed = false;
+			}
+		} catch (final IOException e) {
+			System.err.println("Pack couldn't be written or read: " + e.getMessage());
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/**
+	 * Opens a pack and reads its table of contents.
+	 *
+	 * @param file The pack file.
+	 * @return The opened pack.
+	 * @throws IOException If the file couldn't be read or isn't a pack.
+	 */
+	public static AssetPack open(File file) throws IOException {
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			// The mapping stays valid after the channel is closed
+			return new AssetPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/** The mapped pack file. Only read with absolute positions or slices. */
+	private final MappedByteBuffer data;
+
+	/** Where each image is, by path. */
+	private final Map<String, Entry> entries;
+
+	/**
+	 * Constructs a new AssetPack, reading the table of contents.
+	 *
+	 * @param data The mapped pack file.
+	 * @throws IOException If the file isn't a pack.
+	 */
+	private AssetPack(MappedByteBuffer data) throws IOException {
+		this.data = data;
+		final ByteBuffer toc = data.duplicate();
+		if (toc.remaining() < 12 || toc.getInt() != MAGIC) {
+			throw new IOException("Not an asset pack");
+		}
+		final int version = toc.getInt();
+		if (version != VERSION) {
+			throw new IOException("Asset pack version " + version + " isn't supported");
+		}
+		final int count = toc.getInt();
+		final Map<String, Entry> read = new HashMap<>();
+		for (int i = 0; i < count; i++) {
+			final byte[] name = new byte[toc.getShort() & 0xFFFF];
+			toc.get(name);
+			// Paths are plain text, so modified UTF-8 and UTF-8 are the same
+			final String path = new String(name, StandardCharsets.UTF_8);
+			final long sourceSize = toc.getLong();
+			final long sourceModified = toc.getLong();
+			final Format format = Format.values()[toc.get()];
+			final boolean translucent = toc.get() != 0;
+			final int width = toc.getInt();
+			final int height = toc.getInt();
+			final long offset = toc.getLong();
+			final int length = toc.getInt();
+			if (offset < 0 || offset + length > data.capacity()) {
+				throw new IOException("Asset pack entry '" + path + "' is past the end of the file");
+			}
+			read.put(path, new Entry(sourceSize, sourceModified, format, translucent, width, height, offset, length));
+		}
+		entries = Collections.unmodifiableMap(read);
+	}
+
+	/**
+	 * Checks if the pack holds an image.
+	 *
+	 * @param path Path the image was packed from.
+	 * @return true if the image is in the pack.
+	 */
+	public boolean contains(String path) {
+		return entries.containsKey(normalize(path));
+	}
+
+	/**
+	 * Gets the number of images in the pack.
+	 *
+	 * @return Number of images.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Checks if an image's file has changed since it was packed. A file that no
+	 * longer exists hasn't changed, the pack is all there is of it.
+	 *
+	 * @param path  Path the image was packed from.
+	 * @param entry Where the image is in the pack.
+	 * @return true if the file's size or last modified time is different.
+	 */
+	private static boolean isStale(String path, Entry entry) {
+		final File source = new File(path);
+		return source.isFile() && (source.length() != entry.sourceSize || source.lastModified() != entry.sourceModified);
+	}
+
+	/**
+	 * Reads an image from the pack. Raw images are copied straight from the mapped
+	 * file into the image's pixels. Safe to call from many threads at once.
+	 *
+	 * @param path Path the image was packed from.
+	 * @return The image, or null if it isn't in the pack or its file has changed
+	 *         since it was packed.
+	 * @throws IOException If the image couldn't be decoded.
+	 */
+	public BufferedImage read(String path) throws IOException {
+		final Entry entry = entries.get(normalize(path));
+		if (entry == null) {
+			return null;
+		}
+		if (isStale(path, entry)) {
+			System.err.println("'" + path + "' has changed since it was packed, reading the file instead."
+					+ " Run AssetPackBuilder again to update the pack.");
+			return null;
+		}
+		final ByteBuffer bytes = data.slice((int) entry.offset, entry.length);
+		if (entry.format == Format.PNG) {
+			final BufferedImage image = ImageIO.read(new BufferInputStream(bytes));
+			if (image == null) {
+				throw new IOException("Packed image '" + path + "' couldn't be decoded");
+			}
+			return image;
+		}
+
+		final BufferedImage image = new BufferedImage(entry.width, entry.height,
+				entry.translucent ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+		final int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		bytes.asIntBuffer().get(pixels);
+		return image;
+	}
+}
@@ -0,0 +1,54 @@
+package gameTools;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import gameTools.AssetPack.Format;
+
+/**
+ * <p>
+ * AssetPackBuilder packs every image found by {@link AssetLoader#knownAssets()}
+ * into the pack file {@link AssetLoader} reads from. Run it from the project
+ * folder, and again any time an image changes. Images changed since the pack
+ * was built are read from their files, which is slower.
+ * </p>
+ *
+ * <p>
+ * The first argument is the format, <code>raw</code> (the default, no decoding
+ * when loading) or <code>png</code> (smaller file). The second is the pack file,
+ * {@value AssetLoader#ASSET_PACK} by default.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see AssetPack
+ */
+public final class AssetPackBuilder {
+
+	/**
+	 * Builds the pack.
+	 *
+	 * @param args Format and pack file, both optional.
+	 */
+	public static void main(String[] args) {
+		final Format format = args.length > 0 && args[0].equalsIgnoreCase("png") ? Format.PNG : Format.RAW;
+		final File pack = new File(args.length > 1 ? args[1] : AssetLoader.ASSET_PACK);
+		final List<String> paths = AssetLoader.knownAssets();
+
+		final long start = System.nanoTime();
+		try {
+			AssetPack.write(pack, paths, format);
+			System.out.printf("Packed %d images into '%s' (%s, %d bytes) in %.0f ms%n", paths.size(), pack.getPath(),
+					format, pack.length(), (System.nanoTime() - start) / 1e6);
+		} catch (final IOException e) {
+			System.err.println("Failed to build asset pack: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Not used, AssetPackBuilder only has a main method.
+	 */
+	private AssetPackBuilder() {
+	}
+}
@@ -0,0 +1,536 @@
+package gameTools;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * FrameProfiler times each phase of a game tick (collision checks, moving the
+ * map, moving enemies, attacks) and of a rendered frame (background, chunks,
+ * enemies, vision, HUD). The last {@link #CAPACITY} times of each phase are
+ * kept in ring buffers made when the profiler is created, so recording a time
+ * never allocates. The average, 95th percentile and longest time of each phase
+ * can be shown in an overlay (F3) or written to a CSV file (F4). Counts made
+ * each frame, like the number of tiles drawn, are kept and shown the same way.
+ * </p>
+ *
+ * <p>
+ * Profiling is turned on with the <code>mazerunner.profile</code> system
+ * property, for example <code>-Dmazerunner.profile=true</code>. When it's off,
+ * {@link #ENABLED} is a constant false, so the JIT removes the timing calls
+ * completely and nothing is measured. Testing is found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ */
+public final class FrameProfiler {
+
+	/**
+	 * Phases that are timed.
+	 */
+	public enum Phase {
+		/** Checking if the player can move in each direction. */
+		COLLISION("collision"),
+		/** Moving the map. */
+		UPDATE_COORDS("updateCoords"),
+		/** Moving the enemies. */
+		UPDATE_ENEMIES("updateEnemies"),
+		/** Checking and dealing with the player's attacks. */
+		ATTACKS("attacks"),
+		/** Drawing the background. */
+		BACKGROUND("background"),
+		/** Drawing the chunks. */
+		CHUNKS("chunks"),
+		/** Drawing the enemies. */
+		ENEMIES("enemies"),
+		/** Drawing the vision circle. */
+		VISION("vision"),
+		/** Drawing the HUD. */
+		HUD("hud");
+
+		/** Name shown in the overlay and the CSV file. */
+		private final String label;
+
+		/**
+		 * Constructs a new Phase.
+		 *
+		 * @param label Name shown in the overlay and the CSV file.
+		 */
+		Phase(String label) {
+			this.label = label;
+		}
+
+		/**
+		 * Gets the name shown in the overlay and the CSV file.
+		 *
+		 * @return The name.
+		 */
+		public String getLabel() {
+			return label;
+		}
+	}
+
+	/**
+	 * Counts made each frame.
+	 */
+	public enum Counter {
+		/** Tiles drawn by the chunks. */
+		TILES_DRAWN("tilesDrawn"),
+		/** Tiles of the chunks skipped because they were off the screen. */
+		TILES_CULLED("tilesCulled");
+
+		/** Name shown in the overlay and the CSV file. */
+		private final String label;
+
+		/**
+		 * Constructs a new Counter.
+		 *
+		 * @param label Name shown in the overlay and the CSV file.
+		 */
+		Counter(String label) {
+			this.label = label;
+		}
+
+		/**
+		 * Gets the name shown in the overlay and the CSV file.
+		 *
+		 * @return The name.
+		 */
+		public String getLabel() {
+			return label;
+		}
+	}
+
+	/** System property used to turn profiling on. */
+	public static final String PROFILE_PROPERTY = "mazerunner.profile";
+
+	/** If profiling is on. Read once, so the JIT can remove the timing calls. */
+	public static final boolean ENABLED = Boolean.getBoolean(PROFILE_PROPERTY);
+
+	/** Number of times kept for each phase. */
+	public static final int CAPACITY = 240;
+
+	/** File the CSV is written to. */
+	private static final String CSV_FILE = "profile.csv";
+
+	/** Color behind the overlay text. */
+	private static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 170);
+
+	/** Font the overlay is drawn with. */
+	private static final Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+
+	/**
+	 * The current instance of FrameProfiler.
+	 */
+	private static FrameProfiler single_instance = null;
+
+	/**
+	 * Makes a new instance of FrameProfiler. FrameProfiler is a singleton because
+	 * the game loop and the renderer both record into it.
+	 *
+	 * @return The current instance of FrameProfiler.
+	 */
+	public static synchronized FrameProfiler getInstance() {
+		if (single_instance == null) {
+			single_instance = new FrameProfiler(CAPACITY);
+		}
+
+		return single_instance;
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		final FrameProfiler profiler = new FrameProfiler(10);
+
+		// Times 1 to 20 ms, only the last 10 (11 to 20) are kept
+		for (int i = 1; i <= 20; i++) {
+			profiler.add(row(Phase.CHUNKS), i * 1_000_000L);
+		}
+		if (profiler.getCount(Phase.CHUNKS) != 10) {
+			System.err.println("Ring buffer should hold 10 times, it holds " + profiler.getCount(Phase.CHUNKS));
+			allPassed = false;
+		}
+		if (profiler.getMeanNanos(Phase.CHUNKS) != 15_500_000L) {
+			System.err.println("Average should be 15.5 ms, got " + profiler.getMeanNanos(Phase.CHUNKS));
+			allPassed = false;
+		}
+		if (profiler.getMaxNanos(Phase.CHUNKS) != 20_000_000L) {
+			System.err.println("Longest time should be 20 ms!");
+			allPassed = false;
+		}
+		if (profiler.getPercentileNanos(Phase.CHUNKS, 0.95) != 20_000_000L
+				|| profiler.getPercentileNanos(Phase.CHUNKS, 0.5) != 15_000_000L) {
+			System.err.println("Percentiles are wrong!");
+			allPassed = false;
+		}
+
+		// Phases are kept separate, and empty phases read as 0
+		if (profiler.getCount(Phase.HUD) != 0 || profiler.getMeanNanos(Phase.HUD) != 0) {
+			System.err.println("A phase with no times should read as 0!");
+			allPassed = false;
+		}
+
+		// Samples come out oldest first
+		final long[] samples = new long[10];
+		profiler.copySamples(row(Phase.CHUNKS), samples);
+		if (samples[0] != 11_000_000L || samples[9] != 20_000_000L) {
+			System.err.println("Samples came out in the wrong order!");
+			allPassed = false;
+		}
+
+		// Counters are kept apart from the phases
+		profiler.add(row(Counter.TILES_DRAWN), 300);
+		profiler.add(row(Counter.TILES_DRAWN), 500);
+		if (profiler.getCount(Counter.TILES_DRAWN) != 2 || profiler.getMean(Counter.TILES_DRAWN) != 400
+				|| profiler.getMax(Counter.TILES_DRAWN) != 500 || profiler.getCount(Counter.TILES_CULLED) != 0
+				|| profiler.getCount(Phase.CHUNKS) != 10) {
+			System.err.println("Counters weren't kept right!");
+			allPassed = false;
+		}
+
+		// The public calls do nothing unless profiling is on
+		final FrameProfiler off = new FrameProfiler(10);
+		off.record(Phase.HUD, off.start());
+		if (off.getCount(Phase.HUD) != (ENABLED ? 1 : 0)) {
+			System.err.println("Recording didn't follow the " + PROFILE_PROPERTY + " property!");
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/**
+	 * Times of each phase in nanoseconds, then values of each counter, indexed by
+	 * [row][slot]. See {@link #row(Phase)} and {@link #row(Counter)}.
+	 */
+	private final long[][] samples;
+
+	/** Slot the next value of each row goes in. */
+	private final int[] next;
+
+	/** Number of values held for each row. */
+	private final int[] counts;
+
+	/** Used to sort the times when finding a percentile. */
+	private final long[] sorted;
+
+	/** If the overlay is shown. */
+	private volatile boolean overlayVisible = false;
+
+	/**
+	 * Constructs a new FrameProfiler.
+	 *
+	 * @param capacity Number of times kept for each phase.
+	 */
+	private FrameProfiler(int capacity) {
+		final int rows = Phase.values().length + Counter.values().length;
+		samples = new long[rows][capacity];
+		next = new int[rows];
+		counts = new int[rows];
+		sorted = new long[capacity];
+	}
+
+	/**
+	 * Starts timing a phase.
+	 *
+	 * @return The start time, pass it to {@link #record(Phase, long)}.
+	 */
+	public long start() {
+		return ENABLED ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the time taken by a phase since it was started. Each phase should
+	 * only be recorded from one thread.
+	 *
+	 * @param phase The phase.
+	 * @param start Time given by {@link #start()}.
+	 */
+	public void record(Phase phase, long start) {
+		if (ENABLED) {
+			add(row(phase), System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Records a count made this frame. Each counter should only be recorded from
+	 * one thread.
+	 *
+	 * @param counter The counter.
+	 * @param value   The count.
+	 */
+	public void count(Counter counter, long value) {
+		if (ENABLED) {
+			add(row(counter), value);
+		}
+	}
+
+	/**
+	 * Shows the overlay if it's hidden, hides it if it's shown. Does nothing
+	 * unless profiling is on.
+	 */
+	public void toggleOverlay() {
+		if (ENABLED) {
+			overlayVisible = !overlayVisible;
+		}
+	}
+
+	/**
+	 * Checks if the overlay is shown.
+	 *
+	 * @return true if the overlay is shown.
+	 */
+	public boolean isOverlayVisible() {
+		return ENABLED && overlayVisible;
+	}
+
+	/**
+	 * Draws the overlay in the top left corner, showing the average, 95th
+	 * percentile and longest time of each phase in milliseconds, and the average
+	 * and largest value of each counter. Only draws when the overlay is shown.
+	 *
+	 * @param g Graphics to draw on.
+	 */
+	public void drawOverlay(Graphics2D g) {
+		if (!isOverlayVisible()) {
+			return;
+		}
+		final Phase[] phases = Phase.values();
+		final Counter[] counters = Counter.values();
+		final int lineHeight = 15;
+		g.setColor(OVERLAY_BACKGROUND);
+		g.fillRect(5, 5, 300, lineHeight * (phases.length + counters.length + 1) + 10);
+		g.setFont(OVERLAY_FONT);
+		g.setColor(Color.WHITE);
+		int y = 5 + lineHeight;
+		g.drawString(String.format("%-14s %6s %6s %6s", "phase (ms)", "avg", "p95", "max"), 10, y);
+		for (final Phase phase : phases) {
+			y += lineHeight;
+			g.drawString(String.format("%-14s %6.2f %6.2f %6.2f", phase.getLabel(), getMeanNanos(phase) / 1e6,
+					getPercentileNanos(phase, 0.95) / 1e6, getMaxNanos(phase) / 1e6), 10, y);
+		}
+		for (final Counter counter : counters) {
+			y += lineHeight;
+			g.drawString(String.format("%-14s %6d %6s %6d", counter.getLabel(), getMean(counter), "", getMax(counter)),
+					10, y);
+		}
+	}
+
+	/**
+	 * Writes the kept times of every phase and values of every counter to
+	 * {@value #CSV_FILE}, one row per value, oldest first. Does nothing unless
+	 * profiling is on.
+	 */
+	public void dumpCsv() {
+		if (!ENABLED) {
+			return;
+		}
+		try (final PrintWriter out = new PrintWriter(new FileWriter(CSV_FILE))) {
+			writeCsv(out);
+			System.out.println("Profile written to '" + CSV_FILE + "'");
+		} catch (final IOException e) {
+			System.err.println("Failed to write " + CSV_FILE + "!");
+		}
+	}
+
+	/**
+	 * Writes the kept times of every phase and values of every counter as CSV, one
+	 * row per value, oldest first. Times are in nanoseconds.
+	 *
+	 * @param out Where to write the CSV.
+	 */
+	public void writeCsv(PrintWriter out) {
+		final long[] copy = new long[samples[0].length];
+		out.println("phase,sample,value");
+		for (final Phase phase : Phase.values()) {
+			final int count = copySamples(row(phase), copy);
+			for (int i = 0; i < count; i++) {
+				out.println(phase.getLabel() + "," + i + "," + copy[i]);
+			}
+		}
+		for (final Counter counter : Counter.values()) {
+			final int count = copySamples(row(counter), copy);
+			for (int i = 0; i < count; i++) {
+				out.println(counter.getLabel() + "," + i + "," + copy[i]);
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of times held for a phase.
+	 *
+	 * @param phase The phase.
+	 * @return Number of times, at most {@link #CAPACITY}.
+	 */
+	public int getCount(Phase phase) {
+		return counts[row(phase)];
+	}
+
+	/**
+	 * Gets the number of values held for a counter.
+	 *
+	 * @param counter The counter.
+	 * @return Number of values, at most {@link #CAPACITY}.
+	 */
+	public int getCount(Counter counter) {
+		return counts[row(counter)];
+	}
+
+	/**
+	 * Gets the average time of a phase.
+	 *
+	 * @param phase The phase.
+	 * @return Average time in nanoseconds, 0 if there are no times.
+	 */
+	public long getMeanNanos(Phase phase) {
+		return mean(row(phase));
+	}
+
+	/**
+	 * Gets the average value of a counter.
+	 *
+	 * @param counter The counter.
+	 * @return Average value, 0 if there are no values.
+	 */
+	public long getMean(Counter counter) {
+		return mean(row(counter));
+	}
+
+	/**
+	 * Gets the longest time of a phase.
+	 *
+	 * @param phase The phase.
+	 * @return Longest time in nanoseconds, 0 if there are no times.
+	 */
+	public long getMaxNanos(Phase phase) {
+		return max(row(phase));
+	}
+
+	/**
+	 * Gets the largest value of a counter.
+	 *
+	 * @param counter The counter.
+	 * @return Largest value, 0 if there are no values.
+	 */
+	public long getMax(Counter counter) {
+		return max(row(counter));
+	}
+
+	/**
+	 * Gets a percentile of the times of a phase, using the nearest rank.
+	 *
+	 * @param phase      The phase.
+	 * @param percentile Percentile to find, from 0 to 1.
+	 * @return The time in nanoseconds, 0 if there are no times.
+	 */
+	public synchronized long getPercentileNanos(Phase phase, double percentile) {
+		final int count = getCount(phase);
+		if (count == 0) {
+			return 0;
+		}
+		System.arraycopy(samples[row(phase)], 0, sorted, 0, count);
+		Arrays.sort(sorted, 0, count);
+		final int rank = (int) Math.ceil(percentile * count);
+		return sorted[Math.max(0, Math.min(count, rank) - 1)];
+	}
+
+	/**
+	 * Gets the row of the samples a phase is kept in.
+	 *
+	 * @param phase The phase.
+	 * @return The row.
+	 */
+	private static int row(Phase phase) {
+		return phase.ordinal();
+	}
+
+	/**
+	 * Gets the row of the samples a counter is kept in, after every phase.
+	 *
+	 * @param counter The counter.
+	 * @return The row.
+	 */
+	private static int row(Counter counter) {
+		return Phase.values().length + counter.ordinal();
+	}
+
+	/**
+	 * Gets the average value of a row.
+	 *
+	 * @param p The row.
+	 * @return Average value, 0 if there are no values.
+	 */
+	private long mean(int p) {
+		final int count = counts[p];
+		if (count == 0) {
+			return 0;
+		}
+		long sum = 0;
+		for (int i = 0; i < count; i++) {
+			sum += samples[p][i];
+		}
+		return sum / count;
+	}
+
+	/**
+	 * Gets the largest value of a row.
+	 *
+	 * @param p The row.
+	 * @return Largest value, 0 if there are no values.
+	 */
+	private long max(int p) {
+		long max = 0;
+		for (int i = 0; i < counts[p]; i++) {
+			max = Math.max(max, samples[p][i]);
+		}
+		return max;
+	}
+
+	/**
+	 * Adds a value to the ring buffer of a row, replacing the oldest value once
+	 * it's full.
+	 *
+	 * @param p     The row, see {@link #row(Phase)} and {@link #row(Counter)}.
+	 * @param value Time taken in nanoseconds, or a counter's value.
+	 */
+	private void add(int p, long value) {
+		final long[] ring = samples[p];
+		ring[next[p]] = value;
+		next[p] = (next[p] + 1) % ring.length;
+		if (counts[p] < ring.length) {
+			counts[p]++;
+		}
+	}
+
+	/**
+	 * Copies the values of a row, oldest first.
+	 *
+	 * @param p   The row.
+	 * @param out Array to copy into, at least as long as the ring buffer.
+	 * @return Number of values copied.
+	 */
+	private int copySamples(int p, long[] out) {
+		final int count = counts[p];
+		final int length = samples[p].length;
+		final int oldest = count < length ? 0 : next[p];
+		for (int i = 0; i < count; i++) {
+			out[i] = samples[p][(oldest + i) % length];
+		}
+		return count;
+	}
+}
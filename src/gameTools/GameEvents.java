@@ -0,0 +1,352 @@
+package gameTools;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * GameEvents is the event bus between the game simulation and everything that
+ * reacts to it (scoring, audio, the UI and telemetry). Simulation code posts
+ * small events while a tick runs, they are stored as ints in a buffer. At the
+ * end of the tick the buffer is handed to a dispatcher thread, which sends the
+ * events to every listener. The game thread never waits on a listener.
+ * </p>
+ *
+ * <p>
+ * Each event is packed into a single int: the type in the top 8 bits and a
+ * value (damage, seconds added, ...) in the bottom 24 bits. Testing is found in
+ * the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ */
+public class GameEvents {
+
+	/**
+	 * Listens for game events. Listeners are called on the dispatcher thread, in
+	 * the order the events were posted.
+	 */
+	public interface Listener {
+		/**
+		 * Called for each event.
+		 *
+		 * @param type  Type of the event.
+		 * @param value Value sent with the event.
+		 */
+		void onEvent(Type type, int value);
+	}
+
+	/**
+	 * Types of events the simulation can post.
+	 */
+	public enum Type {
+		/** An enemy was killed. */
+		ENEMY_KILLED,
+		/** Time was added to the clock, value is the seconds added. */
+		TIME_ADDED,
+		/** The player was hit by an enemy, value is the damage. */
+		PLAYER_HIT,
+		/** The player hit an enemy. */
+		ENEMY_HIT
+	}
+
+	/** Number of bits used for the value of an event. */
+	private static final int VALUE_BITS = 24;
+
+	/** Mask used to get the value out of an event. */
+	private static final int VALUE_MASK = (1 << VALUE_BITS) - 1;
+
+	/** Most events that can be posted in a single tick. */
+	private static final int MAX_EVENTS_PER_TICK = 4096;
+
+	/** Number of tick buffers that can wait for the dispatcher. */
+	private static final int QUEUED_TICKS = 8;
+
+	/** All event types, so values() isn't copied for every event. */
+	private static final Type[] TYPES = Type.values();
+
+	/**
+	 * The current instance of GameEvents.
+	 */
+	private static GameEvents single_instance = null;
+
+	/**
+	 * Makes a new instance of GameEvents. GameEvents is a singleton because there
+	 * is only one game simulation running.
+	 *
+	 * @return The current instance of GameEvents.
+	 */
+	public static synchronized GameEvents getInstance() {
+		if (single_instance == null) {
+			single_instance = new GameEvents();
+		}
+
+		return single_instance;
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		final GameEvents events = new GameEvents();
+		final int[] received = new int[Type.values().length];
+		final int[] damage = { 0 };
+		final Thread[] listenerThread = new Thread[1];
+		events.subscribe((type, value) -> {
+			received[type.ordinal()]++;
+			if (type == Type.PLAYER_HIT) {
+				damage[0] += value;
+			}
+			listenerThread[0] = Thread.currentThread();
+		});
+
+		// Events shouldn't be sent until the end of the tick
+		events.post(Type.ENEMY_KILLED);
+		events.post(Type.TIME_ADDED, 15);
+		events.post(Type.PLAYER_HIT, 50);
+		events.post(Type.PLAYER_HIT, 70);
+		if (received[Type.ENEMY_KILLED.ordinal()] != 0) {
+			System.err.println("Event was sent before the end of the tick!");
+			allPassed = false;
+		}
+
+		events.endTick();
+		events.flush();
+
+		if (received[Type.ENEMY_KILLED.ordinal()] != 1 || received[Type.TIME_ADDED.ordinal()] != 1
+				|| received[Type.PLAYER_HIT.ordinal()] != 2) {
+			System.err.println("Listener didn't get every event!");
+			allPassed = false;
+		}
+		if (damage[0] != 120) {
+			System.err.format("Event values weren't kept, expected 120 damage but got %d\n", damage[0]);
+			allPassed = false;
+		}
+		if (listenerThread[0] == Thread.currentThread()) {
+			System.err.println("Listener was called on the simulation thread!");
+			allPassed = false;
+		}
+
+		// Counters used for telemetry
+		if (events.getCount(Type.PLAYER_HIT) != 2 || events.getCount(Type.ENEMY_HIT) != 0) {
+			System.err.println("Event counts are wrong!");
+			allPassed = false;
+		}
+
+		// Lots of ticks in a row shouldn't lose any events
+		for (int tick = 0; tick < 1000; tick++) {
+			events.post(Type.ENEMY_HIT);
+			events.endTick();
+		}
+		events.flush();
+		if (events.getCount(Type.ENEMY_HIT) != 1000) {
+			System.err.format("Expected 1000 enemy hits, but got %d\n", events.getCount(Type.ENEMY_HIT));
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Events posted so far this tick. */
+	private int[] current = new int[64];
+
+	/** Number of events posted so far this tick. */
+	private int currentCount = 0;
+
+	/** Tick buffers waiting to be sent to listeners. */
+	private final BlockingQueue<int[]> pending = new ArrayBlockingQueue<>(QUEUED_TICKS);
+
+	/** Tick buffers that have been sent and can be used again. */
+	private final BlockingQueue<int[]> free = new ArrayBlockingQueue<>(QUEUED_TICKS + 1);
+
+	/** Listeners that are sent every event. */
+	private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+	/** Number of times each type of event has been sent. */
+	private final AtomicLongArray counts = new AtomicLongArray(TYPES.length);
+
+	/** Number of events dropped because a tick posted too many. */
+	private long dropped = 0;
+
+	/** Number of tick buffers handed to the dispatcher. */
+	private long published = 0;
+
+	/** Number of tick buffers the dispatcher finished sending. */
+	private long delivered = 0;
+
+	/** Thread that sends events to listeners, started with the first tick. */
+	private Thread dispatcher;
+
+	/**
+	 * Constructs a new GameEvents.
+	 */
+	private GameEvents() {
+
+	}
+
+	/**
+	 * Sends the events posted this tick to the dispatcher thread. Only the game
+	 * thread should call this, once at the end of each tick.
+	 */
+	public void endTick() {
+		if (currentCount == 0) {
+			return;
+		}
+		startDispatcher();
+
+		int[] batch = free.poll();
+		if (batch == null || batch.length < currentCount + 1) {
+			batch = new int[Math.max(current.length, currentCount + 1)];
+		}
+		batch[0] = currentCount;
+		System.arraycopy(current, 0, batch, 1, currentCount);
+		currentCount = 0;
+
+		synchronized (this) {
+			published++;
+		}
+		try {
+			// Only blocks if the dispatcher is a full QUEUED_TICKS behind
+			pending.put(batch);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Waits until every tick sent with endTick has been sent to the listeners.
+	 */
+	public synchronized void flush() {
+		while (delivered < published) {
+			try {
+				wait();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of times an event type has been sent to listeners.
+	 *
+	 * @param type The type of event.
+	 * @return Number of events of that type sent.
+	 */
+	public long getCount(Type type) {
+		return counts.get(type.ordinal());
+	}
+
+	/**
+	 * Gets the number of events dropped because a tick posted too many.
+	 *
+	 * @return Number of dropped events.
+	 */
+	public long getDropped() {
+		return dropped;
+	}
+
+	/**
+	 * Posts an event with no value.
+	 *
+	 * @param type Type of the event.
+	 */
+	public void post(Type type) {
+		post(type, 0);
+	}
+
+	/**
+	 * Posts an event, it's sent to listeners after the tick ends. Only the game
+	 * thread should post events.
+	 *
+	 * @param type  Type of the event.
+	 * @param value Value sent with the event, from 0 to 16777215.
+	 */
+	public void post(Type type, int value) {
+		if (currentCount == current.length) {
+			if (current.length == MAX_EVENTS_PER_TICK) {
+				dropped++;
+				return;
+			}
+			current = Arrays.copyOf(current, current.length * 2);
+		}
+		current[currentCount++] = type.ordinal() << VALUE_BITS | value & VALUE_MASK;
+	}
+
+	/**
+	 * Adds a listener that is sent every event.
+	 *
+	 * @param listener The listener to add.
+	 */
+	public void subscribe(Listener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener.
+	 *
+	 * @param listener The listener to remove.
+	 */
+	public void unsubscribe(Listener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Sends every event in a tick buffer to the listeners.
+	 *
+	 * @param batch The tick buffer, the first value is the number of events.
+	 */
+	private void dispatch(int[] batch) {
+		for (int i = 1; i <= batch[0]; i++) {
+			final Type type = TYPES[batch[i] >>> VALUE_BITS];
+			final int value = batch[i] & VALUE_MASK;
+			counts.incrementAndGet(type.ordinal());
+			for (final Listener l : listeners) {
+				try {
+					l.onEvent(type, value);
+				} catch (final RuntimeException e) {
+					System.err.println("Event listener failed on " + type + ": " + e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Starts the dispatcher thread if it isn't running yet.
+	 */
+	private void startDispatcher() {
+		if (dispatcher != null) {
+			return;
+		}
+		dispatcher = new Thread(() -> {
+			while (true) {
+				final int[] batch;
+				try {
+					batch = pending.take();
+				} catch (final InterruptedException e) {
+					return;
+				}
+				dispatch(batch);
+				free.offer(batch);
+				synchronized (this) {
+					delivered++;
+					notifyAll();
+				}
+			}
+		}, "Game events");
+		dispatcher.setDaemon(true);
+		dispatcher.start();
+	}
+}
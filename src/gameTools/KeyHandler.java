@@ -115,6 +115,14 @@ public class KeyHandler implements KeyListener {
 		if (code == KeyEvent.VK_SPACE) {
 			spacePressed = true;
 		}
+
+		// Profiler overlay and CSV dump, these do nothing unless profiling is on
+		if (code == KeyEvent.VK_F3) {
+			FrameProfiler.getInstance().toggleOverlay();
+		}
+		if (code == KeyEvent.VK_F4) {
+			FrameProfiler.getInstance().dumpCsv();
+		}
 	}
 
 	/**
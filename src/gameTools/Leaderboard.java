@@ -5,11 +5,17 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 /**
  * <p>
@@ -17,11 +23,23 @@ import java.util.Scanner;
  * the game.
  * </p>
  *
+ * <p>
+ * The leaderboard file is where scores start from. New scores are saved in a
+ * {@link LeaderboardLog} next to it, which is read on top of the file every time
+ * the leaderboard is loaded.
+ * </p>
+ *
+ * <p>
+ * Every player's best score is kept in a {@link RankedScores}, so the ranks of
+ * thousands of scores can be found quickly. The five rows that are shown and
+ * saved to the file are the top five of it.
+ * </p>
+ *
  * @author Nick Clouse
  *
  * @since April 11, 2024
  */
-public class Leaderboard {
+public class Leaderboard implements LeaderboardLog.Scores {
 	/**
 	 * Used to store entries in the leaderboard. Each entry has a 'name' and
 	 * 'score.'
@@ -47,6 +65,31 @@ public class Leaderboard {
 			this.score = score;
 		}
 
+		/**
+		 * Checks if another entry has the same name and score.
+		 *
+		 * @param other The other object.
+		 * @return true if other is an Entry with the same name and score.
+		 */
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Entry)) {
+				return false;
+			}
+			final Entry entry = (Entry) other;
+			return name.equals(entry.name) && score == entry.score;
+		}
+
+		/**
+		 * Gets a hash code from the name and score.
+		 *
+		 * @return The hash code.
+		 */
+		@Override
+		public int hashCode() {
+			return name.hashCode() * 31 + score;
+		}
+
 		/**
 		 * Converts Entry object to string.
 		 *
@@ -58,6 +101,11 @@ public class Leaderboard {
 		}
 	}
 
+	/**
+	 * Number of entries shown and saved to the leaderboard file.
+	 */
+	public static final int ROWS = 5;
+
 	/**
 	 * Map that stores the leaderboard for each level. The key represents the level
 	 * leaderboard. So 1 corresponds to level 1 leaderboard, 2 to level 2
@@ -99,14 +147,14 @@ public class Leaderboard {
 		Entry[] newEntries = leaders.getleaderboard();
 		// Make sure no entries have been changed
 		for (int i = 0; i < entries.length; i++) {
-			if (entries[i].equals(newEntries[i])) {
+			if (!entries[i].equals(newEntries[i])) {
 				System.err.println("Leaderboard was updated when it shouldn't have been!");
 				allPassed = false;
 			}
 		}
 
-		// This entry should be added
-		leaders.addEntry("ConnorMarl", 73);
+		// This entry should be added, because its bigger than the last score
+		leaders.addEntry("ConnorMarl", entries[entries.length - 1].score + 1);
 		newEntries = leaders.getleaderboard();
 		// Make sure entries have been changed
 		boolean noneChanged = true;
@@ -123,7 +171,7 @@ public class Leaderboard {
 
 		// Making sure there's no duplicates in the leaderboard now
 		for (int i = 1; i < newEntries.length; i++) {
-			if (newEntries[i] == newEntries[i - 1]) {
+			if (newEntries[i].equals(newEntries[i - 1])) {
 				System.err.println("Leaderboard was updated incorrectly!");
 				allPassed = false;
 			}
@@ -186,7 +234,21 @@ public class Leaderboard {
 			System.out.println(entry);
 		}
 
-		// Set file back to what it was originally
+		// Submitted scores are saved in the log, and there when the leaderboard is
+		// loaded again
+		leaders.submit("LogTester", 1000);
+		final Leaderboard reloaded = new Leaderboard(fileName);
+		if (!reloaded.getleaderboard()[0].name.equals("LogTester")) {
+			System.err.println("Submitted score wasn't loaded from the log!");
+			allPassed = false;
+		}
+
+		// Set file back to what it was originally, and start the log again from it
+		try {
+			Files.deleteIfExists(logPath(fileName));
+		} catch (final IOException e) {
+			System.err.println("Error deleting log: " + e.getMessage());
+		}
 		try (BufferedWriter writer = new BufferedWriter(new FileWriter(fileName))) {
 
 			// Add title
@@ -214,15 +276,30 @@ public class Leaderboard {
 		}
 	}
 
+	/**
+	 * Gets the log file kept next to a leaderboard file.
+	 *
+	 * @param fileName The leaderboard file.
+	 * @return The log file.
+	 */
+	private static Path logPath(String fileName) {
+		return Paths.get(fileName.replaceFirst("\\.txt$", "") + ".log");
+	}
+
 	/**
 	 * Stores the file name for the leaderboard file.
 	 */
 	private final String fileName;
 
 	/**
-	 * Stores the entries in the leaderboard.
+	 * Log that new scores are saved in.
 	 */
-	private final Entry[] leaderboard = new Entry[5];
+	private final LeaderboardLog log;
+
+	/**
+	 * Stores every player's best score, highest first.
+	 */
+	private final RankedScores scores = new RankedScores();
 
 	/**
 	 * Stores the name of the leaderboard, which is the first line of the file.
@@ -237,58 +314,151 @@ public class Leaderboard {
 	public Leaderboard(String fileName) {
 		this.fileName = fileName;
 		loadleaderboard(fileName);
+		log = new LeaderboardLog(logPath(fileName), this);
 	}
 
 	/**
-	 * Adds a new entry to the leaderboard, if the score is low enough.
+	 * Adds a new entry to the leaderboard, if the score is higher than the player's
+	 * best, and saves it to the end of the log.
 	 *
 	 * @param name  The name to add.
 	 * @param score The score to add.
 	 * @return The position of the entry if the entry was added to the leaderboard,
 	 *         -1 otherwise.
 	 */
-	public int addEntry(String name, int score) {
-		int index = -1;
+	public int submit(String name, int score) {
+		try {
+			return log.append(name, score);
+		} catch (final IOException e) {
+			System.err.println("Error saving score to log: " + e.getMessage());
+			return addEntry(name, score);
+		}
+	}
 
-		// Sort leaderboard array by score of each entry object
-		Arrays.sort(leaderboard, Comparator.comparingInt(Entry -> -Entry.score));
+	/**
+	 * Queues a new entry to be added and saved by the {@link ScoreWriter}, without
+	 * waiting for it.
+	 *
+	 * @param name  The name to add.
+	 * @param score The score to add.
+	 * @return Completed with the position of the entry once it's saved, -1 if it
+	 *         wasn't added to the leaderboard.
+	 */
+	public CompletableFuture<Integer> submitAsync(String name, int score) {
+		return ScoreWriter.getInstance().submit(this, name, score);
+	}
 
-		// Check each entry in the array
-		for (int i = 0; i < leaderboard.length; i++) {
-			final Entry temp = leaderboard[i];
-			final int playerScore = temp.score;
-			/*
-			 * if new score is less than the score at i, thats where the new score will be
-			 * inserted, so no need to look any farther.
-			 */
-			if (score >= playerScore) {
-				index = i;
-				break;
-			}
-		}
-		// If a spot for the score isn't found, no need to go past this point
-		if (index == -1) {
-			return index;
-		}
+	/**
+	 * Adds several entries and saves them to the log with one write, forcing them
+	 * to disk before returning. Used by the {@link ScoreWriter}.
+	 *
+	 * @param names  The names to add.
+	 * @param scores The scores to add.
+	 * @return The position of each entry, -1 where it wasn't added.
+	 * @throws IOException If the log can't be written.
+	 */
+	int[] submitAll(String[] names, int[] scores) throws IOException {
+		final int[] positions = log.append(names, scores);
+		log.sync();
+		return positions;
+	}
 
-		// Shift each entry after the index to the right
-		for (int i = leaderboard.length - 1; i > index; i--) {
-			leaderboard[i] = leaderboard[i - 1];
-		}
+	/**
+	 * Removes every entry, used when a snapshot is read from the log.
+	 */
+	@Override
+	public synchronized void clear() {
+		scores.clear();
+	}
 
-		// Add new entry
-		final Entry newEntry = new Entry(name, score);
-		leaderboard[index] = newEntry;
+	/**
+	 * Adds an entry read from the log.
+	 *
+	 * @param name  The name to add.
+	 * @param score The score to add.
+	 * @return The position of the entry, -1 if it wasn't added.
+	 */
+	@Override
+	public int add(String name, int score) {
+		return addEntry(name, score);
+	}
 
-		return index;
+	/**
+	 * Goes through every player's best score, used to write a snapshot to the log.
+	 *
+	 * @param action Called with the name and score of each entry.
+	 */
+	@Override
+	public synchronized void forEach(BiConsumer<String, Integer> action) {
+		scores.forEach(action);
 	}
 
 	/**
-	 * Gets the leaderboard array.
+	 * Adds a new entry to the leaderboard, if the score is higher than the
+	 * player's best.
+	 *
+	 * @param name  The name to add.
+	 * @param score The score to add.
+	 * @return The position of the entry if the entry was added to the top
+	 *         {@value #ROWS}, -1 otherwise.
+	 */
+	public synchronized int addEntry(String name, int score) {
+		final int rank = scores.add(name, score);
+		return rank < ROWS ? rank : -1;
+	}
+
+	/**
+	 * Gets the rank a score would have, the number of players with a higher best.
+	 *
+	 * @param score The score.
+	 * @return The rank, 0 for the highest.
+	 */
+	public synchronized int rankOf(int score) {
+		return scores.rankOf(score);
+	}
+
+	/**
+	 * Gets the rank of a player's best score.
+	 *
+	 * @param name The player's name.
+	 * @return The rank, 0 for the highest, or -1 if the player has no score.
+	 */
+	public synchronized int getRank(String name) {
+		return scores.getRank(name);
+	}
+
+	/**
+	 * Gets a player's best score.
+	 *
+	 * @param name The player's name.
+	 * @return The best score, or null if the player has no score.
+	 */
+	public synchronized Integer getBest(String name) {
+		return scores.getBest(name);
+	}
+
+	/**
+	 * Gets the number of players on the leaderboard.
+	 *
+	 * @return Number of players.
+	 */
+	public synchronized int size() {
+		return scores.size();
+	}
+
+	/**
+	 * Gets the top {@value #ROWS} entries of the leaderboard. Rows without a
+	 * player are filled with a placeholder.
 	 *
 	 * @return The leaderboard.
 	 */
-	public Entry[] getleaderboard() {
+	public synchronized Entry[] getleaderboard() {
+		final Entry[] leaderboard = new Entry[ROWS];
+		final int[] row = { 0 };
+		scores.top(ROWS, (name, score) -> leaderboard[row[0]++] = new Entry(name, score));
+		for (int i = row[0]; i < ROWS; i++) {
+			leaderboard[i] = new Entry("Name", 0);
+		}
 		return leaderboard;
 	}
 
@@ -306,7 +476,8 @@ public class Leaderboard {
 	 *
 	 * @return The leaderboard, where each entry is a string.
 	 */
-	public String[] leaderboardToString() {
+	public synchronized String[] leaderboardToString() {
+		final Entry[] leaderboard = getleaderboard();
 		final String[] leaderboardStr = new String[leaderboard.length];
 
 		for (int i = 0; i < leaderboard.length; i++) {
@@ -324,54 +495,65 @@ public class Leaderboard {
 	 */
 	public void loadleaderboard(String fileName) {
 		try (final Scanner input = new Scanner(new File(fileName))) {
-			final Entry defaultEntry = new Entry("Name", Integer.MAX_VALUE);
-			while (input.hasNextLine()) {
+			if (input.hasNextLine()) {
 				leaderboardName = input.nextLine();
+			}
 
-				for (int i = 0; i < 5; i++) {
-
-					try {
-						final String[] tempEntry = input.nextLine().split(";");
-						final String name = tempEntry[0];
-
-						final int score = Integer.parseInt(tempEntry[1]);
-						final Entry newEntry = new Entry(name, score);
-						leaderboard[i] = newEntry;
-					} catch (final NumberFormatException e) {
-						System.err.println("Error loading leaderboard scores! Using default value.");
-						leaderboard[i] = defaultEntry;
-					}
+			while (input.hasNextLine()) {
+				final String line = input.nextLine();
+				if (line.isEmpty()) {
+					continue;
+				}
+				try {
+					final String[] tempEntry = line.split(";");
+					addEntry(tempEntry[0], Integer.parseInt(tempEntry[1]));
+				} catch (final NumberFormatException | ArrayIndexOutOfBoundsException e) {
+					System.err.println("Error loading leaderboard score! Skipping " + line + ".");
 				}
 			}
-
-			// Sort leaderboard array by score of each entry object
-			Arrays.sort(leaderboard, Comparator.comparingInt(Entry -> -Entry.score));
 		} catch (final FileNotFoundException e) {
 			System.err.println(fileName + " was not found!");
 		}
 	}
 
 	/**
-	 * Updates the leaderboard file with the leaderboard array.
+	 * Updates the leaderboard file with the top {@value #ROWS} entries, and
+	 * compacts the log to match it. The file is written to a temporary file first
+	 * and renamed over the old one, so a crash can't leave it half written.
 	 */
 	public void updateleaderboardFile() {
-		try (BufferedWriter writer = new BufferedWriter(new FileWriter(fileName))) {
-			// Sort leaderboard array by score of each entry object
-			Arrays.sort(leaderboard, Comparator.comparingInt(Entry -> -Entry.score));
-
-			// Add title
-			writer.write(leaderboardName);
-			writer.newLine();
+		try {
+			log.compact();
+		} catch (final IOException e) {
+			System.err.println("Error compacting log: " + e.getMessage());
+		}
 
-			// Write each leaderboard entry to file
-			for (int i = 0; i < leaderboard.length; i++) {
-				final String entry = leaderboard[i].name + ";" + leaderboard[i].score;
-				writer.write(entry);
-				if (i < leaderboard.length - 1) {
-					writer.newLine();
+		final Path target = Paths.get(fileName);
+		final Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+		// Entries are only changed while holding the leaderboard
+		synchronized (this) {
+			try (BufferedWriter writer = Files.newBufferedWriter(temp)) {
+				final Entry[] leaderboard = getleaderboard();
+
+				// Add title
+				writer.write(leaderboardName);
+				writer.newLine();
+
+				// Write each leaderboard entry to file
+				for (int i = 0; i < leaderboard.length; i++) {
+					final String entry = leaderboard[i].name + ";" + leaderboard[i].score;
+					writer.write(entry);
+					if (i < leaderboard.length - 1) {
+						writer.newLine();
+					}
 				}
+			} catch (final IOException e) {
+				System.err.println("Error writing to file: " + e.getMessage());
+				return;
 			}
-
+		}
+		try {
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
 		} catch (final IOException e) {
 			System.err.println("Error writing to file: " + e.getMessage());
 		}
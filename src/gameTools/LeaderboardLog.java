@@ -0,0 +1,714 @@
+package gameTools;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * <p>
+ * LeaderboardLog saves a leaderboard by adding each new score to the end of a
+ * file, instead of writing the whole leaderboard again. Every record has a
+ * checksum, so a record cut off by a crash is found and dropped when the log is
+ * read. Records are written right away but only forced to disk every
+ * {@link #SYNC_MILLIS}, and when the game closes.
+ * </p>
+ *
+ * <p>
+ * The file starts with a snapshot of the whole leaderboard. Once
+ * {@link #COMPACT_AFTER} scores have been added after it, a background thread
+ * writes a new file with just a snapshot and swaps it in with a rename, so the
+ * log is never half written. Other games using the same log take a lock file
+ * before touching it, and read each other's records before they write. Testing
+ * is found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see Leaderboard
+ */
+public final class LeaderboardLog {
+
+	/**
+	 * <p>
+	 * The scores a log is read into, and snapshots are taken from.
+	 * </p>
+	 */
+	public interface Scores {
+
+		/**
+		 * Removes every score, before a snapshot is read.
+		 */
+		void clear();
+
+		/**
+		 * Adds a score.
+		 *
+		 * @param name  Name of the player.
+		 * @param score The score.
+		 * @return The position of the score, -1 if it wasn't kept.
+		 */
+		int add(String name, int score);
+
+		/**
+		 * Goes through every score kept, to write a snapshot.
+		 *
+		 * @param action Called with the name and score of each.
+		 */
+		void forEach(BiConsumer<String, Integer> action);
+	}
+
+	/** Number of scores added after a snapshot before the log is compacted. */
+	public static final int COMPACT_AFTER = 32;
+
+	/** Most time a written record waits to be forced to disk, in milliseconds. */
+	public static final int SYNC_MILLIS = 500;
+
+	/** First bytes of every log, "MZLB". */
+	private static final int MAGIC = 0x4D5A4C42;
+
+	/** Version of the log format. */
+	private static final short VERSION = 1;
+
+	/** Size of the header, magic, version and generation. */
+	private static final int HEADER_BYTES = 4 + 2 + 8;
+
+	/** Size of a record before its payload, length and checksum. */
+	private static final int RECORD_HEADER_BYTES = 4 + 4;
+
+	/** Largest payload a record can have, anything bigger is damage. */
+	private static final int MAX_PAYLOAD = 64 * 1024;
+
+	/** Record of one score. */
+	private static final byte ENTRY = 1;
+
+	/** Record starting a snapshot, replacing everything before it. */
+	private static final byte SNAPSHOT = 2;
+
+	/** Record carrying on the snapshot before it, for snapshots too big for one. */
+	private static final byte SNAPSHOT_MORE = 3;
+
+	/** Forces logs to disk and compacts them, off the game thread. */
+	private static final ScheduledExecutorService background = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "leaderboard-log");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/** One lock per log file, so logs of the same file in this game don't overlap. */
+	private static final Map<Path, Object> locks = new ConcurrentHashMap<>();
+
+	/** Logs in use, forced to disk together. Logs no longer used drop out. */
+	private static final Set<LeaderboardLog> open = Collections
+			.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+	static {
+		// One task and one shutdown hook for every log, however many are made
+		background.scheduleWithFixedDelay(LeaderboardLog::syncAll, SYNC_MILLIS, SYNC_MILLIS, TimeUnit.MILLISECONDS);
+		Runtime.getRuntime().addShutdownHook(new Thread(LeaderboardLog::syncAll, "leaderboard-log-sync"));
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 * @throws IOException If the test files can't be made.
+	 */
+	public static void main(String[] args) throws IOException {
+		boolean allPassed = true;
+		final Path folder = Files.createTempDirectory("leaderboard-log");
+		final Path file = folder.resolve("test.log");
+
+		// Scores added are there when the log is read again
+		final TestScores first = new TestScores();
+		first.add("Seed", 10);
+		final LeaderboardLog log = new LeaderboardLog(file, first);
+		log.append("Andrew", 50);
+		log.append("Molly", 40);
+		log.sync();
+		final TestScores second = new TestScores();
+		new LeaderboardLog(file, second);
+		if (!second.lines.equals(List.of("Seed;10", "Andrew;50", "Molly;40"))) {
+			System.err.println("Log wasn't read back correctly! " + second.lines);
+			allPassed = false;
+		}
+
+		// A record cut off part way is dropped, and adding after it still works
+		try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+			raw.seek(raw.length());
+			raw.write(new byte[] { 0, 0, 0, 20, 1, 2, 3 });
+		}
+		final TestScores torn = new TestScores();
+		final LeaderboardLog tornLog = new LeaderboardLog(file, torn);
+		tornLog.append("Nick", 45);
+		final TestScores afterTorn = new TestScores();
+		new LeaderboardLog(file, afterTorn);
+		if (!afterTorn.lines.equals(List.of("Seed;10", "Andrew;50", "Molly;40", "Nick;45"))) {
+			System.err.println("Torn record wasn't dropped! " + afterTorn.lines);
+			allPassed = false;
+		}
+
+		// A damaged record and everything after it is dropped
+		final long lengthBefore = Files.size(file);
+		try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+			raw.seek(lengthBefore - 1);
+			final int last = raw.read();
+			raw.seek(lengthBefore - 1);
+			raw.write(last ^ 0xFF);
+		}
+		final TestScores damaged = new TestScores();
+		new LeaderboardLog(file, damaged);
+		if (!damaged.lines.equals(List.of("Seed;10", "Andrew;50", "Molly;40"))) {
+			System.err.println("Damaged record wasn't dropped! " + damaged.lines);
+			allPassed = false;
+		}
+
+		// Compacting leaves only a snapshot, and another game sees the new log
+		final TestScores mine = new TestScores();
+		final LeaderboardLog myLog = new LeaderboardLog(file, mine);
+		final TestScores theirs = new TestScores();
+		final LeaderboardLog theirLog = new LeaderboardLog(file, theirs);
+		for (int i = 0; i < 10; i++) {
+			myLog.append("Player" + i, i);
+		}
+		final long beforeCompact = Files.size(file);
+		myLog.compact();
+		if (Files.size(file) >= beforeCompact || myLog.getRecordsSinceSnapshot() != 0) {
+			System.err.println("Compacting didn't shrink the log!");
+			allPassed = false;
+		}
+		theirLog.append("Nathan", 99);
+		myLog.sync();
+		if (!theirs.lines.containsAll(mine.lines) || !theirs.lines.contains("Nathan;99")) {
+			System.err.println("Another game didn't read the compacted log! " + theirs.lines);
+			allPassed = false;
+		}
+		final TestScores reread = new TestScores();
+		new LeaderboardLog(file, reread);
+		if (!reread.lines.equals(theirs.lines)) {
+			System.err.println("Compacted log wasn't read back correctly! " + reread.lines);
+			allPassed = false;
+		}
+
+		// A snapshot bigger than one record is split, and all of it is read back
+		final Path big = folder.resolve("big.log");
+		final TestScores many = new TestScores();
+		for (int i = 0; i < 5000; i++) {
+			many.add("Player" + i, i);
+		}
+		new LeaderboardLog(big, many).compact();
+		final TestScores manyRead = new TestScores();
+		new LeaderboardLog(big, manyRead);
+		if (Files.size(big) <= MAX_PAYLOAD || !manyRead.lines.equals(many.lines)) {
+			System.err.println("Big snapshot wasn't read back! Read " + manyRead.lines.size() + " scores.");
+			allPassed = false;
+		}
+
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(lockFile(file));
+		Files.deleteIfExists(big);
+		Files.deleteIfExists(lockFile(big));
+		Files.deleteIfExists(folder);
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/**
+	 * Gets the lock file used for a log.
+	 *
+	 * @param file The log file.
+	 * @return The lock file.
+	 */
+	private static Path lockFile(Path file) {
+		return file.resolveSibling(file.getFileName() + ".lock");
+	}
+
+	/**
+	 * Forces every log in use to disk.
+	 */
+	private static void syncAll() {
+		final List<LeaderboardLog> logs;
+		synchronized (open) {
+			logs = new ArrayList<>(open);
+		}
+		for (final LeaderboardLog log : logs) {
+			log.syncInBackground();
+		}
+	}
+
+	/** The log file. */
+	private final Path file;
+
+	/** Scores the log is read into. */
+	private final Scores scores;
+
+	/** Generation of the log last read, a new one is made by each compaction. */
+	private long generation;
+
+	/** Where in the log reading stopped. */
+	private long readPosition;
+
+	/** Number of scores in the log after its snapshot. */
+	private int recordsSinceSnapshot = 0;
+
+	/** If records were written that haven't been forced to disk. */
+	private boolean dirty = false;
+
+	/** If a compaction is waiting to run. */
+	private boolean compactQueued = false;
+
+	/**
+	 * Constructs a new LeaderboardLog and reads it into the scores. If the log
+	 * doesn't exist it's made, starting with a snapshot of the scores given.
+	 *
+	 * @param file   The log file.
+	 * @param scores Scores the log is read into.
+	 */
+	public LeaderboardLog(Path file, Scores scores) {
+		this.file = file;
+		this.scores = scores;
+		try {
+			withLock(this::catchUp);
+		} catch (final IOException e) {
+			System.err.println("Error reading leaderboard log " + file + ": " + e.getMessage());
+		}
+		open.add(this);
+	}
+
+	/**
+	 * Adds a score to the scores and to the end of the log. Scores added by other
+	 * games are read first.
+	 *
+	 * @param name  Name of the player.
+	 * @param score The score.
+	 * @return The position of the score, -1 if it wasn't kept.
+	 * @throws IOException If the log can't be written.
+	 */
+	public int append(String name, int score) throws IOException {
+		return append(new String[] { name }, new int[] { score })[0];
+	}
+
+	/**
+	 * Adds several scores to the scores and to the end of the log, with one write.
+	 * Scores added by other games are read first.
+	 *
+	 * @param names  Name of the player of each score.
+	 * @param values The scores.
+	 * @return The position of each score, -1 where it wasn't kept.
+	 * @throws IOException If the log can't be written.
+	 */
+	public int[] append(String[] names, int[] values) throws IOException {
+		final int[] positions = new int[names.length];
+		withLock(() -> {
+			catchUp();
+			final ByteArrayOutputStream records = new ByteArrayOutputStream();
+			for (int i = 0; i < names.length; i++) {
+				records.write(record(entry(names[i], values[i])));
+			}
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				channel.write(ByteBuffer.wrap(records.toByteArray()), readPosition);
+			}
+			readPosition += records.size();
+			for (int i = 0; i < names.length; i++) {
+				positions[i] = scores.add(names[i], values[i]);
+			}
+			dirty = true;
+			recordsSinceSnapshot += names.length;
+			if (recordsSinceSnapshot >= COMPACT_AFTER && !compactQueued) {
+				compactQueued = true;
+				background.execute(this::compactInBackground);
+			}
+		});
+		return positions;
+	}
+
+	/**
+	 * Forces every record written to disk.
+	 *
+	 * @throws IOException If the log can't be forced.
+	 */
+	public void sync() throws IOException {
+		synchronized (this) {
+			// A log that was deleted has nothing left to force
+			if (!dirty || !Files.exists(file)) {
+				dirty = false;
+				return;
+			}
+		}
+		withLock(() -> {
+			if (dirty) {
+				try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+					channel.force(false);
+				}
+				dirty = false;
+			}
+		});
+	}
+
+	/**
+	 * Replaces the log with a snapshot of the scores. The new log is written to
+	 * another file and renamed over the old one, so the log is always whole.
+	 *
+	 * @throws IOException If the new log can't be written.
+	 */
+	public void compact() throws IOException {
+		withLock(() -> {
+			catchUp();
+			writeNewLog();
+		});
+	}
+
+	/**
+	 * Gets the number of scores in the log after its snapshot.
+	 *
+	 * @return Number of scores.
+	 */
+	public synchronized int getRecordsSinceSnapshot() {
+		return recordsSinceSnapshot;
+	}
+
+	/**
+	 * Forces records to disk on the background thread, where errors can only be
+	 * printed.
+	 */
+	private void syncInBackground() {
+		try {
+			sync();
+		} catch (final IOException e) {
+			System.err.println("Error syncing leaderboard log " + file + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Compacts the log on the background thread.
+	 */
+	private void compactInBackground() {
+		try {
+			compact();
+		} catch (final IOException e) {
+			System.err.println("Error compacting leaderboard log " + file + ": " + e.getMessage());
+		} finally {
+			synchronized (this) {
+				compactQueued = false;
+			}
+		}
+	}
+
+	/**
+	 * Something done with the log locked.
+	 */
+	private interface LockedAction {
+
+		/**
+		 * Does the action.
+		 *
+		 * @throws IOException If the log can't be used.
+		 */
+		void run() throws IOException;
+	}
+
+	/**
+	 * Does something with the log locked, against this game and others.
+	 *
+	 * @param action What to do.
+	 * @throws IOException If the lock file can't be locked.
+	 */
+	private void withLock(LockedAction action) throws IOException {
+		final Object shared = locks.computeIfAbsent(file.toAbsolutePath().normalize(), path -> new Object());
+		synchronized (shared) {
+			synchronized (this) {
+				try (FileChannel lockChannel = FileChannel.open(lockFile(file), StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE)) {
+					final FileLock lock = lockChannel.lock();
+					try {
+						action.run();
+					} finally {
+						lock.release();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads everything added to the log since it was last read. If another game
+	 * compacted it, the whole new log is read. A log that doesn't exist is made,
+	 * and a damaged end is cut off. Only called with the log locked.
+	 *
+	 * @throws IOException If the log can't be read.
+	 */
+	private void catchUp() throws IOException {
+		if (!Files.exists(file)) {
+			writeNewLog();
+			return;
+		}
+		boolean damaged = false;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			channel.read(header, 0);
+			header.flip();
+			if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getShort() != VERSION) {
+				damaged = true;
+			} else {
+				readRecords(channel, header.getLong());
+			}
+		}
+		if (damaged) {
+			// Nothing of the log can be trusted, start it again from the scores
+			System.err.println("Leaderboard log " + file + " is damaged, starting it again.");
+			writeNewLog();
+		}
+	}
+
+	/**
+	 * Reads the records of the log from where reading last stopped, and cuts off a
+	 * damaged end. Only called with the log locked.
+	 *
+	 * @param channel        The log, open to read and write.
+	 * @param fileGeneration Generation in the log's header.
+	 * @throws IOException If the log can't be read.
+	 */
+	private void readRecords(FileChannel channel, long fileGeneration) throws IOException {
+		if (fileGeneration != generation || readPosition == 0) {
+			generation = fileGeneration;
+			readPosition = HEADER_BYTES;
+			recordsSinceSnapshot = 0;
+		}
+
+		final long size = channel.size();
+		final ByteBuffer records = ByteBuffer.allocate((int) (size - readPosition));
+		channel.read(records, readPosition);
+		records.flip();
+		final CRC32 crc = new CRC32();
+		while (records.remaining() >= RECORD_HEADER_BYTES) {
+			final int start = records.position();
+			final int length = records.getInt();
+			final int checksum = records.getInt();
+			if (length <= 0 || length > MAX_PAYLOAD || length > records.remaining()) {
+				records.position(start);
+				break;
+			}
+			final byte[] payload = new byte[length];
+			records.get(payload);
+			crc.reset();
+			crc.update(payload);
+			if ((int) crc.getValue() != checksum) {
+				records.position(start);
+				break;
+			}
+			apply(payload);
+		}
+		final long end = readPosition + records.position();
+		if (end < size) {
+			// The end was cut off or damaged, drop it so records can be added after
+			System.err.println("Dropped " + (size - end) + " damaged bytes from leaderboard log " + file);
+			channel.truncate(end);
+			dirty = true;
+		}
+		readPosition = end;
+	}
+
+	/**
+	 * Reads one record into the scores.
+	 *
+	 * @param payload The record's payload.
+	 * @throws IOException If the record can't be read.
+	 */
+	private void apply(byte[] payload) throws IOException {
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+		final byte type = in.readByte();
+		if (type == ENTRY) {
+			scores.add(in.readUTF(), in.readInt());
+			recordsSinceSnapshot++;
+		} else if (type == SNAPSHOT || type == SNAPSHOT_MORE) {
+			if (type == SNAPSHOT) {
+				scores.clear();
+			}
+			final int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				scores.add(in.readUTF(), in.readInt());
+			}
+			recordsSinceSnapshot = 0;
+		}
+	}
+
+	/**
+	 * Writes a new log holding a snapshot of the scores, and renames it over the
+	 * log. Only called with the log locked.
+	 *
+	 * @throws IOException If the new log can't be written.
+	 */
+	private void writeNewLog() throws IOException {
+		final long newGeneration = ThreadLocalRandom.current().nextLong();
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(MAGIC);
+		out.writeShort(VERSION);
+		out.writeLong(newGeneration);
+		for (final byte[] payload : snapshot()) {
+			out.write(record(payload));
+		}
+
+		final File parent = file.toAbsolutePath().getParent().toFile();
+		final Path temp = File.createTempFile(file.getFileName().toString(), ".tmp", parent).toPath();
+		try {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				channel.write(ByteBuffer.wrap(bytes.toByteArray()));
+				channel.force(true);
+			}
+			Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+		generation = newGeneration;
+		readPosition = bytes.size();
+		recordsSinceSnapshot = 0;
+		dirty = false;
+	}
+
+	/**
+	 * Makes the payload of a record of one score.
+	 *
+	 * @param name  Name of the player.
+	 * @param score The score.
+	 * @return The payload.
+	 * @throws IOException Never, the payload is written to memory.
+	 */
+	private static byte[] entry(String name, int score) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		out.writeByte(ENTRY);
+		out.writeUTF(name);
+		out.writeInt(score);
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Makes the payloads of the records of every score. Scores are split over as
+	 * many records as it takes to keep each one under {@link #MAX_PAYLOAD}.
+	 *
+	 * @return The payloads, a {@link #SNAPSHOT} followed by any
+	 *         {@link #SNAPSHOT_MORE}.
+	 * @throws IOException Never, the payloads are written to memory.
+	 */
+	private List<byte[]> snapshot() throws IOException {
+		final List<String> names = new ArrayList<>();
+		final List<Integer> values = new ArrayList<>();
+		scores.forEach((name, score) -> {
+			names.add(name);
+			values.add(score);
+		});
+		final List<byte[]> payloads = new ArrayList<>();
+		int start = 0;
+		int size = 1 + 4;
+		for (int i = 0; i < names.size(); i++) {
+			// Most bytes the name can take, plus its length and the score
+			final int entryBytes = 2 + names.get(i).length() * 3 + 4;
+			if (i > start && size + entryBytes > MAX_PAYLOAD) {
+				payloads.add(snapshot(payloads.isEmpty() ? SNAPSHOT : SNAPSHOT_MORE, names.subList(start, i),
+						values.subList(start, i)));
+				start = i;
+				size = 1 + 4;
+			}
+			size += entryBytes;
+		}
+		// An empty snapshot still needs its first record, to clear the scores
+		if (start < names.size() || payloads.isEmpty()) {
+			payloads.add(snapshot(payloads.isEmpty() ? SNAPSHOT : SNAPSHOT_MORE, names.subList(start, names.size()),
+					values.subList(start, values.size())));
+		}
+		return payloads;
+	}
+
+	/**
+	 * Makes the payload of one record of a snapshot.
+	 *
+	 * @param type   {@link #SNAPSHOT} or {@link #SNAPSHOT_MORE}.
+	 * @param names  Name of the player of each score.
+	 * @param values The scores.
+	 * @return The payload.
+	 * @throws IOException Never, the payload is written to memory.
+	 */
+	private static byte[] snapshot(byte type, List<String> names, List<Integer> values) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		out.writeByte(type);
+		out.writeInt(names.size());
+		for (int i = 0; i < names.size(); i++) {
+			out.writeUTF(names.get(i));
+			out.writeInt(values.get(i));
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Puts the length and checksum in front of a payload.
+	 *
+	 * @param payload The payload.
+	 * @return The record.
+	 */
+	private static byte[] record(byte[] payload) {
+		final CRC32 crc = new CRC32();
+		crc.update(payload);
+		final ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.length);
+		record.putInt(payload.length);
+		record.putInt((int) crc.getValue());
+		record.put(payload);
+		return record.array();
+	}
+
+	/**
+	 * Scores kept in the order they were added, used for testing.
+	 */
+	private static final class TestScores implements Scores {
+
+		/** Each score as "name;score". */
+		private final List<String> lines = new ArrayList<>();
+
+		@Override
+		public void clear() {
+			lines.clear();
+		}
+
+		@Override
+		public int add(String name, int score) {
+			lines.add(name + ";" + score);
+			return lines.size() - 1;
+		}
+
+		@Override
+		public void forEach(BiConsumer<String, Integer> action) {
+			for (final String line : lines) {
+				final String[] parts = line.split(";");
+				action.accept(parts[0], Integer.parseInt(parts[1]));
+			}
+		}
+	}
+}
@@ -0,0 +1,422 @@
+package gameTools;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * RankedScores keeps every player's best score in order, highest first, in a
+ * skip list. Each link of the list knows how many scores it skips over, so
+ * adding a score, finding the rank of a score and finding the score at a rank
+ * all take O(log n) time, and the top k scores take O(log n + k). A map from
+ * name to each player's best finds a player's score without searching.
+ * </p>
+ *
+ * <p>
+ * Scores that are the same are ranked newest first, like the leaderboard always
+ * has. Testing is found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see Leaderboard
+ */
+public final class RankedScores {
+
+	/** Most levels a score can be linked on, enough for millions of scores. */
+	private static final int MAX_LEVEL = 24;
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		final RankedScores scores = new RankedScores(new Random(7));
+		if (scores.add("Andrew", 50) != 0 || scores.add("Molly", 70) != 0 || scores.add("Nick", 60) != 1) {
+			System.err.println("Scores were given the wrong ranks!");
+			allPassed = false;
+		}
+
+		// Only a player's best is kept
+		if (scores.add("Andrew", 40) != -1 || scores.getBest("Andrew") != 50 || scores.size() != 3) {
+			System.err.println("A worse score replaced a player's best!");
+			allPassed = false;
+		}
+		if (scores.add("Andrew", 80) != 0 || scores.size() != 3 || scores.getRank("Andrew") != 0) {
+			System.err.println("A better score didn't replace a player's best!");
+			allPassed = false;
+		}
+
+		// Equal scores rank newest first, and a score's rank counts only higher ones
+		if (scores.add("Nathan", 70) != 1 || scores.getRank("Molly") != 2 || scores.rankOf(70) != 1
+				|| scores.rankOf(100) != 0 || scores.rankOf(0) != 4) {
+			System.err.println("Equal scores were ranked wrong!");
+			allPassed = false;
+		}
+
+		// Thousands of random scores match a sorted list
+		final RankedScores many = new RankedScores(new Random(11));
+		final Random random = new Random(3);
+		final Map<String, Integer> best = new HashMap<>();
+		final Map<String, Integer> order = new HashMap<>();
+		for (int i = 0; i < 5000; i++) {
+			final String name = "Player" + random.nextInt(2000);
+			final int score = random.nextInt(1000);
+			many.add(name, score);
+			if (!best.containsKey(name) || score > best.get(name)) {
+				best.put(name, score);
+				order.put(name, i);
+			}
+		}
+		final List<String> expected = new ArrayList<>(best.keySet());
+		expected.sort((a, b) -> best.get(a).equals(best.get(b)) ? order.get(b) - order.get(a) : best.get(b) - best.get(a));
+		final List<String> actual = new ArrayList<>();
+		many.forEach((name, score) -> actual.add(name));
+		if (!actual.equals(expected) || many.size() != expected.size()) {
+			System.err.println("Scores weren't kept in order!");
+			allPassed = false;
+		}
+		for (int i = 0; i < expected.size(); i += 97) {
+			final String name = expected.get(i);
+			if (many.getRank(name) != i || !many.getName(i).equals(name) || many.getScore(i) != best.get(name)) {
+				System.err.println("Rank of " + name + " was wrong!");
+				allPassed = false;
+				break;
+			}
+		}
+		final List<String> top = new ArrayList<>();
+		many.top(5, (name, score) -> top.add(name));
+		if (!top.equals(expected.subList(0, 5))) {
+			System.err.println("Top five were wrong!");
+			allPassed = false;
+		}
+
+		many.clear();
+		if (many.size() != 0 || many.getRank("Player1") != -1 || many.add("Player1", 5) != 0) {
+			System.err.println("Clearing didn't empty the scores!");
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/**
+	 * One player's best score, linked into the list on one or more levels.
+	 */
+	private static final class Node {
+
+		/** Name of the player. */
+		private final String name;
+
+		/** The score. */
+		private final int score;
+
+		/** When the score was added, later scores are higher. */
+		private final long order;
+
+		/** Next node on each level, null at the end. */
+		private final Node[] next;
+
+		/** Number of scores each link moves past, the next node included. */
+		private final int[] span;
+
+		/**
+		 * Constructs a new Node.
+		 *
+		 * @param name   Name of the player.
+		 * @param score  The score.
+		 * @param order  When the score was added.
+		 * @param levels Number of levels the node is linked on.
+		 */
+		private Node(String name, int score, long order, int levels) {
+			this.name = name;
+			this.score = score;
+			this.order = order;
+			this.next = new Node[levels];
+			this.span = new int[levels];
+		}
+
+		/**
+		 * Checks if this node is ranked before another.
+		 *
+		 * @param other The other node.
+		 * @return true if this node's score is higher, or the same and newer.
+		 */
+		private boolean before(Node other) {
+			return score > other.score || (score == other.score && order > other.order);
+		}
+	}
+
+	/** Picks how many levels each node is linked on. */
+	private final Random random;
+
+	/** Start of the list, linked on every level. */
+	private final Node head = new Node(null, 0, 0, MAX_LEVEL);
+
+	/** Each player's node, by name. */
+	private final Map<String, Node> bests = new HashMap<>();
+
+	/** Number of levels in use. */
+	private int levels = 1;
+
+	/** Number of scores added, used to order equal scores. */
+	private long added = 0;
+
+	/**
+	 * Constructs a new, empty RankedScores.
+	 */
+	public RankedScores() {
+		this(new Random());
+	}
+
+	/**
+	 * Constructs a new, empty RankedScores.
+	 *
+	 * @param random Picks how many levels each node is linked on.
+	 */
+	private RankedScores(Random random) {
+		this.random = random;
+	}
+
+	/**
+	 * Adds a score, if it's better than the player's best.
+	 *
+	 * @param name  Name of the player.
+	 * @param score The score.
+	 * @return The rank of the score, 0 for the highest, or -1 if the player
+	 *         already has a score at least as good.
+	 */
+	public int add(String name, int score) {
+		final Node old = bests.get(name);
+		if (old != null) {
+			if (old.score >= score) {
+				return -1;
+			}
+			remove(old);
+		}
+
+		final Node[] update = new Node[MAX_LEVEL];
+		final int[] rank = new int[MAX_LEVEL];
+		final Node node = new Node(name, score, ++added, randomLevels());
+		Node current = head;
+		for (int level = levels - 1; level >= 0; level--) {
+			rank[level] = level == levels - 1 ? 0 : rank[level + 1];
+			while (current.next[level] != null && current.next[level].before(node)) {
+				rank[level] += current.span[level];
+				current = current.next[level];
+			}
+			update[level] = current;
+		}
+		if (node.next.length > levels) {
+			for (int level = levels; level < node.next.length; level++) {
+				rank[level] = 0;
+				update[level] = head;
+				head.span[level] = size();
+			}
+			levels = node.next.length;
+		}
+
+		for (int level = 0; level < node.next.length; level++) {
+			node.next[level] = update[level].next[level];
+			update[level].next[level] = node;
+			// The link before splits its span around the new node
+			node.span[level] = update[level].span[level] - (rank[0] - rank[level]);
+			update[level].span[level] = rank[0] - rank[level] + 1;
+		}
+		for (int level = node.next.length; level < levels; level++) {
+			update[level].span[level]++;
+		}
+		bests.put(name, node);
+		return rank[0];
+	}
+
+	/**
+	 * Gets the rank a score would have, the number of scores higher than it.
+	 *
+	 * @param score The score.
+	 * @return The rank, 0 for the highest.
+	 */
+	public int rankOf(int score) {
+		int rank = 0;
+		Node current = head;
+		for (int level = levels - 1; level >= 0; level--) {
+			while (current.next[level] != null && current.next[level].score > score) {
+				rank += current.span[level];
+				current = current.next[level];
+			}
+		}
+		return rank;
+	}
+
+	/**
+	 * Gets the rank of a player's best score.
+	 *
+	 * @param name Name of the player.
+	 * @return The rank, 0 for the highest, or -1 if the player has no score.
+	 */
+	public int getRank(String name) {
+		final Node node = bests.get(name);
+		if (node == null) {
+			return -1;
+		}
+		int rank = 0;
+		Node current = head;
+		for (int level = levels - 1; level >= 0; level--) {
+			while (current.next[level] != null && (current.next[level] == node || current.next[level].before(node))) {
+				rank += current.span[level];
+				current = current.next[level];
+			}
+			if (current == node) {
+				break;
+			}
+		}
+		return rank - 1;
+	}
+
+	/**
+	 * Gets a player's best score.
+	 *
+	 * @param name Name of the player.
+	 * @return The best score, or null if the player has no score.
+	 */
+	public Integer getBest(String name) {
+		final Node node = bests.get(name);
+		return node == null ? null : node.score;
+	}
+
+	/**
+	 * Gets the name of the player at a rank.
+	 *
+	 * @param rank The rank, 0 for the highest.
+	 * @return The player's name.
+	 */
+	public String getName(int rank) {
+		return nodeAt(rank).name;
+	}
+
+	/**
+	 * Gets the score at a rank.
+	 *
+	 * @param rank The rank, 0 for the highest.
+	 * @return The score.
+	 */
+	public int getScore(int rank) {
+		return nodeAt(rank).score;
+	}
+
+	/**
+	 * Goes through the highest scores, highest first.
+	 *
+	 * @param count  Most scores to go through.
+	 * @param action Called with the name and score of each.
+	 */
+	public void top(int count, BiConsumer<String, Integer> action) {
+		Node current = head.next[0];
+		for (int i = 0; i < count && current != null; i++) {
+			action.accept(current.name, current.score);
+			current = current.next[0];
+		}
+	}
+
+	/**
+	 * Goes through every score, highest first.
+	 *
+	 * @param action Called with the name and score of each.
+	 */
+	public void forEach(BiConsumer<String, Integer> action) {
+		top(size(), action);
+	}
+
+	/**
+	 * Gets the number of players with a score.
+	 *
+	 * @return Number of scores.
+	 */
+	public int size() {
+		return bests.size();
+	}
+
+	/**
+	 * Removes every score.
+	 */
+	public void clear() {
+		for (int level = 0; level < MAX_LEVEL; level++) {
+			head.next[level] = null;
+			head.span[level] = 0;
+		}
+		bests.clear();
+		levels = 1;
+	}
+
+	/**
+	 * Finds the node at a rank.
+	 *
+	 * @param rank The rank, 0 for the highest.
+	 * @return The node.
+	 * @throws IndexOutOfBoundsException If there is no score at the rank.
+	 */
+	private Node nodeAt(int rank) {
+		if (rank < 0 || rank >= size()) {
+			throw new IndexOutOfBoundsException("No score at rank " + rank);
+		}
+		// Spans count from the head, so the node at rank r is r + 1 steps along
+		int travelled = 0;
+		Node current = head;
+		for (int level = levels - 1; level >= 0; level--) {
+			while (current.next[level] != null && travelled + current.span[level] <= rank + 1) {
+				travelled += current.span[level];
+				current = current.next[level];
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Unlinks a node from every level.
+	 *
+	 * @param node The node.
+	 */
+	private void remove(Node node) {
+		Node current = head;
+		for (int level = levels - 1; level >= 0; level--) {
+			while (current.next[level] != null && current.next[level].before(node)) {
+				current = current.next[level];
+			}
+			if (current.next[level] == node) {
+				current.span[level] += node.span[level] - 1;
+				current.next[level] = node.next[level];
+			} else {
+				current.span[level]--;
+			}
+		}
+		while (levels > 1 && head.next[levels - 1] == null) {
+			levels--;
+		}
+		bests.remove(node.name);
+	}
+
+	/**
+	 * Picks how many levels a new node is linked on, each level half as likely as
+	 * the one below.
+	 *
+	 * @return Number of levels.
+	 */
+	private int randomLevels() {
+		int count = 1;
+		while (count < MAX_LEVEL && random.nextBoolean()) {
+			count++;
+		}
+		return count;
+	}
+}
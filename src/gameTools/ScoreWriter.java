@@ -0,0 +1,302 @@
+package gameTools;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <p>
+ * ScoreWriter saves leaderboard scores on a background thread, so the game
+ * never waits on the disk. Submitting a score only queues it and returns a
+ * future of where it placed. The writer takes everything queued at once, so a
+ * burst of scores is saved with one write and one sync per leaderboard.
+ * </p>
+ *
+ * <p>
+ * Anything still queued when the game closes is written before it exits.
+ * Testing is found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see Leaderboard
+ * @see LeaderboardLog
+ */
+public final class ScoreWriter {
+
+	/** Longest the game waits for queued scores when it closes, in milliseconds. */
+	public static final int SHUTDOWN_FLUSH_MILLIS = 2000;
+
+	/** The single instance of ScoreWriter. */
+	private static ScoreWriter single_instance = null;
+
+	/**
+	 * Gets the single instance of ScoreWriter, starting its thread the first time.
+	 *
+	 * @return The ScoreWriter.
+	 */
+	public static synchronized ScoreWriter getInstance() {
+		if (single_instance == null) {
+			single_instance = new ScoreWriter();
+		}
+		return single_instance;
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 * @throws Exception If the test leaderboard can't be made.
+	 */
+	public static void main(String[] args) throws Exception {
+		boolean allPassed = true;
+		final Path folder = Files.createTempDirectory("score-writer");
+		final Path file = folder.resolve("test_leaderboard.txt");
+		Files.write(file, List.of("Test Leaderboard", "A;50", "B;40", "C;30", "D;20", "E;10"));
+		final Leaderboard board = new Leaderboard(file.toString());
+		final ScoreWriter writer = getInstance();
+
+		// Submitting returns right away, and the future has the position
+		final CompletableFuture<Integer> best = writer.submit(board, "Best", 100);
+		final CompletableFuture<Integer> worst = writer.submit(board, "Worst", 1);
+		if (best.get(5, TimeUnit.SECONDS) != 0 || worst.get(5, TimeUnit.SECONDS) != -1) {
+			System.err.println("Futures didn't have the right positions!");
+			allPassed = false;
+		}
+
+		// Scores queued while the writer is busy are written together
+		final long batchesBefore = writer.getBatchCount();
+		final List<CompletableFuture<Integer>> burst = new ArrayList<>();
+		synchronized (board) {
+			for (int i = 0; i < 50; i++) {
+				burst.add(writer.submit(board, "Burst" + i, 60 + i));
+			}
+			Thread.sleep(100);
+		}
+		if (!writer.flush(5000)) {
+			System.err.println("Flush didn't finish!");
+			allPassed = false;
+		}
+		for (final CompletableFuture<Integer> future : burst) {
+			if (!future.isDone()) {
+				System.err.println("A score wasn't written by the flush!");
+				allPassed = false;
+				break;
+			}
+		}
+		if (writer.getBatchCount() - batchesBefore > 2) {
+			System.err.println("Burst was written in " + (writer.getBatchCount() - batchesBefore) + " batches!");
+			allPassed = false;
+		}
+
+		// Everything written is there when the leaderboard is loaded again
+		final Leaderboard reloaded = new Leaderboard(file.toString());
+		if (!reloaded.leaderboardToString()[0].equals("Burst49 109")
+				|| !reloaded.leaderboardToString()[4].equals("Burst45 105")) {
+			System.err.println("Written scores weren't loaded again!");
+			allPassed = false;
+		}
+
+		// A write that fails fails its futures, and the writer keeps going
+		final Leaderboard broken = new Leaderboard(file.toString()) {
+			@Override
+			int[] submitAll(String[] names, int[] scores) {
+				throw new IllegalStateException("Broken leaderboard");
+			}
+		};
+		final CompletableFuture<Integer> failed = writer.submit(broken, "Broken", 500);
+		try {
+			failed.get(5, TimeUnit.SECONDS);
+			System.err.println("Failed write completed its future!");
+			allPassed = false;
+		} catch (final ExecutionException e) {
+			// Expected
+		}
+		if (writer.submit(board, "After", 1).get(5, TimeUnit.SECONDS) != -1) {
+			System.err.println("Writer didn't keep going after a failed write!");
+			allPassed = false;
+		}
+
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(folder.resolve("test_leaderboard.log"));
+		Files.deleteIfExists(folder.resolve("test_leaderboard.log.lock"));
+		Files.deleteIfExists(folder);
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/**
+	 * A score waiting to be written.
+	 */
+	private static final class Submission {
+
+		/** Leaderboard the score is for, null for a flush. */
+		private final Leaderboard board;
+
+		/** Name of the player. */
+		private final String name;
+
+		/** The score. */
+		private final int score;
+
+		/** Completed with the position once written. */
+		private final CompletableFuture<Integer> position = new CompletableFuture<>();
+
+		/**
+		 * Constructs a new Submission.
+		 *
+		 * @param board Leaderboard the score is for, null for a flush.
+		 * @param name  Name of the player.
+		 * @param score The score.
+		 */
+		private Submission(Leaderboard board, String name, int score) {
+			this.board = board;
+			this.name = name;
+			this.score = score;
+		}
+	}
+
+	/** Scores waiting to be written. */
+	private final BlockingQueue<Submission> queue = new LinkedBlockingQueue<>();
+
+	/** Number of batches written. */
+	private volatile long batchCount = 0;
+
+	/**
+	 * Constructs a new ScoreWriter, use {@link #getInstance()} to get one.
+	 */
+	private ScoreWriter() {
+		final Thread thread = new Thread(this::run, "score-writer");
+		thread.setDaemon(true);
+		thread.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(SHUTDOWN_FLUSH_MILLIS), "score-writer-flush"));
+	}
+
+	/**
+	 * Queues a score to be added to a leaderboard and saved. Returns right away.
+	 *
+	 * @param board The leaderboard.
+	 * @param name  Name of the player.
+	 * @param score The score.
+	 * @return Completed with the position of the score once it's saved, -1 if it
+	 *         didn't make the leaderboard.
+	 */
+	public CompletableFuture<Integer> submit(Leaderboard board, String name, int score) {
+		final Submission submission = new Submission(board, name, score);
+		queue.add(submission);
+		return submission.position;
+	}
+
+	/**
+	 * Waits for every score queued so far to be saved.
+	 *
+	 * @param timeoutMillis Longest to wait, in milliseconds.
+	 * @return true if everything was saved in time.
+	 */
+	public boolean flush(long timeoutMillis) {
+		final Submission marker = new Submission(null, null, 0);
+		queue.add(marker);
+		try {
+			marker.position.get(timeoutMillis, TimeUnit.MILLISECONDS);
+			return true;
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (final ExecutionException | TimeoutException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Gets the number of batches written, not counting batches of only flushes.
+	 *
+	 * @return Number of batches.
+	 */
+	public long getBatchCount() {
+		return batchCount;
+	}
+
+	/**
+	 * Writes scores as they're queued, taking everything queued at once.
+	 */
+	private void run() {
+		final List<Submission> batch = new ArrayList<>();
+		while (true) {
+			try {
+				batch.add(queue.take());
+			} catch (final InterruptedException e) {
+				return;
+			}
+			queue.drainTo(batch);
+			try {
+				write(batch);
+			} catch (final RuntimeException e) {
+				// Nothing waiting on this batch should wait forever
+				System.err.println("Error saving scores: " + e);
+				for (final Submission submission : batch) {
+					submission.position.completeExceptionally(e);
+				}
+			}
+			batch.clear();
+		}
+	}
+
+	/**
+	 * Writes a batch of scores, one write and sync for each leaderboard, then
+	 * completes their futures.
+	 *
+	 * @param batch The scores, and any flushes.
+	 */
+	private void write(List<Submission> batch) {
+		final Map<Leaderboard, List<Submission>> byBoard = new LinkedHashMap<>();
+		for (final Submission submission : batch) {
+			if (submission.board != null) {
+				byBoard.computeIfAbsent(submission.board, board -> new ArrayList<>()).add(submission);
+			}
+		}
+		// Counted before any future completes, and a batch of only flushes writes nothing
+		if (!byBoard.isEmpty()) {
+			batchCount++;
+		}
+		for (final Map.Entry<Leaderboard, List<Submission>> entry : byBoard.entrySet()) {
+			final List<Submission> scores = entry.getValue();
+			final String[] names = new String[scores.size()];
+			final int[] values = new int[scores.size()];
+			for (int i = 0; i < names.length; i++) {
+				names[i] = scores.get(i).name;
+				values[i] = scores.get(i).score;
+			}
+			try {
+				final int[] positions = entry.getKey().submitAll(names, values);
+				for (int i = 0; i < positions.length; i++) {
+					scores.get(i).position.complete(positions[i]);
+				}
+			} catch (final IOException | RuntimeException e) {
+				System.err.println("Error saving scores: " + e.getMessage());
+				for (final Submission submission : scores) {
+					submission.position.completeExceptionally(e);
+				}
+			}
+		}
+		// Flushes complete once everything queued before them is saved
+		for (final Submission submission : batch) {
+			if (submission.board == null) {
+				submission.position.complete(0);
+			}
+		}
+	}
+}
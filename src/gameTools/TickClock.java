@@ -0,0 +1,272 @@
+package gameTools;
+
+/**
+ * <p>
+ * TickClock holds the simulation tick rate. The game was tuned at 60 ticks a
+ * second, so every speed and counter in the game is written per reference tick
+ * (1/60 of a second). TickClock converts those values to the real tick rate, so
+ * the game plays the same at 30, 60, 120 or 240 ticks a second.
+ * </p>
+ *
+ * <p>
+ * The tick rate is read from the <code>mazerunner.tickRate</code> system
+ * property, for example <code>-Dmazerunner.tickRate=120</code>. Testing is
+ * found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ */
+public class TickClock {
+
+	/**
+	 * Turns a speed per reference tick into whole pixels per real tick. The part of
+	 * a pixel that is left over is kept and added to the next step, so nothing is
+	 * lost to rounding.
+	 */
+	public static class Accumulator {
+
+		/** Part of a pixel left over from the last step. */
+		private double remainder = 0;
+
+		/**
+		 * Finds how far to move this tick.
+		 *
+		 * @param perReferenceTick Distance that would be moved in one reference tick.
+		 * @return Whole distance to move this tick.
+		 */
+		public int step(double perReferenceTick) {
+			if (perReferenceTick == 0) {
+				remainder = 0;
+				return 0;
+			}
+			remainder += perReferenceTick * getInstance().scale();
+			final int whole = (int) remainder;
+			remainder -= whole;
+			return whole;
+		}
+
+		/**
+		 * Throws away the part of a pixel left over, used when movement stops.
+		 */
+		public void reset() {
+			remainder = 0;
+		}
+	}
+
+	/**
+	 * Counts how many reference ticks pass during each real tick. Used to run code
+	 * that was written to happen once per reference tick the right number of
+	 * times.
+	 */
+	public static class Stepper {
+
+		/** Part of a reference tick left over from the last advance. */
+		private double remainder = 0;
+
+		/**
+		 * Moves forward one real tick.
+		 *
+		 * @return Number of reference ticks that passed, can be 0.
+		 */
+		public int advance() {
+			remainder += getInstance().scale();
+			final int whole = (int) remainder;
+			remainder -= whole;
+			return whole;
+		}
+
+		/**
+		 * Starts counting from zero again.
+		 */
+		public void reset() {
+			remainder = 0;
+		}
+	}
+
+	/** The tick rate the game's speeds and counters were written for. */
+	public static final int REFERENCE_RATE = 60;
+
+	/** Lowest tick rate allowed. */
+	public static final int MIN_RATE = 10;
+
+	/** Highest tick rate allowed. */
+	public static final int MAX_RATE = 480;
+
+	/** Name of the system property used to set the tick rate. */
+	public static final String TICK_RATE_PROPERTY = "mazerunner.tickRate";
+
+	/**
+	 * The current instance of TickClock.
+	 */
+	private static TickClock single_instance = null;
+
+	/**
+	 * Makes a new instance of TickClock. TickClock is a singleton because the
+	 * whole game runs at one tick rate.
+	 *
+	 * @return The current instance of TickClock.
+	 */
+	public static synchronized TickClock getInstance() {
+		if (single_instance == null) {
+			single_instance = new TickClock(Integer.getInteger(TICK_RATE_PROPERTY, REFERENCE_RATE));
+		}
+
+		return single_instance;
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		final TickClock clock = getInstance();
+		final int startRate = clock.getTickRate();
+
+		// Moving 6 pixels per reference tick should cover the same distance in one
+		// second at every tick rate
+		for (final int rate : new int[] { 30, 60, 120, 240 }) {
+			clock.setTickRate(rate);
+			final Accumulator mover = new Accumulator();
+			int distance = 0;
+			for (int tick = 0; tick < rate; tick++) {
+				final int step = mover.step(6);
+				// Collision checks look as far as any single step can go
+				if (step > clock.reach(6) || clock.reach(-6) != -clock.reach(6)) {
+					System.err.format("At %d ticks a second a step of %d went past the reach of %d\n", rate, step,
+							clock.reach(6));
+					allPassed = false;
+					break;
+				}
+				distance += step;
+			}
+			if (distance != 6 * REFERENCE_RATE) {
+				System.err.format("At %d ticks a second moved %d pixels instead of %d\n", rate, distance,
+						6 * REFERENCE_RATE);
+				allPassed = false;
+			}
+
+			// Slow speeds shouldn't be lost to rounding
+			final Accumulator slow = new Accumulator();
+			distance = 0;
+			for (int tick = 0; tick < rate; tick++) {
+				distance += slow.step(0.5);
+			}
+			if (distance != REFERENCE_RATE / 2) {
+				System.err.format("At %d ticks a second half speed moved %d pixels\n", rate, distance);
+				allPassed = false;
+			}
+
+			// Counters should last the same amount of time
+			if (clock.ticksFor(300) * 1000 / rate != 5000) {
+				System.err.format("At %d ticks a second 300 reference ticks became %d ticks\n", rate,
+						clock.ticksFor(300));
+				allPassed = false;
+			}
+
+			final Stepper stepper = new Stepper();
+			int steps = 0;
+			for (int tick = 0; tick < rate; tick++) {
+				steps += stepper.advance();
+			}
+			if (steps != REFERENCE_RATE) {
+				System.err.format("At %d ticks a second the stepper counted %d reference ticks\n", rate, steps);
+				allPassed = false;
+			}
+		}
+
+		// Rates outside the allowed range are clamped
+		clock.setTickRate(100000);
+		if (clock.getTickRate() != MAX_RATE) {
+			System.err.println("Tick rate wasn't clamped to the max!");
+			allPassed = false;
+		}
+		if (clock.ticksFor(1) < 1) {
+			System.err.println("A counter should always last at least one tick!");
+			allPassed = false;
+		}
+
+		clock.setTickRate(startRate);
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Number of simulation ticks per second. */
+	private volatile int tickRate;
+
+	/**
+	 * Constructs a new TickClock.
+	 *
+	 * @param tickRate Number of simulation ticks per second.
+	 */
+	private TickClock(int tickRate) {
+		setTickRate(tickRate);
+	}
+
+	/**
+	 * Gets the number of simulation ticks per second.
+	 *
+	 * @return The tick rate.
+	 */
+	public int getTickRate() {
+		return tickRate;
+	}
+
+	/**
+	 * Gets the length of one tick in nanoseconds.
+	 *
+	 * @return Nanoseconds per tick.
+	 */
+	public double getTickNanos() {
+		return 1000000000.0 / tickRate;
+	}
+
+	/**
+	 * Gets how many reference ticks one real tick is worth. This is 1 at 60 ticks a
+	 * second, 0.5 at 120 and 2 at 30.
+	 *
+	 * @return Reference ticks per real tick.
+	 */
+	public double scale() {
+		return (double) REFERENCE_RATE / tickRate;
+	}
+
+	/**
+	 * Gets the farthest an {@link Accumulator} can move in one tick, rounded away
+	 * from zero. Collision checks look this far ahead, so they cover the whole
+	 * step that is taken after them.
+	 *
+	 * @param perReferenceTick Distance that would be moved in one reference tick.
+	 * @return Farthest whole distance moved in one tick, with the same sign.
+	 */
+	public int reach(double perReferenceTick) {
+		return (int) (Math.signum(perReferenceTick) * Math.ceil(Math.abs(perReferenceTick) * scale()));
+	}
+
+	/**
+	 * Sets the number of simulation ticks per second. Should be set before the
+	 * game starts.
+	 *
+	 * @param tickRate The new tick rate, clamped between MIN_RATE and MAX_RATE.
+	 */
+	public void setTickRate(int tickRate) {
+		this.tickRate = Math.max(MIN_RATE, Math.min(MAX_RATE, tickRate));
+	}
+
+	/**
+	 * Converts a counter written in reference ticks to real ticks, so it lasts the
+	 * same amount of time.
+	 *
+	 * @param referenceTicks Number of reference ticks.
+	 * @return Number of real ticks, at least 1.
+	 */
+	public int ticksFor(int referenceTicks) {
+		return Math.max(1, (int) Math.round(referenceTicks * (double) tickRate / REFERENCE_RATE));
+	}
+}
@@ -11,23 +11,29 @@ import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
+import java.util.List;
 
-import javax.imageio.ImageIO;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import javax.swing.Timer;
+import javax.swing.SwingUtilities;
 import javax.swing.WindowConstants;
 
-import audio.AudioPlayer;
+import audio.MusicPlayer;
+import audio.SoundBank;
 import chunks.ChunkManager;
+import gameTools.AssetLoader;
+import gameTools.FrameProfiler;
+import gameTools.GameEvents;
 import gameTools.Leaderboard;
 import panels.GameOverLOSE;
 import panels.GameOverWIN;
 import panels.GamePanel;
 import panels.HomeScreen;
+import panels.Screen;
 import panels.finalWinScreen;
+import sprites.CharacterSprites;
 import sprites.Enemy;
 
 /**
@@ -59,7 +65,7 @@ public class Main {
 	public static boolean addedToLeaderboard = false;
 
 	/** Keeps track of if time should be added. */
-	public static boolean addTime = false;
+	public static volatile boolean addTime = false;
 
 	/**
 	 * Number of enemies killed for current level.
@@ -116,20 +122,8 @@ public class Main {
 	/** Window used to display the game. */
 	private static JFrame window;
 	
-	/** audio when the player runs out of time */
-	private static AudioPlayer gameOver;
-	
-	/** music that plays while player is in the game */
-	private static AudioPlayer levelUp;
-	
-	/** audio that plays while the home screen is shown */
-	private static AudioPlayer homeScreen;
-	
-	/** audio that plays when the player has beat all three levels */
-	private static AudioPlayer wonGame;
-	
-	/** audio that plays while the player is in a level */
-	private static AudioPlayer gamePanelMusic;
+	/** music that plays on the home screen, in a level and when the player wins */
+	private static final MusicPlayer music = MusicPlayer.getInstance();
 
 	/**
 	 * Win screen.
@@ -137,23 +131,38 @@ public class Main {
 	private static finalWinScreen winner;
 
 	/**
-	 * Adds player score to respective leaderboard.
+	 * Adds player score to respective leaderboard. The score is saved in the
+	 * background, so this returns right away.
 	 */
 	public static void addScoreToLeader() {
 		final Leaderboard leader = Leaderboard.levels.get(GamePanel.getCurrentLevel());
 		// If player reached third level,
 		if (GamePanel.getCurrentLevel() == 3) {
-			final int added = leader.addEntry(playerName, totalTimePlayed);
-			if (added != -1) {
-				addedToLeaderboard = true;
-			}
-			leader.updateleaderboardFile();
+			leader.submitAsync(playerName, totalTimePlayed).thenAccept(added -> SwingUtilities.invokeLater(() -> {
+				if (added != -1) {
+					addedToLeaderboard = true;
+				}
+				scoreSaved();
+			}));
 			return;
 		}
 
 		final int playerScore = seconds_left;
-		leader.addEntry(playerName, playerScore);
-		leader.updateleaderboardFile();
+		leader.submitAsync(playerName, playerScore).thenAccept(added -> SwingUtilities.invokeLater(Main::scoreSaved));
+	}
+
+	/**
+	 * Updates the screen showing the leaderboard once a score is saved, in case it
+	 * was shown before the score was added.
+	 */
+	private static void scoreSaved() {
+		for (final Screen screen : new Screen[] { winner, nextLevel }) {
+			if (screen != null && screen.isShowing()) {
+				screen.updatePanel();
+				screen.revalidate();
+				screen.repaint();
+			}
+		}
 	}
 
 	/**
@@ -162,7 +171,7 @@ public class Main {
 	 * @param t Time to add.
 	 */
 	public static void addTime(int t) {
-		seconds_left += 15;
+		seconds_left += t;
 		addTime = true;
 	}
 
@@ -196,9 +205,9 @@ public class Main {
 	 * @param show If game over screen should be displayed.
 	 */
 	public static void gameOverPanel(boolean show) {
-		gamePanelMusic.stop();
+		music.stop();
 		window.setCursor(defaultCursor);
-		gameOver.playSongOnce("gameover.wav");
+		SoundBank.getInstance().play("gameover.wav");
 		final String formattedString = String.format("Failed to complete the level in 120 seconds");
 		window.setTitle(formattedString);
 		window.setVisible(true);
@@ -253,13 +262,35 @@ public class Main {
 	 * @param args The arguments passed to the main method.
 	 */
 	public static void main(String[] args) {
-		gameOver = new AudioPlayer();
-		levelUp = new AudioPlayer();
-		homeScreen = new AudioPlayer();
-		wonGame = new AudioPlayer();
-		gamePanelMusic = new AudioPlayer();
+		// Scoring listens for game events, and updates on the Swing thread like the
+		// timer does
+		GameEvents.getInstance().subscribe((type, value) -> {
+			if (type == GameEvents.Type.ENEMY_KILLED) {
+				SwingUtilities.invokeLater(Main::enemyKilled);
+			} else if (type == GameEvents.Type.TIME_ADDED) {
+				SwingUtilities.invokeLater(() -> addTime(value));
+			}
+		});
 		window = new JFrame();
 		window.setResizable(false);
+		// Every image is read on all cores while the home screen is made, later loads
+		// come from the cache. Character sheets are only loaded once one is picked
+		final List<String> assets = AssetLoader.knownAssets();
+		assets.removeIf(CharacterSprites::isCharacterSheet);
+		AssetLoader.getInstance().preload(assets,
+				(loaded, total) -> SwingUtilities.invokeLater(() -> {
+					if (homePanel != null) {
+						homePanel.setLoadingProgress(loaded, total);
+					}
+				})).thenRun(() -> {
+					// When profiling, show what each image cost to load
+					if (FrameProfiler.ENABLED) {
+						AssetLoader.getInstance().printReport(System.out);
+					}
+				});
+		// Sound effects are decoded once, off the game thread
+		SoundBank.getInstance().preload("playerMove.wav", "attack2.wav", "hitEnemy.wav", "playerHit.wav",
+				"moreTime.wav", "death.wav", "levelUp.wav", "gameover.wav", "timeUp.wav", "lvlcompleted.wav");
 		homePanel = new HomeScreen();
 		// Set up the window and display the HomeScreen panel
 		window.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
@@ -270,7 +301,7 @@ public class Main {
 		window.setVisible(true);
 
 		homePanel.setRunning(true);
-		homeScreen.playSong("menu.wav");
+		music.play("menu.wav");
 		// Add action listener to the button in HomeScreen
 		homePanel.getStartButton().addActionListener(new ActionListener() {
 			@Override
@@ -284,7 +315,7 @@ public class Main {
 					playerName = name;
 					homePanel.setVisible(false);
 					homePanel.setRunning(false);
-					homeScreen.stop();
+					music.stop();
 					runMainCode();
 				}
 			}
@@ -340,7 +371,7 @@ public class Main {
 		if (window == null) {
 			return;
 		}
-		wonGame.stop();
+		music.stop();
 		seconds_left = timeAmount;
 		totalEnemiesKilled = 0;
 		totalTimePlayed = 0;
@@ -364,16 +395,11 @@ public class Main {
 		window.pack();
 		window.setLocationRelativeTo(null);
 		window.setVisible(true);
-		gameOver = new AudioPlayer();
-		levelUp = new AudioPlayer();
-		homeScreen = new AudioPlayer();
-		wonGame = new AudioPlayer();
-		gamePanelMusic = new AudioPlayer();
 
 
 		gamePanel.resetLevel();
 		gamePanel.reset();
-		homeScreen.playSong("menu.wav");
+		music.play("menu.wav");
 
 		// Add action listener to the button in HomeScreen
 		homePanel.getStartButton().addActionListener(new ActionListener() {
@@ -392,7 +418,7 @@ public class Main {
 					homePanel.setRunning(false);
 					gamePanel.setVisible(true);
 					GamePanel.continueLoop();
-					homeScreen.stop();
+					music.stop();
 					runMainCode();
 				}
 			}
@@ -406,7 +432,7 @@ public class Main {
 	public static void runMainCode() {
 		// Load Background Image
 		try {
-			backgroundImage = ImageIO.read(new File("images/backgroundBlock.png"));
+			backgroundImage = AssetLoader.getInstance().load("images/backgroundBlock.png");
 		} catch (final IOException e) {
 			System.err.println("Failed to load backgroundBlock.png!");
 		}
@@ -447,7 +473,7 @@ public class Main {
 				final int currentLevel = GamePanel.getCurrentLevel();
 				window.setTitle("Maze Runner - Level: " + currentLevel);
 				if (seconds_left <= 0) {
-					gameOver.playSongOnce("timeUp.wav");
+					SoundBank.getInstance().play("timeUp.wav");
 					// player lost logic
 					GamePanel.stopLoop();
 					timer.stop();
@@ -493,6 +519,7 @@ public class Main {
 			@Override
 			public void windowClosing(WindowEvent e) {
 				System.out.println("Average FPS: " + gamePanel.getFPS());
+				System.out.println(gamePanel.getFrameGovernor().getSummary());
 				GamePanel.stopLoop();
 				window.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
 				window.dispose(); // Close the window
@@ -504,8 +531,8 @@ public class Main {
 		// starts game
 		gamePanel.loadPlayer(homePanel.get_display_player().get_character_name());
 		gamePanel.startGameThread();
-		gamePanelMusic.playSong("levelPlay2.wav");
-		gamePanelMusic.setVolume(0.7f);
+		music.play("levelPlay2.wav");
+		music.setVolume(0.7f);
 	}
 
 	/**
@@ -514,10 +541,10 @@ public class Main {
 	 * @param show If final win screen should be displayed.
 	 */
 	public static void showFinalWinScreen(boolean show) {
-		gamePanelMusic.stop();
+		music.stop();
 
 		window.setCursor(defaultCursor);
-		wonGame.playSong("winner.wav");
+		music.play("winner.wav");
 		final String formattedString = String.format("YOU WIN");
 
 		// leaderboard.updateleaderboardFile();
@@ -541,7 +568,7 @@ public class Main {
 		window.setVisible(true);
 		timeOut.setVisible(false);
 		window.getContentPane().add(gamePanel);
-		gamePanelMusic.playSong("levelPlay2.wav");
+		music.play("levelPlay2.wav");
 		gamePanel.setVisible(true);
 		gamePanel.setFocusable(true);
 		gamePanel.startGameThread();
@@ -554,14 +581,14 @@ public class Main {
 	 * Stops the game panel music (used for when the player dies) 
 	 */
 	public static void turnOffGamePanelMusic() {
-		gamePanelMusic.stop();
+		music.stop();
 	}
 	
 	/**
 	 * Starts the game panel music (used for after the player dies) 
 	 */
 	public static void turnOnGamePanelMusic() {
-		gamePanelMusic.playSong("levelPlay2.wav");
+		music.play("levelPlay2.wav");
 	}
 	/**
 	 * Disables the other panels and displays the "Next Level" game panel
@@ -569,9 +596,9 @@ public class Main {
 	 * @param show If next level screen should be displayed.
 	 */
 	public static void showNextLevelPanel(boolean show) {
-		gamePanelMusic.stop();
+		music.stop();
 		window.setCursor(defaultCursor);
-		levelUp.playSongOnce("lvlcompleted.wav");
+		SoundBank.getInstance().play("lvlcompleted.wav");
 
 		window.setVisible(true);
 		window.getContentPane().add(nextLevel);
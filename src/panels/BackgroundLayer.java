@@ -0,0 +1,240 @@
+package panels;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * BackgroundLayer draws a background image stretched over a panel. The image
+ * is only scaled when the panel changes size (or a new image is used), into an
+ * image in the format the screen uses, so every other frame it's drawn with a
+ * plain copy.
+ * </p>
+ *
+ * <p>
+ * It can also check if a set of tiles covers the whole panel, in which case
+ * the background can't be seen and doesn't have to be drawn at all. Testing is
+ * found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see GamePanel
+ * @see Screen
+ */
+public class BackgroundLayer {
+
+	/**
+	 * Checks if a set of same sized tiles covers a whole area starting at (0, 0).
+	 * The area is split up by the edges of the tiles, and each piece has to be
+	 * inside at least one tile.
+	 *
+	 * @param xs         Left x of each tile.
+	 * @param ys         Top y of each tile.
+	 * @param count      Number of tiles.
+	 * @param tileWidth  Width of every tile.
+	 * @param tileHeight Height of every tile.
+	 * @param width      Width of the area.
+	 * @param height     Height of the area.
+	 * @return true if no part of the area is left uncovered.
+	 */
+	public static boolean covers(int[] xs, int[] ys, int count, int tileWidth, int tileHeight, int width,
+			int height) {
+		return covers(xs, ys, count, tileWidth, tileHeight, width, height, new int[count * 2 + 1],
+				new int[count * 2 + 1]);
+	}
+
+	/**
+	 * Checks if a set of same sized tiles covers a whole area starting at (0, 0),
+	 * using arrays given by the caller to split up the area, so nothing is
+	 * allocated. Used every frame.
+	 *
+	 * @param xs         Left x of each tile.
+	 * @param ys         Top y of each tile.
+	 * @param count      Number of tiles.
+	 * @param tileWidth  Width of every tile.
+	 * @param tileHeight Height of every tile.
+	 * @param width      Width of the area.
+	 * @param height     Height of the area.
+	 * @param cutsX      Used to split up the width, at least count * 2 + 1 long.
+	 * @param cutsY      Used to split up the height, at least count * 2 + 1 long.
+	 * @return true if no part of the area is left uncovered.
+	 */
+	public static boolean covers(int[] xs, int[] ys, int count, int tileWidth, int tileHeight, int width, int height,
+			int[] cutsX, int[] cutsY) {
+		if (count == 0 || tileWidth <= 0 || tileHeight <= 0) {
+			return width <= 0 || height <= 0;
+		}
+		final int piecesX = cuts(xs, count, tileWidth, width, cutsX);
+		final int piecesY = cuts(ys, count, tileHeight, height, cutsY);
+		for (int y = 0; y < piecesY; y++) {
+			final int cellY = cutsY[y];
+			for (int x = 0; x < piecesX; x++) {
+				final int cellX = cutsX[x];
+				boolean inside = false;
+				for (int i = 0; i < count && !inside; i++) {
+					inside = cellX >= xs[i] && cellX < xs[i] + tileWidth && cellY >= ys[i] && cellY < ys[i] + tileHeight;
+				}
+				if (!inside) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Finds where the tile edges split up one side of the area. Each value is the
+	 * start of a piece, and the first piece starts at 0.
+	 *
+	 * @param starts Start of each tile along this side.
+	 * @param count  Number of tiles.
+	 * @param size   Size of every tile along this side.
+	 * @param length Length of the side of the area.
+	 * @param cuts   Filled with the start of each piece, sorted.
+	 * @return Number of pieces.
+	 */
+	private static int cuts(int[] starts, int count, int size, int length, int[] cuts) {
+		int n = 0;
+		cuts[n++] = 0;
+		for (int i = 0; i < count; i++) {
+			if (starts[i] > 0 && starts[i] < length) {
+				cuts[n++] = starts[i];
+			}
+			if (starts[i] + size > 0 && starts[i] + size < length) {
+				cuts[n++] = starts[i] + size;
+			}
+		}
+		Arrays.sort(cuts, 0, n);
+		return n;
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		// A 2x2 grid of 60x50 tiles covers 100x80, even when shifted a little
+		if (!covers(new int[] { -10, 50, -10, 50 }, new int[] { -5, -5, 45, 45 }, 4, 60, 50, 100, 80)) {
+			System.err.println("A grid of tiles that covers the area said it doesn't!");
+			allPassed = false;
+		}
+
+		// Shifting the grid right leaves a gap on the left
+		if (covers(new int[] { 5, 65, 5, 65 }, new int[] { 0, 0, 50, 50 }, 4, 60, 50, 100, 80)) {
+			System.err.println("A gap on the left side wasn't found!");
+			allPassed = false;
+		}
+
+		// A missing tile leaves a hole
+		if (covers(new int[] { 0, 60, 0 }, new int[] { 0, 0, 50 }, 3, 60, 50, 100, 80)) {
+			System.err.println("A missing tile wasn't found!");
+			allPassed = false;
+		}
+
+		if (covers(new int[0], new int[0], 0, 60, 50, 100, 80)) {
+			System.err.println("No tiles can't cover anything!");
+			allPassed = false;
+		}
+
+		// The image is only scaled again when the size or image changes
+		final BufferedImage source = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+		source.setRGB(3, 3, 0xFF0000FF);
+		final BufferedImage screen = new BufferedImage(40, 40, BufferedImage.TYPE_INT_RGB);
+		final Graphics2D g = screen.createGraphics();
+		final BackgroundLayer layer = new BackgroundLayer();
+		for (int i = 0; i < 5; i++) {
+			layer.draw(g, source, 40, 40);
+		}
+		if (layer.getRescaleCount() != 1) {
+			System.err.println("Background was scaled " + layer.getRescaleCount() + " times instead of once!");
+			allPassed = false;
+		}
+		if ((screen.getRGB(39, 39) & 0xFFFFFF) != 0x0000FF) {
+			System.err.println("Background wasn't stretched over the screen!");
+			allPassed = false;
+		}
+		layer.draw(g, source, 20, 20);
+		layer.draw(g, new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB), 20, 20);
+		if (layer.getRescaleCount() != 3) {
+			System.err.println("Background wasn't scaled again after the size or image changed!");
+			allPassed = false;
+		}
+		g.dispose();
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Image the scaled image was made from. */
+	private Image source;
+
+	/** The background image scaled to the size of the panel. */
+	private BufferedImage scaled;
+
+	/** Number of times the image was scaled. */
+	private int rescaleCount = 0;
+
+	/**
+	 * Draws the background image stretched over the panel, scaling it first if
+	 * the size or image changed. Does nothing if there is no image.
+	 *
+	 * @param g      Graphics to draw on.
+	 * @param image  The background image.
+	 * @param width  Width of the panel.
+	 * @param height Height of the panel.
+	 */
+	public void draw(Graphics g, Image image, int width, int height) {
+		if (image == null || width <= 0 || height <= 0) {
+			return;
+		}
+		if (image != source || scaled == null || scaled.getWidth() != width || scaled.getHeight() != height) {
+			rescale(image, width, height);
+		}
+		g.drawImage(scaled, 0, 0, null);
+	}
+
+	/**
+	 * Gets the number of times the image was scaled.
+	 *
+	 * @return Number of times scaled.
+	 */
+	public int getRescaleCount() {
+		return rescaleCount;
+	}
+
+	/**
+	 * Scales the image to a size into a new image in the format the screen uses.
+	 *
+	 * @param image  The background image.
+	 * @param width  Width to scale to.
+	 * @param height Height to scale to.
+	 */
+	private void rescale(Image image, int width, int height) {
+		final int transparency = image instanceof BufferedImage ? ((BufferedImage) image).getTransparency()
+				: Transparency.TRANSLUCENT;
+		if (GraphicsEnvironment.isHeadless()) {
+			scaled = new BufferedImage(width, height, transparency == Transparency.OPAQUE
+					? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+		} else {
+			scaled = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+					.getDefaultConfiguration().createCompatibleImage(width, height, transparency);
+		}
+		final Graphics2D g = scaled.createGraphics();
+		g.drawImage(image, 0, 0, width, height, null);
+		g.dispose();
+		source = image;
+		rescaleCount++;
+	}
+}
@@ -0,0 +1,331 @@
+package panels;
+
+/**
+ * <p>
+ * FrameGovernor measures how long each frame takes to render and lowers the
+ * render quality when frames go over budget. Once there is headroom again the
+ * quality is raised back up. Changes only happen after a frame average has
+ * stayed over (or under) the budget for a while, so the quality doesn't flicker
+ * back and forth.
+ * </p>
+ *
+ * <p>
+ * Each {@link Quality} level turns off one more piece of optional work. Counts
+ * of the decisions made are kept so they can be printed or shown. Testing is
+ * found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see GamePanel
+ */
+public class FrameGovernor {
+
+	/**
+	 * Render quality levels, from the most work to the least.
+	 */
+	public enum Quality {
+		/** Everything is drawn. */
+		HIGH,
+		/** The vision circle has a hard edge instead of a gradient. */
+		MEDIUM,
+		/** The background image is replaced with a solid color. */
+		LOW,
+		/** The screen is repainted at half the normal rate. */
+		LOWEST
+	}
+
+	/** Weight given to the newest frame in the average. */
+	private static final double SMOOTHING = 0.1;
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		final long budget = 10_000_000;
+		final FrameGovernor governor = new FrameGovernor(budget);
+
+		if (governor.getQuality() != Quality.HIGH) {
+			System.err.println("Governor should start at high quality!");
+			allPassed = false;
+		}
+
+		// A single slow frame shouldn't change the quality
+		governor.recordFrame(budget * 3);
+		if (governor.getQuality() != Quality.HIGH) {
+			System.err.println("Quality dropped after one slow frame!");
+			allPassed = false;
+		}
+
+		// Frames that are always over budget should step the quality down
+		for (int i = 0; i < governor.getDownFrames() * 2; i++) {
+			governor.recordFrame(budget * 2);
+		}
+		if (governor.getQuality() == Quality.HIGH || governor.getStepDowns() == 0) {
+			System.err.println("Quality wasn't lowered when frames were over budget!");
+			allPassed = false;
+		}
+
+		// It should never go lower than the lowest level
+		for (int i = 0; i < governor.getDownFrames() * 20; i++) {
+			governor.recordFrame(budget * 2);
+		}
+		if (governor.getQuality() != Quality.LOWEST) {
+			System.err.println("Quality should be at the lowest level, but it's " + governor.getQuality());
+			allPassed = false;
+		}
+
+		// Fast frames should bring the quality back up
+		for (int i = 0; i < governor.getUpFrames() * 20; i++) {
+			governor.recordFrame(budget / 10);
+		}
+		if (governor.getQuality() != Quality.HIGH || governor.getStepUps() != 3) {
+			System.err.println("Quality wasn't raised when there was headroom!");
+			allPassed = false;
+		}
+
+		// Frames between the two thresholds shouldn't change anything
+		final int changes = governor.getStepDowns() + governor.getStepUps();
+		for (int i = 0; i < governor.getUpFrames() * 5; i++) {
+			governor.recordFrame(budget * 3 / 4);
+		}
+		if (governor.getStepDowns() + governor.getStepUps() != changes) {
+			System.err.println("Quality changed when frames were within budget!");
+			allPassed = false;
+		}
+
+		if (governor.getFrameCount() == 0 || governor.getAverageFrameNanos() <= 0) {
+			System.err.println("Frame metrics weren't recorded!");
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Most time a frame should take to render, in nanoseconds. */
+	private final long budgetNanos;
+
+	/** Frames in a row the average has to be over budget to lower quality. */
+	private int downFrames = 30;
+
+	/** Frames in a row the average has to be under half the budget to raise quality. */
+	private int upFrames = 180;
+
+	/** Current render quality. */
+	private volatile Quality quality = Quality.HIGH;
+
+	/** Average time taken to render a frame, in nanoseconds. */
+	private double averageFrameNanos = 0;
+
+	/** Frames in a row the average has been over budget. */
+	private int overCount = 0;
+
+	/** Frames in a row the average has had headroom. */
+	private int underCount = 0;
+
+	/** Number of frames recorded. */
+	private long frameCount = 0;
+
+	/** Number of frames that went over budget. */
+	private long framesOverBudget = 0;
+
+	/** Number of times the quality was lowered. */
+	private int stepDowns = 0;
+
+	/** Number of times the quality was raised. */
+	private int stepUps = 0;
+
+	/**
+	 * Constructs a new FrameGovernor.
+	 *
+	 * @param budgetNanos Most time a frame should take to render, in nanoseconds.
+	 */
+	public FrameGovernor(long budgetNanos) {
+		this.budgetNanos = budgetNanos;
+	}
+
+	/**
+	 * Gets the average time taken to render a frame.
+	 *
+	 * @return The average frame time in nanoseconds.
+	 */
+	public double getAverageFrameNanos() {
+		return averageFrameNanos;
+	}
+
+	/**
+	 * Gets the frame budget.
+	 *
+	 * @return Most time a frame should take to render, in nanoseconds.
+	 */
+	public long getBudgetNanos() {
+		return budgetNanos;
+	}
+
+	/**
+	 * Gets the frames in a row the average has to be over budget to lower quality.
+	 *
+	 * @return Number of frames.
+	 */
+	public int getDownFrames() {
+		return downFrames;
+	}
+
+	/**
+	 * Gets the number of frames recorded.
+	 *
+	 * @return Number of frames.
+	 */
+	public long getFrameCount() {
+		return frameCount;
+	}
+
+	/**
+	 * Gets the number of frames that went over budget.
+	 *
+	 * @return Number of slow frames.
+	 */
+	public long getFramesOverBudget() {
+		return framesOverBudget;
+	}
+
+	/**
+	 * Gets the current render quality.
+	 *
+	 * @return The current quality.
+	 */
+	public Quality getQuality() {
+		return quality;
+	}
+
+	/**
+	 * Gets the number of times the quality was lowered.
+	 *
+	 * @return Number of step downs.
+	 */
+	public int getStepDowns() {
+		return stepDowns;
+	}
+
+	/**
+	 * Gets the number of times the quality was raised.
+	 *
+	 * @return Number of step ups.
+	 */
+	public int getStepUps() {
+		return stepUps;
+	}
+
+	/**
+	 * Makes a short summary of the governor's metrics.
+	 *
+	 * @return The summary.
+	 */
+	public String getSummary() {
+		return String.format("Quality: %s, average frame: %.2f ms (budget %.2f ms), %d/%d frames over budget, "
+				+ "%d step downs, %d step ups", quality, averageFrameNanos / 1e6, budgetNanos / 1e6, framesOverBudget,
+				frameCount, stepDowns, stepUps);
+	}
+
+	/**
+	 * Gets the frames in a row the average has to have headroom to raise quality.
+	 *
+	 * @return Number of frames.
+	 */
+	public int getUpFrames() {
+		return upFrames;
+	}
+
+	/**
+	 * Checks if the background image should be drawn.
+	 *
+	 * @return true if the background image should be drawn.
+	 */
+	public boolean drawBackgroundImage() {
+		return quality.compareTo(Quality.LOW) < 0;
+	}
+
+	/**
+	 * Checks if the screen should be repainted at half the normal rate.
+	 *
+	 * @return true if repaints should be halved.
+	 */
+	public boolean halfRate() {
+		return quality == Quality.LOWEST;
+	}
+
+	/**
+	 * Records how long a frame took to render, and changes the quality if needed.
+	 * Only the render thread should call this.
+	 *
+	 * @param frameNanos Time the frame took to render, in nanoseconds.
+	 */
+	public void recordFrame(long frameNanos) {
+		if (frameCount == 0) {
+			averageFrameNanos = frameNanos;
+		} else {
+			averageFrameNanos += (frameNanos - averageFrameNanos) * SMOOTHING;
+		}
+		frameCount++;
+		if (frameNanos > budgetNanos) {
+			framesOverBudget++;
+		}
+
+		if (averageFrameNanos > budgetNanos) {
+			overCount++;
+			underCount = 0;
+		} else if (averageFrameNanos < budgetNanos / 2) {
+			underCount++;
+			overCount = 0;
+		} else {
+			overCount = 0;
+			underCount = 0;
+		}
+
+		final Quality[] levels = Quality.values();
+		if (overCount >= downFrames && quality.ordinal() < levels.length - 1) {
+			quality = levels[quality.ordinal() + 1];
+			stepDowns++;
+			overCount = 0;
+		} else if (underCount >= upFrames && quality.ordinal() > 0) {
+			quality = levels[quality.ordinal() - 1];
+			stepUps++;
+			underCount = 0;
+		}
+	}
+
+	/**
+	 * Sets the frames in a row the average has to be over budget to lower quality.
+	 *
+	 * @param downFrames Number of frames, at least 1.
+	 */
+	public void setDownFrames(int downFrames) {
+		this.downFrames = Math.max(1, downFrames);
+	}
+
+	/**
+	 * Sets the frames in a row the average has to have headroom to raise quality.
+	 *
+	 * @param upFrames Number of frames, at least 1.
+	 */
+	public void setUpFrames(int upFrames) {
+		this.upFrames = Math.max(1, upFrames);
+	}
+
+	/**
+	 * Checks if the vision circle should be drawn with a gradient.
+	 *
+	 * @return true if the gradient should be used.
+	 */
+	public boolean useVisionGradient() {
+		return quality == Quality.HIGH;
+	}
+}
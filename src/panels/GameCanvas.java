@@ -0,0 +1,157 @@
+package panels;
+
+import java.awt.Canvas;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+/**
+ * <p>
+ * GameCanvas is the active rendering backend for {@link GamePanel}. Instead of
+ * asking Swing to repaint, the game thread draws each frame into a
+ * {@link BufferStrategy} and shows it right away, so frames are presented when
+ * the game decides and not when the Swing thread gets around to it.
+ * </p>
+ *
+ * <p>
+ * The renderer is picked with the <code>mazerunner.renderer</code> system
+ * property: <code>active</code> (the default) uses this canvas,
+ * <code>passive</code> uses the JPanel's paintComponent like before.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see GamePanel
+ */
+public class GameCanvas extends Canvas {
+
+	/** Name of the system property used to pick the renderer. */
+	public static final String RENDERER_PROPERTY = "mazerunner.renderer";
+
+	/**
+	 * Default serial version UID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/** Number of buffers used, one is shown while the other is drawn on. */
+	private static final int NUM_BUFFERS = 2;
+
+	/**
+	 * Checks if active rendering should be used. Active rendering needs a display,
+	 * so it's never used when running headless.
+	 *
+	 * @return true if the active renderer was picked.
+	 */
+	public static boolean activeSelected() {
+		return !GraphicsEnvironment.isHeadless()
+				&& !"passive".equalsIgnoreCase(System.getProperty(RENDERER_PROPERTY, "active"));
+	}
+
+	/** Number of frames shown. */
+	private long framesShown = 0;
+
+	/** Number of frames that had to be drawn again because the buffer was lost. */
+	private long framesRedrawn = 0;
+
+	/** The panel that draws each frame. */
+	private final GamePanel panel;
+
+	/** Buffers that frames are drawn into, made once the canvas is on screen. */
+	private volatile BufferStrategy strategy;
+
+	/**
+	 * Constructs a new GameCanvas.
+	 *
+	 * @param panel The panel that draws each frame.
+	 */
+	public GameCanvas(GamePanel panel) {
+		this.panel = panel;
+		setIgnoreRepaint(true);
+		// Key presses should keep going to the panel
+		setFocusable(false);
+	}
+
+	/**
+	 * Gets the number of frames shown.
+	 *
+	 * @return Number of frames shown.
+	 */
+	public long getFramesShown() {
+		return framesShown;
+	}
+
+	/**
+	 * Gets the number of frames that had to be drawn again because the buffer
+	 * contents were lost.
+	 *
+	 * @return Number of redrawn frames.
+	 */
+	public long getFramesRedrawn() {
+		return framesRedrawn;
+	}
+
+	/**
+	 * Nothing is painted here, frames are drawn by render.
+	 *
+	 * @param g Not used.
+	 */
+	@Override
+	public void paint(Graphics g) {
+
+	}
+
+	/**
+	 * Draws a frame and shows it. Only the game thread should call this. Does
+	 * nothing if the canvas isn't on the screen yet.
+	 */
+	public void render() {
+		if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+			return;
+		}
+		if (strategy == null) {
+			createBufferStrategy(NUM_BUFFERS);
+			strategy = getBufferStrategy();
+		}
+		final BufferStrategy buffers = strategy;
+
+		// The buffer can be lost at any time (the window is moved to another screen,
+		// the display mode changes, ...), so keep drawing until a full frame is shown
+		int attempts = 0;
+		try {
+			do {
+				do {
+					final Graphics2D g = (Graphics2D) buffers.getDrawGraphics();
+					try {
+						panel.renderFrame(g);
+					} finally {
+						g.dispose();
+					}
+					attempts++;
+				} while (buffers.contentsRestored());
+				buffers.show();
+			} while (buffers.contentsLost());
+		} catch (final IllegalStateException e) {
+			// The canvas was taken off the screen while drawing, make new buffers next time
+			strategy = null;
+			return;
+		}
+		framesRedrawn += attempts - 1;
+
+		// Makes sure the frame is sent to the screen now, on some systems it would be
+		// held back otherwise
+		Toolkit.getDefaultToolkit().sync();
+		framesShown++;
+	}
+
+	/**
+	 * Throws away the buffers when the canvas is taken off the screen, they are
+	 * made again the next time a frame is rendered.
+	 */
+	@Override
+	public void removeNotify() {
+		strategy = null;
+		super.removeNotify();
+	}
+}
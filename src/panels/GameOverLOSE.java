@@ -4,16 +4,16 @@ import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
-import java.io.File;
 import java.io.IOException;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 import javax.swing.WindowConstants;
 
+import gameTools.AssetLoader;
+
 /**
  * GameOverLOSE creates the game over screen when the user fails to find the end
  * of the maze.
@@ -59,7 +59,7 @@ public class GameOverLOSE extends Screen {
 	public GameOverLOSE() {
 		// Load the image
 		try {
-			backgroundImage = ImageIO.read(new File("images/GameOver2.png"));
+			backgroundImage = AssetLoader.getInstance().load("images/GameOver2.png");
 		} catch (final IOException e) {
 			System.err.println("Failed to load game over screen background image!");
 		}
@@ -87,7 +87,7 @@ public class GameOverLOSE extends Screen {
 			@Override
 			protected void paintComponent(Graphics g) {
 				super.paintComponent(g);
-				g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+				background.draw(g, backgroundImage, getWidth(), getHeight());
 			}
 		};
 
@@ -4,16 +4,16 @@ import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
-import java.io.File;
 import java.io.IOException;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 import javax.swing.WindowConstants;
 
+import gameTools.AssetLoader;
+
 /**
  * <p>
  * GameOverWIN creates the panel shown when user finds the end of the maze.
@@ -57,7 +57,7 @@ public class GameOverWIN extends Screen {
 	public GameOverWIN() {
 		// Load the image
 		try {
-			backgroundImage = ImageIO.read(new File("images/YouWin.png"));
+			backgroundImage = AssetLoader.getInstance().load("images/YouWin.png");
 		} catch (final IOException e) {
 			System.err.println("Failed to load win screen background image!");
 		}
@@ -85,7 +85,7 @@ public class GameOverWIN extends Screen {
 			@Override
 			protected void paintComponent(Graphics g) {
 				super.paintComponent(g);
-				g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+				background.draw(g, backgroundImage, getWidth(), getHeight());
 			}
 		};
 
@@ -1,24 +1,31 @@
 package panels;
 
+import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.DisplayMode;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.Image;
-import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import javax.imageio.ImageIO;
 import javax.swing.JPanel;
-import audio.AudioPlayer;
+import audio.SoundBank;
 import chunks.ChunkManager;
+import gameTools.AssetLoader;
+import gameTools.FrameProfiler;
+import gameTools.FrameProfiler.Counter;
+import gameTools.FrameProfiler.Phase;
+import gameTools.GameEvents;
 import gameTools.GameVariables;
 import gameTools.KeyHandler;
+import gameTools.TickClock;
 import main.Main;
 import sprites.Enemy;
 import sprites.Player;
@@ -63,6 +70,10 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 	 */
 	private static final long serialVersionUID = 123455L;
 
+	/** Color used instead of the background image when frames are slow. */
+	private static final Color BACKGROUND_COLOR = new Color(34, 85, 34);
+
+
 	/**
 	 * Continues the game loop
 	 */
@@ -89,7 +100,7 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 		Image backgroundImage = null;
 		// Load Background Image
 		try {
-			backgroundImage = ImageIO.read(new File("images/wall.png"));
+			backgroundImage = AssetLoader.getInstance().load("images/wall.png");
 		} catch (final IOException e) {
 			System.err.println("Failed to find wall image!");
 		}
@@ -147,11 +158,11 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 		}
 
 		final int avgFPS = (int) gp.getFPS();
-		// Testing if game is running at 60 FPS
-
-		if (avgFPS != 60) {
+		// Testing if game is running at the tick rate (60 by default)
+		final int tickRate = TickClock.getInstance().getTickRate();
+		if (avgFPS != tickRate) {
 			allPassed = false;
-			System.err.format("Game should be running at 60 FPS, but it averaged %s FPS!\n", avgFPS);
+			System.err.format("Game should be running at %d FPS, but it averaged %s FPS!\n", tickRate, avgFPS);
 		}
 
 		if (allPassed) {
@@ -206,7 +217,8 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 	private boolean deathAnimation = false;
 
 	/**
-	 * How many frames will pass from the start of the death animation to the end.
+	 * How many frames will pass from the start of the death animation to the end,
+	 * in reference ticks.
 	 */
 	private final int DEATHANIMATIONTIME = 300;
 
@@ -264,26 +276,56 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 	/** Speed of player. */
 	private final int speed = 6;
 
+	/**
+	 * Distance the player can move in one tick, used to check for collisions
+	 * before moving.
+	 */
+	private final int moveLookahead = (int) Math.ceil(speed * TickClock.getInstance().scale());
+
 	/** Visibility object, used to change visibility as time goes on. */
 	private final Visibility v = Visibility.getInstance();
 
-	/** Audio player for when the player attacks */
-	private AudioPlayer attack;
-	
-	/** Audio player for the sound of the player walking*/
-	private AudioPlayer moving;
-	
-	/** Audio player for when the player hits and enemy */
-	private AudioPlayer hit;
-	
-	/** Audio player for when the player kills an enemy and get additional time */
-	private AudioPlayer moreTime;
-	
-	/** Audio player for when the player dies */
-	private AudioPlayer death;
-	
-	/** Audio player for when the player completes a level*/
-	private AudioPlayer levelUp;
+	/**
+	 * Lowers the render quality when frames take too long. Painting should take at
+	 * most half of a display frame, the rest is left for Swing.
+	 */
+	private final FrameGovernor governor = new FrameGovernor((long) (1000000000 / renderRate() / 2));
+
+	/** Canvas used by the active renderer, null when the passive renderer is used. */
+	private final GameCanvas canvas;
+
+	/** HUD drawn over the game, only drawn again when a value on it changes. */
+	private final HudLayer<RenderSnapshot> hud;
+
+	/** Background image, only scaled again when the panel changes size. */
+	private final BackgroundLayer background = new BackgroundLayer();
+
+	/** Times each phase of a tick and a frame, when profiling is on. */
+	private final FrameProfiler profiler = FrameProfiler.getInstance();
+
+	/** Snapshots handed from the game thread to the renderer. */
+	private final TripleBuffer<RenderSnapshot> snapshots = new TripleBuffer<>(RenderSnapshot::new);
+
+	/** Number of ticks that have been published. */
+	private long tick = 0;
+
+	/** Map x offset on the last published tick. */
+	private int prevXOffset = ChunkManager.xOffset;
+
+	/** Map y offset on the last published tick. */
+	private int prevYOffset = ChunkManager.yOffset;
+
+	/** Screen position of each visible enemy on the last published tick. */
+	private final Map<Enemy, int[]> lastPositions = new HashMap<>();
+
+	/** Sound effects played during the game. */
+	private final SoundBank sounds = SoundBank.getInstance();
+
+	/** Event bus the simulation posts to, flushed at the end of each tick. */
+	private final GameEvents events = GameEvents.getInstance();
+
+	/** Handles the player being hit, removed from {@link #events} on reset. */
+	private final GameEvents.Listener playerHitListener;
 
 	/** Tells us if the death audio has already played once*/
 	private boolean deathPlayedOnce = false;
@@ -291,6 +333,21 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 	/** Tells us if the moreTime audio has already played once */
 	private boolean playedOnce = false;
 	
+	/** Simulation tick rate, used to scale speeds and counters. */
+	private final TickClock clock = TickClock.getInstance();
+
+	/** Turns the player's x speed into movement for this tick. */
+	private final TickClock.Accumulator xMover = new TickClock.Accumulator();
+
+	/** Turns the player's y speed into movement for this tick. */
+	private final TickClock.Accumulator yMover = new TickClock.Accumulator();
+
+	/** Counts reference ticks for health regeneration. */
+	private final TickClock.Stepper regenStepper = new TickClock.Stepper();
+
+	/** Counts reference ticks for shrinking the vision circle. */
+	private final TickClock.Stepper visionStepper = new TickClock.Stepper();
+
 	/** Keeps track of loop times so we can add less health when the player reaches level 3 */
 	private float healthLoop = 0;
 
@@ -301,10 +358,10 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 	@SuppressWarnings("serial")
 	Map<Facing, Integer[]> deltas = new HashMap<>() {
 		{
-			put(Facing.N, new Integer[] { 0, -speed });
-			put(Facing.S, new Integer[] { 0, speed });
-			put(Facing.E, new Integer[] { speed, 0 });
-			put(Facing.W, new Integer[] { -speed, 0 });
+			put(Facing.N, new Integer[] { 0, -moveLookahead });
+			put(Facing.S, new Integer[] { 0, moveLookahead });
+			put(Facing.E, new Integer[] { moveLookahead, 0 });
+			put(Facing.W, new Integer[] { -moveLookahead, 0 });
 		}
 	};
 
@@ -324,12 +381,34 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 		this.addKeyListener(keyH);
 		this.setFocusable(true);
 
-		attack = new AudioPlayer();
-		moving = new AudioPlayer();
-		moreTime = new AudioPlayer();
-		hit = new AudioPlayer();
-		death = new AudioPlayer();
-		levelUp = new AudioPlayer();
+		// The active renderer draws on a canvas that covers the whole panel
+		if (GameCanvas.activeSelected()) {
+			setLayout(new BorderLayout());
+			setIgnoreRepaint(true);
+			canvas = new GameCanvas(this);
+			add(canvas, BorderLayout.CENTER);
+		} else {
+			canvas = null;
+		}
+
+		// Each HUD widget reads the value it shows from the snapshot
+		hud = new HudLayer<>(getFont());
+		hud.add(RenderSnapshot::getPlayerHealth, this::drawHealthBar);
+		hud.add(RenderSnapshot::getSecondsLeft, this::drawTimeLeft);
+		hud.add(RenderSnapshot::getEnemiesKilled, this::drawEnemiesKilled);
+		hud.add(snapshot -> snapshot.isAddingTime() ? 1 : 0, this::drawAddingTime);
+
+		// Sounds for game events are played on the event thread, not in the game loop.
+		// Being hit is the only thing that marks the player as attacked
+		playerHitListener = (type, value) -> {
+			if (type == GameEvents.Type.PLAYER_HIT) {
+				ourPlayer.setGettingAttacked(true);
+				if (!sounds.isPlaying("playerHit.wav")) {
+					sounds.play("playerHit.wav");
+				}
+			}
+		};
+		events.subscribe(playerHitListener);
 		cmanager = ChunkManager.getInstance();
 		// Generate a random number between 1 and 5 (inclusive)
 		levelVersionNumber = random.nextInt(1, 5);
@@ -355,6 +434,15 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 		return sum / (double) fpsTracker.size();
 	}
 
+	/**
+	 * Gets the frame governor, used to read the render metrics.
+	 *
+	 * @return The frame governor.
+	 */
+	public FrameGovernor getFrameGovernor() {
+		return governor;
+	}
+
 	/**
 	 * Checks if the user has won the game at least one time.
 	 *
@@ -372,7 +460,9 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 	}
 
 	/**
-	 * Paints all elements on screen
+	 * Paints all elements on screen when the passive renderer is used. With the
+	 * active renderer the canvas covers the panel, and the game thread draws
+	 * frames itself.
 	 *
 	 * @param g Graphics to draw on
 	 */
@@ -380,42 +470,131 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 	public void paintComponent(Graphics g) {
 		super.paintComponent(g);
 
-		// Creates green grass background
-		if (backgroundImage != null) {
-			g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-		} else {
-			// If no image is available, fallback to a solid color background
-			g.setColor(Color.RED); // Change to desired background color
-			g.fillRect(0, 0, getWidth(), getHeight());
+		if (canvas == null) {
+			renderFrame((Graphics2D) g);
 		}
 
-		final Graphics2D g2 = (Graphics2D) g;
+		// Saves some memory
+		g.dispose();
+	}
 
-		// Draw the active chunks on the map by extracting all the relevant position
-		// blocks
-		cmanager.draw(g2);
-		cmanager.drawEnemies(g2);
+	/**
+	 * Draws one frame from the newest published snapshot, so drawing never waits
+	 * on or reads from the game thread. Used by both renderers.
+	 *
+	 * @param g2 Graphics to draw on
+	 */
+	void renderFrame(Graphics2D g2) {
+		final long frameStart = System.nanoTime();
 
-		if (deathAnimation) {
-			v.updateRadius();
-			v.createVis();
-			v.drawVision(g2);
+		final RenderSnapshot snapshot = snapshots.acquire();
+		final double alpha = snapshot.isValid() ? snapshot.alpha(System.nanoTime(), clock.getTickNanos()) : 0;
+
+		// The background can't be seen when the chunks cover the whole screen
+		long phaseStart = profiler.start();
+		if (!snapshot.isValid() || !cmanager.coversScreen(snapshot, alpha, getWidth(), getHeight())) {
+			drawBackground(g2);
 		}
+		profiler.record(Phase.BACKGROUND, phaseStart);
+
+		if (snapshot.isValid()) {
+			// Draw the active chunks on the map by extracting all the relevant position
+			// blocks
+			phaseStart = profiler.start();
+			cmanager.draw(g2, snapshot, alpha);
+			profiler.record(Phase.CHUNKS, phaseStart);
+			profiler.count(Counter.TILES_DRAWN, cmanager.getDrawnTileCount());
+			profiler.count(Counter.TILES_CULLED, cmanager.getCulledTileCount());
+
+			phaseStart = profiler.start();
+			cmanager.drawEnemies(g2, snapshot, alpha);
+			profiler.record(Phase.ENEMIES, phaseStart);
+
+			phaseStart = profiler.start();
+			if (snapshot.isVisionActive()) {
+				v.drawVision(g2, snapshot.getVisionRadius(), governor.useVisionGradient());
+			}
+			profiler.record(Phase.VISION, phaseStart);
+
+			ourPlayer.drawFrame(g2, snapshot.getPlayerFrame());
 
-		drawHealthBar(g);
+			phaseStart = profiler.start();
+			hud.draw(g2, snapshot, getWidth(), getHeight());
+			profiler.record(Phase.HUD, phaseStart);
+		}
 
-		ourPlayer.draw(g2);
+		profiler.drawOverlay(g2);
 
-		drawStats(g2);
+		governor.recordFrame(System.nanoTime() - frameStart);
+	}
 
-		// Saves some memory
-		g2.dispose();
+	/**
+	 * Draws the background under the chunks. When frames are running slow a solid
+	 * color is drawn instead of the image.
+	 *
+	 * @param g2 Graphics to draw on
+	 */
+	private void drawBackground(Graphics2D g2) {
+		if (backgroundImage != null && governor.drawBackgroundImage()) {
+			// Creates green grass background
+			background.draw(g2, backgroundImage, getWidth(), getHeight());
+		} else if (backgroundImage != null) {
+			// Cheaper than drawing the image when frames are running slow
+			g2.setColor(BACKGROUND_COLOR);
+			g2.fillRect(0, 0, getWidth(), getHeight());
+		} else {
+			// If no image is available, fallback to a solid color background
+			g2.setColor(Color.RED); // Change to desired background color
+			g2.fillRect(0, 0, getWidth(), getHeight());
+		}
 	}
 
 	/**
-	 * Resets several objects in this class.
+	 * Runs everything that changes the look of the game for this tick (animations
+	 * and the visibility circle), then fills the back snapshot and publishes it
+	 * for the renderer.
+	 */
+	private void publishSnapshot() {
+		if (deathAnimation) {
+			// The radius shrinks once per reference tick
+			for (int i = visionStepper.advance(); i > 0; i--) {
+				v.updateRadius();
+			}
+		}
+		ourPlayer.animate();
+		cmanager.animateEnemies();
+
+		tick++;
+		snapshots.back().capture(tick, prevXOffset, prevYOffset, lastPositions, addingTime, deathAnimation,
+				v.getRadius());
+		snapshots.publish();
+		prevXOffset = ChunkManager.xOffset;
+		prevYOffset = ChunkManager.yOffset;
+	}
+
+	/**
+	 * Finds how many times per second the screen should be repainted. Uses the
+	 * refresh rate of the display, or 60 if it can't be found.
+	 *
+	 * @return Number of repaints per second.
+	 */
+	private static double renderRate() {
+		if (!GraphicsEnvironment.isHeadless()) {
+			final int rate = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+					.getDisplayMode().getRefreshRate();
+			if (rate != DisplayMode.REFRESH_RATE_UNKNOWN && rate > 0) {
+				return rate;
+			}
+		}
+		return TickClock.REFERENCE_RATE;
+	}
+
+	/**
+	 * Resets several objects in this class, and stops listening for game events so
+	 * the panel can be replaced.
 	 */
 	public void reset() {
+		events.unsubscribe(playerHitListener);
 		ourPlayer.reset();
 		cmanager.reset();
 		v.reset();
@@ -436,8 +615,9 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 	public void run() {
 
 		long lastime = System.nanoTime();
-		final double AmountOfTicks = 60;
-		final double ns = 1000000000 / AmountOfTicks;
+		final double ns = clock.getTickNanos();
+		final double renderNs = 1000000000 / renderRate();
+		long lastRender = lastime;
 		double delta = 0;
 		int frames = 0;
 		double time = System.currentTimeMillis();
@@ -448,10 +628,21 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 			delta += (now - lastime) / ns;
 			lastime = now;
 
+			// Rendering runs at the display's rate, separate from the game ticks
+			if (now - lastRender >= (governor.halfRate() ? renderNs * 2 : renderNs)) {
+				if (canvas != null) {
+					canvas.render();
+				} else {
+					repaint();
+				}
+				lastRender = now;
+			}
+
 			if (delta >= 1) {
 
 				update();
-				repaint();
+				publishSnapshot();
+				events.endTick();
 
 				frames++;
 				delta--;
@@ -459,8 +650,8 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 					// If more time needs to be added, wait three seconds before doing so
 					if (Main.addTime && addTimeElapsed < maxAddTime) {
 						addingTime = true;
-						if (moreTime.isActive() == false && playedOnce == false) {
-							moreTime.playSongOnce("moreTime.wav");
+						if (!sounds.isPlaying("moreTime.wav") && playedOnce == false) {
+							sounds.play("moreTime.wav");
 							playedOnce = true;
 						}
 						addTimeElapsed += 1000;
@@ -530,16 +721,16 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 			Main.addTime = false;
 			addingTime = false;
 			addTimeElapsed = 0;
-			moving.stop();
+			sounds.stop("playerMove.wav");
 
-			if (levelUp.isActive() == false) {
-				levelUp.playSongOnce("levelUp.wav");
+			if (!sounds.isPlaying("levelUp.wav")) {
+				sounds.play("levelUp.wav");
 			}
 			Main.updateTotalTimeAndEnemies();
 			Main.addScoreToLeader();
 			if (current_level == NUM_LEVELS) {
 				Main.showFinalWinScreen(true);
-				moving.stop();
+				sounds.stop("playerMove.wav");
 				// User won game
 				reset();
 				resetLevel();
@@ -562,24 +753,26 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 		}
 		
 		// If the player is attacking, check if they've hit anyone
+		long phaseStart = profiler.start();
 		if (ourPlayer.getState().equals("Attack")) {
 			ourPlayer.attacking();
 		}
 		
 		// If the user isn't attacking but there are enemies that have been hit, deal
 		// with them
-		if (ourPlayer.hitEnemies() && !ourPlayer.getState().equals("Attack") && ourPlayer.getHealth() >= 1 && hit.isActive() == false) {
-			hit.playSongOnce("hitEnemy.wav");
+		if (ourPlayer.hitEnemies() && !ourPlayer.getState().equals("Attack") && ourPlayer.getHealth() >= 1 && !sounds.isPlaying("hitEnemy.wav")) {
+			sounds.play("hitEnemy.wav");
 			ourPlayer.handleAttack();
 		}
+		profiler.record(Phase.ATTACKS, phaseStart);
 		
 		// Our player is out of health (passed out, fainted, dead)
 		if (ourPlayer.getHealth() < 1) {
 			Main.turnOffGamePanelMusic();
-			hit.stop();
-			moving.stop();
-			if (death.isActive() == false && deathPlayedOnce == false) {
-				death.playSongOnce("death.wav");
+			sounds.stop("hitEnemy.wav");
+			sounds.stop("playerMove.wav");
+			if (!sounds.isPlaying("death.wav") && deathPlayedOnce == false) {
+				sounds.play("death.wav");
 			}
 			if (!deathAnimation) {
 				deathCount = 0;
@@ -589,7 +782,7 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 				ourPlayer.lockState();
 				ourPlayer.lockFacing();
 				cmanager.stopKnockback();
-			} else if (deathCount == DEATHANIMATIONTIME) {
+			} else if (deathCount >= clock.ticksFor(DEATHANIMATIONTIME)) {
 				deathAnimation = false;
 				deathPlayedOnce = false;
 
@@ -621,10 +814,12 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 
 			// Check if moving in a direction would result in a collision. If so, the user
 			// can't move that way
+			phaseStart = profiler.start();
 			final boolean topCollided = cmanager.checkCollision(deltas.get(Facing.N));
 			final boolean botCollided = cmanager.checkCollision(deltas.get(Facing.S));
 			final boolean rightCollided = cmanager.checkCollision(deltas.get(Facing.E));
 			final boolean leftCollided = cmanager.checkCollision(deltas.get(Facing.W));
+			profiler.record(Phase.COLLISION, phaseStart);
 
 			// Uses key presses to determine where to move walls
 			if (keyH.upPressed && !topCollided) {
@@ -639,11 +834,11 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 			if (keyH.leftPressed && !leftCollided) {
 				dx += speed;
 			}
-			if ((keyH.upPressed || keyH.leftPressed || keyH.rightPressed || keyH.downPressed) && moving.isActive() == false) {
-				moving.playSongOnce("playerMove.wav");
+			if ((keyH.upPressed || keyH.leftPressed || keyH.rightPressed || keyH.downPressed) && !sounds.isPlaying("playerMove.wav")) {
+				sounds.play("playerMove.wav");
 			} 
 			if (dy == 0 && dx ==0) {
-				moving.stop();
+				sounds.stop("playerMove.wav");
 			}
 
 
@@ -651,14 +846,14 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 				ourPlayer.updateState(keyH.upPressed, keyH.downPressed, keyH.rightPressed, keyH.leftPressed);
 			}
 			if (keyH.spacePressed) {
-				if (attack.isActive() == false) {
-					attack.playSongOnce("attack2.wav");
+				if (!sounds.isPlaying("attack2.wav")) {
+					sounds.play("attack2.wav");
 				}
 				if (ourPlayer.getState() != "Attack") {
 					// Set our player to be attacking
 					ourPlayer.setState(sprites.Player.State.Attack);
 					if (Enemy.activeEnemies.size() != 0 && Enemy.enemies.size() != 0) {
-						ourPlayer.resetDrawCount();
+						ourPlayer.restartAnimation();
 					}
 				}
 				ourPlayer.lockState();
@@ -666,24 +861,36 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 			}
 		}
 		
-		if (ourPlayer.getHealth() < 10000 && !ourPlayer.isGettingAttacked() && !deathAnimation) {
-			if (current_level == 1) {
-				ourPlayer.addHealth(2);
-			}
-			if (current_level == 2) {
-				ourPlayer.addHealth(1);
-
-			}
-			if (current_level == 3) {
-				healthLoop += 0.5;
-				if (healthLoop % 1 == 0) {
+		// Health comes back once per reference tick
+		final int regenTicks = regenStepper.advance();
+		for (int i = 0; i < regenTicks; i++) {
+			if (ourPlayer.getHealth() < 10000 && !ourPlayer.isGettingAttacked() && !deathAnimation) {
+				if (current_level == 1) {
+					ourPlayer.addHealth(2);
+				}
+				if (current_level == 2) {
 					ourPlayer.addHealth(1);
+
+				}
+				if (current_level == 3) {
+					healthLoop += 0.5;
+					if (healthLoop % 1 == 0) {
+						ourPlayer.addHealth(1);
+					}
 				}
 			}
 		}
 
+		// Speed is per reference tick, scale it to the tick rate
+		dx = xMover.step(dx);
+		dy = yMover.step(dy);
+		phaseStart = profiler.start();
 		cmanager.updateCoords(dx, dy);
+		profiler.record(Phase.UPDATE_COORDS, phaseStart);
+
+		phaseStart = profiler.start();
 		cmanager.updateEnemies();
+		profiler.record(Phase.UPDATE_ENEMIES, phaseStart);
 		}
 
 
@@ -700,14 +907,15 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 	/**
 	 * Draws the player health bar on the gicen Graphics
 	 *
-	 * @param g graphics to draw on.
+	 * @param g      graphics to draw on.
+	 * @param health health of the player.
 	 */
-	private void drawHealthBar(Graphics g) {
+	private void drawHealthBar(Graphics g, int health) {
 		final int healthBarX = getWidth() - healthBarWidth - padding; // Adjust X coordinate to be near the right edge
 		final int healthBarY = padding; // Adjust Y coordinate to be near the top edge
 		final int titleX = getWidth() - healthBarWidth - padding; // X coordinate of the title (aligned with health bar)
 		final int titleY = padding - 5; // Y coordinate of the title (just above the health bar)
-		final int healthPercentage = (int) (((float) ourPlayer.getHealth() / 10000) * 100); // Assuming maximum health
+		final int healthPercentage = (int) (((float) health / 10000) * 100); // Assuming maximum health
 
 		// Draw title
 		g.setColor(Color.WHITE);
@@ -723,7 +931,7 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 		g.fillRect(healthBarX, healthBarY, healthBarWidth, healthBarHeight); // Background
 
 		// Calculate the width of the health bar based on player's health percentage
-		final int currentHealth = ourPlayer.getHealth();
+		final int currentHealth = health;
 		final int barWidth = (int) (((double) currentHealth / 10000) * healthBarWidth);
 
 		// Draw the health portion of the health bar
@@ -732,23 +940,43 @@ public class GamePanel extends JPanel implements Runnable, GameVariables {
 	}
 
 	/**
-	 * Draws the seconds left and enemies left on the screen.
+	 * Draws the seconds left on the screen.
 	 *
-	 * @param g2 Graphics to draw on.
+	 * @param g2          Graphics to draw on.
+	 * @param secondsLeft Seconds left.
 	 */
-	private void drawStats(Graphics2D g2) {
+	private void drawTimeLeft(Graphics2D g2, int secondsLeft) {
 		g2.setColor(Color.WHITE);
 
 		// Set the custom font
 		g2.setFont(customFont);
-		final String timeLeft = "Time left: " + String.valueOf(Main.seconds_left) + " seconds";
+		final String timeLeft = "Time left: " + String.valueOf(secondsLeft) + " seconds";
 		g2.drawString(timeLeft, timeX, timeY);
+	}
 
-		final String enemiesKilled = "Enemies killed: " + String.valueOf(Main.enemiesKilled);
+	/**
+	 * Draws the number of enemies killed on the screen.
+	 *
+	 * @param g2     Graphics to draw on.
+	 * @param killed Number of enemies killed.
+	 */
+	private void drawEnemiesKilled(Graphics2D g2, int killed) {
+		g2.setColor(Color.WHITE);
+		g2.setFont(customFont);
+		final String enemiesKilled = "Enemies killed: " + String.valueOf(killed);
 		g2.drawString(enemiesKilled, enemyKillCountX, enemyKillCountY);
+	}
 
-		// If adding time, tell the user its happening
-		if (addingTime) {
+	/**
+	 * If adding time, tell the user its happening.
+	 *
+	 * @param g2     Graphics to draw on.
+	 * @param adding 1 if time is being added, 0 if not.
+	 */
+	private void drawAddingTime(Graphics2D g2, int adding) {
+		if (adding == 1) {
+			g2.setColor(Color.WHITE);
+			g2.setFont(customFont);
 			g2.drawString(addText, addTextX, addTextY);
 		}
 	}
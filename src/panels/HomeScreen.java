@@ -15,14 +15,12 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.io.File;
 import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
 
 import javax.swing.Timer;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
@@ -32,6 +30,7 @@ import javax.swing.JPanel;
 import javax.swing.JTextField;
 import javax.swing.WindowConstants;
 
+import gameTools.AssetLoader;
 import sprites.Player;
 
 /**
@@ -76,6 +75,12 @@ public class HomeScreen extends Screen {
 	
 	/** The player currently being displayed on the home screen. */
 	private Player displayPlayer;
+
+	/** Shows how many images have been preloaded, hidden once they're all done. */
+	private final JLabel loadingLabel = new JLabel();
+
+	/** Most images shown as preloaded, progress can arrive out of order. */
+	private int loadedShown = 0;
 	
 	
 	/**
@@ -107,7 +112,7 @@ public class HomeScreen extends Screen {
 	 */
 	public HomeScreen() {
 		try {
-			backgroundImage = ImageIO.read(new File("images/HomeScreen.png"));
+			backgroundImage = AssetLoader.getInstance().load("images/HomeScreen.png");
 		} catch (final IOException e) {
 			System.err.println("Failed to load home screen background image!");
 		}
@@ -144,7 +149,7 @@ public class HomeScreen extends Screen {
 			@Override
 			protected void paintComponent(Graphics g) {
 				super.paintComponent(g);
-				g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+				background.draw(g, backgroundImage, getWidth(), getHeight());
 			}
 		};
 
@@ -162,6 +167,12 @@ public class HomeScreen extends Screen {
 		nameInputPanel.add(nameLabel);
 		nameInputPanel.add(nameField);
 
+		// Hidden until images are being preloaded
+		loadingLabel.setFont(new Font("Monospaced", Font.PLAIN, 14));
+		loadingLabel.setForeground(Color.GRAY);
+		loadingLabel.setVisible(false);
+		nameInputPanel.add(loadingLabel);
+
 		// Add nameInputPanel to the CENTER of buttonPanel
 		buttonPanel.add(nameInputPanel, BorderLayout.CENTER);
 
@@ -315,6 +326,22 @@ public class HomeScreen extends Screen {
 
 	}
 	
+	/**
+	 * Shows how many images have been preloaded. The text is hidden once every
+	 * image is done. Should be called on the Swing thread.
+	 *
+	 * @param loaded Number of images finished so far.
+	 * @param total  Number of images being preloaded.
+	 */
+	public void setLoadingProgress(int loaded, int total) {
+		if (loaded < loadedShown) {
+			return;
+		}
+		loadedShown = loaded;
+		loadingLabel.setText("Loading " + loaded + "/" + total);
+		loadingLabel.setVisible(loaded < total);
+	}
+
 	/**
 	 * We use this to determine which player should be loaded based on the display character selected when the game is started. 
 	 * 
@@ -0,0 +1,235 @@
+package panels;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * <p>
+ * HudLayer keeps the HUD (time left, enemies killed, health bar...) drawn in an
+ * image, so it doesn't have to be drawn again every frame. Each widget reads
+ * the value it shows from a model, and the image is only drawn again when one
+ * of those values changes. Every frame the image is put on the screen with one
+ * draw call.
+ * </p>
+ *
+ * <p>
+ * Testing is found in the main method.
+ * </p>
+ *
+ * @param <T> Type of the model the widgets read their values from.
+ *
+ * @since October 19, 2026
+ *
+ * @see GamePanel
+ */
+public class HudLayer<T> {
+
+	/**
+	 * Draws a widget showing a value.
+	 */
+	@FunctionalInterface
+	public interface Painter {
+
+		/**
+		 * Draws the widget.
+		 *
+		 * @param g     Graphics to draw on.
+		 * @param value The value to show.
+		 */
+		void paint(Graphics2D g, int value);
+	}
+
+	/**
+	 * One piece of the HUD, made of where its value comes from and how it's
+	 * drawn.
+	 *
+	 * @param <T> Type of the model the value is read from.
+	 */
+	private static final class Widget<T> {
+
+		/** Where the value comes from. */
+		private final ToIntFunction<T> source;
+
+		/** Draws the widget. */
+		private final Painter painter;
+
+		/** The value currently drawn in the image. */
+		private int shown;
+
+		/** The value read this frame. */
+		private int latest;
+
+		/**
+		 * Constructs a new Widget.
+		 *
+		 * @param source  Where the value comes from.
+		 * @param painter Draws the widget.
+		 */
+		private Widget(ToIntFunction<T> source, Painter painter) {
+			this.source = source;
+			this.painter = painter;
+		}
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		// The model is just an array of the values shown
+		final int[] model = { 60, 0 };
+		final int[] painted = { 0, 0 };
+		final HudLayer<int[]> hud = new HudLayer<>(new Font("Dialog", Font.PLAIN, 12));
+		hud.add(m -> m[0], (g, value) -> {
+			painted[0]++;
+			g.drawString("Time left: " + value, 0, 20);
+		});
+		hud.add(m -> m[1], (g, value) -> painted[1]++);
+
+		final BufferedImage screen = new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB);
+		final Graphics2D g = screen.createGraphics();
+
+		hud.draw(g, model, 100, 50);
+		if (hud.getRedrawCount() != 1 || painted[0] != 1) {
+			System.err.println("The HUD wasn't drawn the first time!");
+			allPassed = false;
+		}
+
+		// Nothing changed, so nothing should be drawn again
+		for (int i = 0; i < 10; i++) {
+			hud.draw(g, model, 100, 50);
+		}
+		if (hud.getRedrawCount() != 1 || painted[0] != 1) {
+			System.err.println("The HUD was drawn again when no values changed!");
+			allPassed = false;
+		}
+
+		// One value changing draws the image again
+		model[1] = 1;
+		hud.draw(g, model, 100, 50);
+		if (hud.getRedrawCount() != 2 || painted[1] != 2) {
+			System.err.println("The HUD wasn't drawn again when a value changed!");
+			allPassed = false;
+		}
+
+		// A new size draws the image again at the new size
+		hud.draw(g, model, 80, 40);
+		if (hud.getRedrawCount() != 3) {
+			System.err.println("The HUD wasn't drawn again when the size changed!");
+			allPassed = false;
+		}
+		g.dispose();
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Font each widget starts drawing with. */
+	private final Font font;
+
+	/** The widgets, drawn in the order they were added. */
+	private final List<Widget<T>> widgets = new ArrayList<>();
+
+	/** The drawn HUD. */
+	private BufferedImage image;
+
+	/** Number of times the HUD image was drawn. */
+	private int redrawCount = 0;
+
+	/**
+	 * Constructs a new HudLayer.
+	 *
+	 * @param font Font each widget starts drawing with.
+	 */
+	public HudLayer(Font font) {
+		this.font = font;
+	}
+
+	/**
+	 * Adds a widget to the HUD.
+	 *
+	 * @param source  Reads the value the widget shows from the model.
+	 * @param painter Draws the widget.
+	 */
+	public void add(ToIntFunction<T> source, Painter painter) {
+		widgets.add(new Widget<>(source, painter));
+		// Make sure the new widget gets drawn
+		image = null;
+	}
+
+	/**
+	 * Puts the HUD on the screen, drawing the image again first if any value
+	 * changed. Only the render thread should call this.
+	 *
+	 * @param g      Graphics to draw on.
+	 * @param model  Model the widgets read their values from.
+	 * @param width  Width of the screen.
+	 * @param height Height of the screen.
+	 */
+	public void draw(Graphics2D g, T model, int width, int height) {
+		if (width <= 0 || height <= 0) {
+			return;
+		}
+		boolean changed = image == null || image.getWidth() != width || image.getHeight() != height;
+		for (final Widget<T> widget : widgets) {
+			widget.latest = widget.source.applyAsInt(model);
+			changed |= widget.latest != widget.shown;
+		}
+		if (changed) {
+			redraw(width, height);
+		}
+		g.drawImage(image, 0, 0, null);
+	}
+
+	/**
+	 * Gets the number of times the HUD image was drawn.
+	 *
+	 * @return Number of redraws.
+	 */
+	public int getRedrawCount() {
+		return redrawCount;
+	}
+
+	/**
+	 * Draws every widget into the image, making a new image if the size changed.
+	 *
+	 * @param width  Width of the screen.
+	 * @param height Height of the screen.
+	 */
+	private void redraw(int width, int height) {
+		if (image == null || image.getWidth() != width || image.getHeight() != height) {
+			image = GraphicsEnvironment.isHeadless() ? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+					: GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+							.getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		}
+		final Graphics2D g = image.createGraphics();
+
+		// Clear what was drawn last time
+		final Composite composite = g.getComposite();
+		g.setComposite(AlphaComposite.Clear);
+		g.fillRect(0, 0, width, height);
+		g.setComposite(composite);
+
+		for (final Widget<T> widget : widgets) {
+			g.setFont(font);
+			widget.painter.paint(g, widget.latest);
+			widget.shown = widget.latest;
+		}
+		g.dispose();
+		redrawCount++;
+	}
+}
@@ -0,0 +1,520 @@
+package panels;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import chunks.Chunk;
+import chunks.ChunkManager;
+import gameTools.GameVariables;
+import main.Main;
+import sprites.Enemy;
+import sprites.GhostFactory;
+import sprites.Player;
+
+/**
+ * <p>
+ * RenderSnapshot holds everything needed to draw one game tick: the camera
+ * offset, the visible chunks, the visible enemies and the player/HUD values.
+ * The game thread fills a snapshot at the end of every tick and publishes it
+ * through a {@link TripleBuffer}, so painting never reads the live game state.
+ * </p>
+ *
+ * <p>
+ * Once published a snapshot is never changed while the renderer holds it. Each
+ * snapshot also stores where the camera and enemies were on the tick before, so
+ * the renderer can interpolate between the last two ticks.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see TripleBuffer
+ * @see GamePanel
+ */
+public class RenderSnapshot implements GameVariables {
+
+	/**
+	 * Anything that moves more than this in a single tick was teleported (level
+	 * load or respawn), so it isn't interpolated.
+	 */
+	private static final int MAX_INTERPOLATED_MOVE = WALL_WIDTH;
+
+	/**
+	 * Main method, used for testing. Uses a ghost, so the Textures folder is
+	 * needed.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		final RenderSnapshot snapshot = new RenderSnapshot();
+		final Map<Enemy, int[]> lastPositions = new HashMap<>();
+
+		if (snapshot.isValid()) {
+			System.err.println("Snapshot was valid before it was filled!");
+			allPassed = false;
+		}
+
+		final Enemy ghost = GhostFactory.getInstance().createEnemy(PLAYER_X, PLAYER_Y);
+		Enemy.activeEnemies.add(ghost);
+		ChunkManager.resetOffset();
+		snapshot.capture(1, 0, 0, lastPositions, true, false, 100);
+
+		if (!snapshot.isValid() || snapshot.getEnemyCount() != 1 || !snapshot.isAddingTime()
+				|| snapshot.getVisionRadius() != 100) {
+			System.err.println("Snapshot didn't store the game state!");
+			allPassed = false;
+		}
+
+		// Moving the map moves the enemy on the screen, halfway between ticks it
+		// should be drawn halfway between the two spots
+		final int startX = snapshot.getEnemyX(0, 1);
+		ChunkManager.updateOffset(6, 0);
+		snapshot.capture(2, 0, 0, lastPositions, false, false, 100);
+		if (snapshot.getEnemyX(0, 0) != startX || snapshot.getEnemyX(0, 0.5) != startX + 3
+				|| snapshot.getEnemyX(0, 1) != startX + 6) {
+			System.err.println("Enemy wasn't interpolated between the last two ticks!");
+			allPassed = false;
+		}
+
+		// Big jumps shouldn't be interpolated
+		ChunkManager.updateOffset(SCREEN_WIDTH, 0);
+		snapshot.capture(3, 6, 0, lastPositions, false, false, 100);
+		if (snapshot.getEnemyX(0, 0) != snapshot.getEnemyX(0, 1)) {
+			System.err.println("Teleported enemy was interpolated!");
+			allPassed = false;
+		}
+
+		// Enemies that are no longer visible are forgotten
+		Enemy.activeEnemies.clear();
+		snapshot.capture(4, 0, 0, lastPositions, false, false, 100);
+		if (snapshot.getEnemyCount() != 0 || !lastPositions.isEmpty()) {
+			System.err.println("Snapshot kept an enemy that isn't visible!");
+			allPassed = false;
+		}
+
+		// Alpha should always be between 0 and 1
+		if (snapshot.alpha(snapshot.timeNanos - 1000, 1000) != 0 || snapshot.alpha(snapshot.timeNanos + 5000, 1000) != 1) {
+			System.err.println("Alpha wasn't kept between 0 and 1!");
+			allPassed = false;
+		}
+
+		ChunkManager.resetOffset();
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Tick number this snapshot was taken on. */
+	private long tick;
+
+	/** System.nanoTime() when this snapshot was taken. */
+	private long timeNanos;
+
+	/** False until the snapshot has been filled at least once. */
+	private boolean valid = false;
+
+	/** X offset of the map on this tick. */
+	private int xOffset;
+
+	/** Y offset of the map on this tick. */
+	private int yOffset;
+
+	/** X offset of the map on the tick before. */
+	private int prevXOffset;
+
+	/** Y offset of the map on the tick before. */
+	private int prevYOffset;
+
+	/** Number of visible chunks. */
+	private int chunkCount;
+
+	/** Visible chunks. */
+	private Chunk[] chunks = new Chunk[4];
+
+	/** X position of each visible chunk on this tick. */
+	private int[] chunkX = new int[4];
+
+	/** Y position of each visible chunk on this tick. */
+	private int[] chunkY = new int[4];
+
+	/** Number of visible enemies. */
+	private int enemyCount;
+
+	/** Visible enemies, only used for their sizes when drawing. */
+	private Enemy[] enemies = new Enemy[16];
+
+	/** Image each enemy is showing on this tick. */
+	private BufferedImage[] enemyFrames = new BufferedImage[16];
+
+	/** Screen x of each enemy on this tick. */
+	private int[] enemyX = new int[16];
+
+	/** Screen y of each enemy on this tick. */
+	private int[] enemyY = new int[16];
+
+	/** Screen x of each enemy on the tick before. */
+	private int[] enemyPrevX = new int[16];
+
+	/** Screen y of each enemy on the tick before. */
+	private int[] enemyPrevY = new int[16];
+
+	/** If each enemy is attacking (attack images are bigger). */
+	private boolean[] enemyAttacking = new boolean[16];
+
+	/** Image the player is showing on this tick. */
+	private BufferedImage playerFrame;
+
+	/** Health of the player. */
+	private int playerHealth;
+
+	/** Seconds left in the level. */
+	private int secondsLeft;
+
+	/** Enemies killed in the level. */
+	private int enemiesKilled;
+
+	/** If the adding time text should be shown. */
+	private boolean addingTime;
+
+	/** If the vision circle should be drawn. */
+	private boolean visionActive;
+
+	/** Radius of the vision circle. */
+	private int visionRadius;
+
+	/**
+	 * Gets the interpolation amount between the tick before and this tick, based
+	 * on how long ago this snapshot was taken.
+	 *
+	 * @param nowNanos  The current System.nanoTime().
+	 * @param tickNanos Length of one tick in nanoseconds.
+	 * @return A value from 0 (tick before) to 1 (this tick).
+	 */
+	public double alpha(long nowNanos, double tickNanos) {
+		final double a = (nowNanos - timeNanos) / tickNanos;
+		return Math.max(0, Math.min(1, a));
+	}
+
+	/**
+	 * Gets a visible chunk.
+	 *
+	 * @param i Index of the chunk.
+	 * @return The chunk.
+	 */
+	public Chunk getChunk(int i) {
+		return chunks[i];
+	}
+
+	/**
+	 * Gets the number of visible chunks.
+	 *
+	 * @return Number of visible chunks.
+	 */
+	public int getChunkCount() {
+		return chunkCount;
+	}
+
+	/**
+	 * Gets the interpolated x position of a chunk.
+	 *
+	 * @param i     Index of the chunk.
+	 * @param alpha Interpolation amount.
+	 * @return X position to draw the chunk at.
+	 */
+	public int getChunkX(int i, double alpha) {
+		return chunkX[i] - cameraLag(xOffset, prevXOffset, alpha);
+	}
+
+	/**
+	 * Gets the interpolated y position of a chunk.
+	 *
+	 * @param i     Index of the chunk.
+	 * @param alpha Interpolation amount.
+	 * @return Y position to draw the chunk at.
+	 */
+	public int getChunkY(int i, double alpha) {
+		return chunkY[i] - cameraLag(yOffset, prevYOffset, alpha);
+	}
+
+	/**
+	 * Gets a visible enemy.
+	 *
+	 * @param i Index of the enemy.
+	 * @return The enemy.
+	 */
+	public Enemy getEnemy(int i) {
+		return enemies[i];
+	}
+
+	/**
+	 * Gets the number of visible enemies.
+	 *
+	 * @return Number of visible enemies.
+	 */
+	public int getEnemyCount() {
+		return enemyCount;
+	}
+
+	/**
+	 * Gets the image an enemy is showing.
+	 *
+	 * @param i Index of the enemy.
+	 * @return The enemy's current image.
+	 */
+	public BufferedImage getEnemyFrame(int i) {
+		return enemyFrames[i];
+	}
+
+	/**
+	 * Gets the interpolated screen x of an enemy.
+	 *
+	 * @param i     Index of the enemy.
+	 * @param alpha Interpolation amount.
+	 * @return X position to draw the enemy at.
+	 */
+	public int getEnemyX(int i, double alpha) {
+		return lerp(enemyPrevX[i], enemyX[i], alpha);
+	}
+
+	/**
+	 * Gets the interpolated screen y of an enemy.
+	 *
+	 * @param i     Index of the enemy.
+	 * @param alpha Interpolation amount.
+	 * @return Y position to draw the enemy at.
+	 */
+	public int getEnemyY(int i, double alpha) {
+		return lerp(enemyPrevY[i], enemyY[i], alpha);
+	}
+
+	/**
+	 * Gets the number of enemies killed in the level.
+	 *
+	 * @return Enemies killed.
+	 */
+	public int getEnemiesKilled() {
+		return enemiesKilled;
+	}
+
+	/**
+	 * Gets the image the player is showing.
+	 *
+	 * @return The player's current image.
+	 */
+	public BufferedImage getPlayerFrame() {
+		return playerFrame;
+	}
+
+	/**
+	 * Gets the health of the player.
+	 *
+	 * @return Player health.
+	 */
+	public int getPlayerHealth() {
+		return playerHealth;
+	}
+
+	/**
+	 * Gets the seconds left in the level.
+	 *
+	 * @return Seconds left.
+	 */
+	public int getSecondsLeft() {
+		return secondsLeft;
+	}
+
+	/**
+	 * Gets the tick number this snapshot was taken on.
+	 *
+	 * @return The tick number.
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Gets the radius of the vision circle.
+	 *
+	 * @return The vision radius.
+	 */
+	public int getVisionRadius() {
+		return visionRadius;
+	}
+
+	/**
+	 * Checks if the adding time text should be shown.
+	 *
+	 * @return true if time is being added.
+	 */
+	public boolean isAddingTime() {
+		return addingTime;
+	}
+
+	/**
+	 * Checks if an enemy is attacking.
+	 *
+	 * @param i Index of the enemy.
+	 * @return true if the enemy is attacking.
+	 */
+	public boolean isEnemyAttacking(int i) {
+		return enemyAttacking[i];
+	}
+
+	/**
+	 * Checks if the snapshot has been filled.
+	 *
+	 * @return true if the snapshot can be drawn.
+	 */
+	public boolean isValid() {
+		return valid;
+	}
+
+	/**
+	 * Checks if the vision circle should be drawn.
+	 *
+	 * @return true if the vision circle is shown.
+	 */
+	public boolean isVisionActive() {
+		return visionActive;
+	}
+
+	/**
+	 * Fills this snapshot with the current game state. Only called by the game
+	 * thread, on a snapshot that isn't published.
+	 *
+	 * @param tick          The current tick number.
+	 * @param prevXOffset   X offset of the map on the tick before.
+	 * @param prevYOffset   Y offset of the map on the tick before.
+	 * @param lastPositions Screen position of each enemy on the tick before. It is
+	 *                      updated with the positions from this tick.
+	 * @param addingTime    If the adding time text is shown.
+	 * @param visionActive  If the vision circle is shown.
+	 * @param visionRadius  Radius of the vision circle.
+	 */
+	void capture(long tick, int prevXOffset, int prevYOffset, Map<Enemy, int[]> lastPositions, boolean addingTime,
+			boolean visionActive, int visionRadius) {
+		this.tick = tick;
+		this.timeNanos = System.nanoTime();
+
+		// Camera
+		xOffset = ChunkManager.xOffset;
+		yOffset = ChunkManager.yOffset;
+		this.prevXOffset = prevXOffset;
+		this.prevYOffset = prevYOffset;
+
+		// Chunks
+		chunkCount = 0;
+		for (final Chunk c : ChunkManager.activeChunks) {
+			if (chunkCount == chunks.length) {
+				chunks = Arrays.copyOf(chunks, chunkCount * 2);
+				chunkX = Arrays.copyOf(chunkX, chunkCount * 2);
+				chunkY = Arrays.copyOf(chunkY, chunkCount * 2);
+			}
+			chunks[chunkCount] = c;
+			chunkX[chunkCount] = c.getXPosition();
+			chunkY[chunkCount] = c.getYPosition();
+			chunkCount++;
+		}
+		// Don't keep old chunks alive after a level change
+		Arrays.fill(chunks, chunkCount, chunks.length, null);
+
+		// Enemies
+		enemyCount = 0;
+		for (final Enemy e : Enemy.activeEnemies) {
+			if (enemyCount == enemies.length) {
+				growEnemies();
+			}
+			final int[] position = e.getPosition();
+			int[] last = lastPositions.get(e);
+			if (last == null) {
+				last = new int[] { position[0], position[1], 0 };
+				lastPositions.put(e, last);
+			}
+			enemies[enemyCount] = e;
+			enemyFrames[enemyCount] = e.getFrame();
+			enemyX[enemyCount] = position[0];
+			enemyY[enemyCount] = position[1];
+			enemyPrevX[enemyCount] = teleported(last[0], position[0]) ? position[0] : last[0];
+			enemyPrevY[enemyCount] = teleported(last[1], position[1]) ? position[1] : last[1];
+			enemyAttacking[enemyCount] = e.isFrameAttacking();
+			last[0] = position[0];
+			last[1] = position[1];
+			last[2] = (int) tick;
+			enemyCount++;
+		}
+		Arrays.fill(enemies, enemyCount, enemies.length, null);
+		Arrays.fill(enemyFrames, enemyCount, enemyFrames.length, null);
+		// Forget enemies that weren't visible this tick
+		lastPositions.values().removeIf(last -> last[2] != (int) tick);
+
+		// Player and HUD
+		final Player player = GamePanel.ourPlayer;
+		playerFrame = player.getFrame();
+		playerHealth = player.getHealth();
+		secondsLeft = Main.seconds_left;
+		enemiesKilled = Main.enemiesKilled;
+		this.addingTime = addingTime;
+		this.visionActive = visionActive;
+		this.visionRadius = visionRadius;
+
+		valid = true;
+	}
+
+	/**
+	 * Finds how far behind the camera is when drawing between two ticks.
+	 *
+	 * @param offset     Offset on this tick.
+	 * @param prevOffset Offset on the tick before.
+	 * @param alpha      Interpolation amount.
+	 * @return Amount to move things back by.
+	 */
+	private int cameraLag(int offset, int prevOffset, double alpha) {
+		if (teleported(prevOffset, offset)) {
+			return 0;
+		}
+		return offset - lerp(prevOffset, offset, alpha);
+	}
+
+	/**
+	 * Doubles the size of the enemy arrays.
+	 */
+	private void growEnemies() {
+		final int size = enemies.length * 2;
+		enemies = Arrays.copyOf(enemies, size);
+		enemyFrames = Arrays.copyOf(enemyFrames, size);
+		enemyX = Arrays.copyOf(enemyX, size);
+		enemyY = Arrays.copyOf(enemyY, size);
+		enemyPrevX = Arrays.copyOf(enemyPrevX, size);
+		enemyPrevY = Arrays.copyOf(enemyPrevY, size);
+		enemyAttacking = Arrays.copyOf(enemyAttacking, size);
+	}
+
+	/**
+	 * Linear interpolation between two values.
+	 *
+	 * @param from  Value at alpha 0.
+	 * @param to    Value at alpha 1.
+	 * @param alpha Interpolation amount.
+	 * @return The interpolated value.
+	 */
+	private static int lerp(int from, int to, double alpha) {
+		return (int) Math.round(from + (to - from) * alpha);
+	}
+
+	/**
+	 * Checks if something moved too far in one tick to be interpolated.
+	 *
+	 * @param from Position on the tick before.
+	 * @param to   Position on this tick.
+	 * @return true if it was teleported.
+	 */
+	private static boolean teleported(int from, int to) {
+		return Math.abs(to - from) > MAX_INTERPOLATED_MOVE;
+	}
+}
@@ -81,6 +81,11 @@ public abstract class Screen extends JPanel {
 	 */
 	protected BufferedImage backgroundImage;
 
+	/**
+	 * Draws the background image, only scaled again when the panel changes size.
+	 */
+	protected final BackgroundLayer background = new BackgroundLayer();
+
 	/**
 	 * Current panel being shown.
 	 */
@@ -294,7 +299,7 @@ public abstract class Screen extends JPanel {
 			@Override
 			protected void paintComponent(Graphics g) {
 				super.paintComponent(g);
-				g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+				background.draw(g, backgroundImage, getWidth(), getHeight());
 			}
 		};
 
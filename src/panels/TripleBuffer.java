@@ -0,0 +1,188 @@
+package panels;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A lock-free triple buffer used to hand data from one writer thread to one
+ * reader thread. The writer fills the back buffer and publishes it, the reader
+ * takes the newest published buffer. Neither side ever waits on the other, and
+ * a buffer the reader is holding is never written to.
+ * </p>
+ *
+ * <p>
+ * The three buffers are made once and reused, so nothing is allocated while
+ * the game is running.
+ * </p>
+ *
+ * @param <T> Type of data stored in each buffer.
+ *
+ * @since October 19, 2026
+ *
+ * @see RenderSnapshot
+ */
+public class TripleBuffer<T> {
+
+	/** Bit set in middle when it holds a buffer the reader hasn't seen yet. */
+	private static final int FRESH = 4;
+
+	/** Mask used to get the buffer index out of middle. */
+	private static final int INDEX_MASK = 3;
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		final TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+
+		// Nothing has been published yet
+		if (buffer.hasFresh()) {
+			System.err.println("Buffer said it had fresh data before anything was published!");
+			allPassed = false;
+		}
+
+		buffer.back()[0] = 1;
+		buffer.publish();
+		if (!buffer.hasFresh() || buffer.acquire()[0] != 1) {
+			System.err.println("Reader didn't get the published value!");
+			allPassed = false;
+		}
+
+		// Publishing twice before reading should only give the newest value
+		buffer.back()[0] = 2;
+		buffer.publish();
+		buffer.back()[0] = 3;
+		buffer.publish();
+		final int[] front = buffer.acquire();
+		if (front[0] != 3) {
+			System.err.println("Reader should get the newest value, got " + front[0]);
+			allPassed = false;
+		}
+
+		// The writer should never be handed the buffer the reader is holding
+		if (buffer.back() == front) {
+			System.err.println("Writer was given the buffer the reader is using!");
+			allPassed = false;
+		}
+
+		// Reading again without a publish keeps the same buffer
+		if (buffer.acquire() != front) {
+			System.err.println("Reader lost its buffer without anything new being published!");
+			allPassed = false;
+		}
+
+		// Run a writer and reader thread at the same time, values should only go up
+		final TripleBuffer<long[]> shared = new TripleBuffer<>(() -> new long[2]);
+		final int writes = 200000;
+		final Thread writer = new Thread(() -> {
+			for (long i = 1; i <= writes; i++) {
+				final long[] back = shared.back();
+				back[0] = i;
+				back[1] = -i;
+				shared.publish();
+			}
+		});
+		writer.start();
+		long last = 0;
+		boolean torn = false;
+		boolean backwards = false;
+		while (last < writes) {
+			final long[] read = shared.acquire();
+			if (read[0] != -read[1]) {
+				torn = true;
+			}
+			if (read[0] < last) {
+				backwards = true;
+			}
+			last = read[0];
+		}
+		try {
+			writer.join();
+		} catch (final InterruptedException e) {
+			System.err.println("Interrupted while waiting for writer!");
+		}
+		if (torn) {
+			System.err.println("Reader saw a buffer while it was being written!");
+			allPassed = false;
+		}
+		if (backwards) {
+			System.err.println("Reader saw an older buffer after a newer one!");
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** The three buffers. */
+	private final Object[] buffers = new Object[3];
+
+	/** Index of the buffer the writer is filling. Only used by the writer. */
+	private int back = 0;
+
+	/** Index of the buffer the reader is using. Only used by the reader. */
+	private int front = 2;
+
+	/** Index of the buffer waiting between the two, plus the FRESH bit. */
+	private final AtomicInteger middle = new AtomicInteger(1);
+
+	/**
+	 * Constructs a new TripleBuffer.
+	 *
+	 * @param factory Used to make each of the three buffers.
+	 */
+	public TripleBuffer(Supplier<T> factory) {
+		for (int i = 0; i < buffers.length; i++) {
+			buffers[i] = factory.get();
+		}
+	}
+
+	/**
+	 * Gets the newest published buffer, for the reader. The returned buffer stays
+	 * the same until the next call to acquire.
+	 *
+	 * @return The newest published buffer.
+	 */
+	@SuppressWarnings("unchecked")
+	public T acquire() {
+		if ((middle.get() & FRESH) != 0) {
+			front = middle.getAndSet(front) & INDEX_MASK;
+		}
+		return (T) buffers[front];
+	}
+
+	/**
+	 * Gets the buffer the writer should fill next.
+	 *
+	 * @return The back buffer.
+	 */
+	@SuppressWarnings("unchecked")
+	public T back() {
+		return (T) buffers[back];
+	}
+
+	/**
+	 * Checks if a buffer has been published that the reader hasn't taken yet.
+	 *
+	 * @return true if there is fresh data to read.
+	 */
+	public boolean hasFresh() {
+		return (middle.get() & FRESH) != 0;
+	}
+
+	/**
+	 * Publishes the back buffer so the reader can take it, and gives the writer a
+	 * new back buffer.
+	 */
+	public void publish() {
+		back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+	}
+}
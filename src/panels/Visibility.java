@@ -4,10 +4,14 @@ import java.awt.Color;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.RadialGradientPaint;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.geom.GeneralPath;
+import java.awt.image.BufferedImage;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -23,6 +27,15 @@ import gameTools.GameVariables;
  * maze.
  * </p>
  *
+ * <p>
+ * Filling the screen with the gradient is slow, so the gradient circle is drawn
+ * into an image once for each radius step and kept in a
+ * {@link VisionMaskCache}. The images are a quarter of the screen size, so
+ * every radius step fits in the cache, and are stretched when drawn. The
+ * gradient is smooth so it looks the same, only the edge of the circle is a
+ * little more blocky.
+ * </p>
+ *
  * @author Nick Clouse
  * @author Andrew Denegar
  * @author Molly O'Connor
@@ -33,6 +46,15 @@ import gameTools.GameVariables;
  */
 public class Visibility implements GameVariables {
 
+	/** The vision images are this many times smaller than the screen. */
+	private static final int MASK_SCALE = 4;
+
+	/** Number of pixels of radius each vision image covers. */
+	private static final int MASK_STEP = 4;
+
+	/** Most bytes the vision images can use. */
+	private static final long MASK_BYTES = 32L * 1024 * 1024;
+
 	/**
 	 * The current instance of Visibility.
 	 */
@@ -173,7 +195,13 @@ public class Visibility implements GameVariables {
 	private final int startingRadius = 600;
 
 	/** radius that will be updated and used to draw the circle. */
-	private int radius = startingRadius;
+	private volatile int radius = startingRadius;
+
+	/** Radius the current GeneralPaths and gradient were made with. */
+	private int builtRadius = -1;
+
+	/** Images of the gradient circle for each radius step. */
+	private final VisionMaskCache masks = new VisionMaskCache(MASK_STEP, MASK_BYTES, this::renderMask);
 
 	/**
 	 * Stores the right side of the visibility shape. They are split into two sides
@@ -194,6 +222,17 @@ public class Visibility implements GameVariables {
 	 * path for each side.
 	 */
 	public void createVis() {
+		createVis(radius);
+	}
+
+	/**
+	 * Makes a new General path for each side using the given radius.
+	 *
+	 * @param radius Radius of the visibility circle.
+	 */
+	public void createVis(int radius) {
+		builtRadius = radius;
+
 		// Drawing the right side
 		rightSide = new GeneralPath();
 		// Move to the starting point (top point)
@@ -267,6 +306,90 @@ public class Visibility implements GameVariables {
 		g2d.fill(leftSide);
 	}
 
+	/**
+	 * Draws the visibility circle with a given radius. The shapes are only rebuilt
+	 * when the radius changes. Only the render thread should call this.
+	 *
+	 * @param g2d    the graphics to draw on.
+	 * @param radius Radius of the visibility circle.
+	 */
+	public void drawVision(Graphics2D g2d, int radius) {
+		drawVision(g2d, radius, true);
+	}
+
+	/**
+	 * Draws the visibility circle with a given radius. The gradient circle is
+	 * drawn from a cached image. Without the gradient the circle has a hard edge,
+	 * which is cheap to fill, so its shapes are filled directly and only rebuilt
+	 * when the radius changes. Only the render thread should call this.
+	 *
+	 * @param g2d      the graphics to draw on.
+	 * @param radius   Radius of the visibility circle.
+	 * @param gradient true to fade the edge of the circle with a gradient.
+	 */
+	public void drawVision(Graphics2D g2d, int radius, boolean gradient) {
+		if (gradient) {
+			// Nearest neighbor stretching is a fast blit, smoothing would cost as much as
+			// filling the gradient
+			final Object interpolation = g2d.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+			g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+					RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+			g2d.drawImage(masks.get(radius), 0, 0, SCREEN_WIDTH, SCREEN_HEIGHT, null);
+			if (interpolation != null) {
+				g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+			}
+			return;
+		}
+		if (radius != builtRadius) {
+			createVis(radius);
+		}
+		g2d.setPaint(Color.BLACK);
+		g2d.fill(rightSide);
+		g2d.fill(leftSide);
+	}
+
+	/**
+	 * Gets the cache of gradient circle images.
+	 *
+	 * @return The cache.
+	 */
+	public VisionMaskCache getMasks() {
+		return masks;
+	}
+
+	/**
+	 * Draws the gradient circle for a radius into a new translucent image, a
+	 * quarter of the screen size. Used by the mask cache.
+	 *
+	 * @param radius Radius of the visibility circle.
+	 * @return The image.
+	 */
+	private BufferedImage renderMask(int radius) {
+		final int width = SCREEN_WIDTH / MASK_SCALE;
+		final int height = SCREEN_HEIGHT / MASK_SCALE;
+		final BufferedImage mask = GraphicsEnvironment.isHeadless()
+				? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+				: GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+						.getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		createVis(radius);
+		final Graphics2D g = mask.createGraphics();
+		g.scale(1.0 / MASK_SCALE, 1.0 / MASK_SCALE);
+		g.setPaint(p);
+		g.fill(rightSide);
+		g.fill(leftSide);
+		g.dispose();
+		return mask;
+	}
+
+	/**
+	 * Gets the current radius of the visibility circle.
+	 *
+	 * @return The current radius.
+	 */
+	public int getRadius() {
+		return radius;
+	}
+
 	/**
 	 * Resets radius and decreaseAmount to default values.
 	 */
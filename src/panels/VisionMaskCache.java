@@ -0,0 +1,216 @@
+package panels;
+
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * <p>
+ * VisionMaskCache keeps images of the visibility circle, one for each radius
+ * step, so the circle only has to be filled with its gradient once per step
+ * instead of once per frame. The radius always shrinks through the same values
+ * when the player dies, so the images are kept and reused on the next death.
+ * </p>
+ *
+ * <p>
+ * The cache never holds more than a set number of bytes. When it's full, new
+ * images are still made but aren't kept. Images already in the cache are never
+ * thrown away: every death goes through the radii in the same order, so
+ * throwing away old images to make room (like a least recently used cache)
+ * would mean none of them are left by the next death. Testing is found in the
+ * main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see Visibility
+ */
+public class VisionMaskCache {
+
+	/**
+	 * Finds about how many bytes an image uses, assuming 4 bytes per pixel.
+	 *
+	 * @param image The image.
+	 * @return Bytes used.
+	 */
+	private static long sizeOf(BufferedImage image) {
+		return 4L * image.getWidth() * image.getHeight();
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		final int[] rendered = { 0 };
+		final IntFunction<BufferedImage> renderer = radius -> {
+			rendered[0]++;
+			return new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+		};
+		// Each image is 400 bytes, so three fit
+		final VisionMaskCache cache = new VisionMaskCache(4, 1200, renderer);
+
+		// Radii in the same step share an image
+		final BufferedImage first = cache.get(100);
+		if (cache.get(101) != first || rendered[0] != 1) {
+			System.err.println("Radii in the same step should share one image!");
+			allPassed = false;
+		}
+		if (cache.bucket(101) != 100 || cache.bucket(103) != 104 || cache.bucket(1) != 4) {
+			System.err.println("Radii were put in the wrong steps!");
+			allPassed = false;
+		}
+
+		// Going over the budget doesn't keep the new image
+		cache.get(200);
+		cache.get(300);
+		cache.get(400);
+		if (cache.getSize() != 3 || cache.getBytes() > 1200) {
+			System.err.println("Cache went over its budget, it holds " + cache.getBytes() + " bytes");
+			allPassed = false;
+		}
+
+		// Going through the same radii again (the next death) reuses the kept images
+		int before = rendered[0];
+		for (final int radius : new int[] { 100, 200, 300 }) {
+			cache.get(radius);
+		}
+		if (rendered[0] != before) {
+			System.err.println("Kept images were made again!");
+			allPassed = false;
+		}
+		before = rendered[0];
+		cache.get(400);
+		if (rendered[0] != before + 1) {
+			System.err.println("An image that didn't fit should be made again!");
+			allPassed = false;
+		}
+		if (cache.getHits() == 0 || cache.getMisses() != rendered[0]) {
+			System.err.println("Hits and misses weren't counted right!");
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Images for each radius step. */
+	private final Map<Integer, BufferedImage> masks = new HashMap<>();
+
+	/** Most bytes the images can use. */
+	private final long maxBytes;
+
+	/** Makes the image for a radius. */
+	private final IntFunction<BufferedImage> renderer;
+
+	/** Number of pixels of radius each image covers. */
+	private final int step;
+
+	/** Bytes used by the images in the cache. */
+	private long bytes = 0;
+
+	/** Number of times an image was found in the cache. */
+	private long hits = 0;
+
+	/** Number of times an image had to be made. */
+	private long misses = 0;
+
+	/**
+	 * Constructs a new VisionMaskCache.
+	 *
+	 * @param step     Number of pixels of radius each image covers.
+	 * @param maxBytes Most bytes the images can use.
+	 * @param renderer Makes the image for a radius.
+	 */
+	public VisionMaskCache(int step, long maxBytes, IntFunction<BufferedImage> renderer) {
+		this.step = Math.max(1, step);
+		this.maxBytes = maxBytes;
+		this.renderer = renderer;
+	}
+
+	/**
+	 * Finds the radius step a radius belongs to. Radii are rounded to the nearest
+	 * step, but never down to 0.
+	 *
+	 * @param radius Radius of the visibility circle.
+	 * @return The radius the image is made with.
+	 */
+	public int bucket(int radius) {
+		return Math.max(step, Math.round((float) radius / step) * step);
+	}
+
+	/**
+	 * Empties the cache.
+	 */
+	public void clear() {
+		masks.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * Gets the image for a radius, making it if it isn't in the cache. Only the
+	 * render thread should call this.
+	 *
+	 * @param radius Radius of the visibility circle.
+	 * @return The image for the radius step.
+	 */
+	public BufferedImage get(int radius) {
+		final int key = bucket(radius);
+		BufferedImage mask = masks.get(key);
+		if (mask != null) {
+			hits++;
+			return mask;
+		}
+		misses++;
+		mask = renderer.apply(key);
+		final long size = sizeOf(mask);
+		if (bytes + size <= maxBytes) {
+			masks.put(key, mask);
+			bytes += size;
+		}
+		return mask;
+	}
+
+	/**
+	 * Gets the number of bytes used by the images in the cache.
+	 *
+	 * @return Bytes used.
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Gets the number of times an image was found in the cache.
+	 *
+	 * @return Number of hits.
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Gets the number of times an image had to be made.
+	 *
+	 * @return Number of misses.
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Gets the number of images in the cache.
+	 *
+	 * @return Number of images.
+	 */
+	public int getSize() {
+		return masks.size();
+	}
+}
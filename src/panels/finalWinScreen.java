@@ -5,16 +5,15 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 import javax.swing.WindowConstants;
 
+import gameTools.AssetLoader;
 import main.Main;
 
 /**
@@ -73,8 +72,8 @@ public class finalWinScreen extends Screen {
 	public finalWinScreen() {
 		// Load the images
 		try {
-			notAddedBackground = ImageIO.read(new File("images/winnerNoScoreboard.png"));
-			addedBackground = ImageIO.read(new File("images/winnerYesScoreboard.png"));
+			notAddedBackground = AssetLoader.getInstance().load("images/winnerNoScoreboard.png");
+			addedBackground = AssetLoader.getInstance().load("images/winnerYesScoreboard.png");
 		} catch (final IOException e) {
 			System.err.println("Failed to load game over screen background image(s)!");
 		}
@@ -107,7 +106,7 @@ public class finalWinScreen extends Screen {
 					backgroundImage = notAddedBackground;
 				}
 				super.paintComponent(g);
-				g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+				background.draw(g, backgroundImage, getWidth(), getHeight());
 			}
 		};
 
@@ -0,0 +1,205 @@
+package sprites;
+
+import java.awt.image.BufferedImage;
+
+import gameTools.GameVariables;
+
+/**
+ * <p>
+ * AnimationClock keeps track of where one character is in its animation. It
+ * only stores a state, a frame number and the time spent on that frame, the
+ * frames themselves are looked up in a shared {@link SpriteAtlas}. Time is
+ * measured in milliseconds, so animations play at the same speed at any tick
+ * rate.
+ * </p>
+ *
+ * <p>
+ * When the state changes the animation starts again from the first frame,
+ * unless it is started part way through with
+ * {@link #start(SpriteAtlas, State, double)}. Testing is found in the main
+ * method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see SpriteAtlas
+ */
+public class AnimationClock implements GameVariables {
+
+	/** Allowed error when comparing times, so rounding doesn't hold a frame too long. */
+	private static final double EPSILON = 1e-6;
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		final SpriteAtlas.Builder builder = new SpriteAtlas.Builder(100);
+		for (int i = 0; i < 3; i++) {
+			builder.add(State.Idle, new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+		}
+		for (int i = 0; i < 4; i++) {
+			builder.add(State.Dead, new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+		}
+		final SpriteAtlas atlas = builder.build();
+
+		// Six ticks at 60 ticks a second is one 100 ms frame
+		final AnimationClock clock = new AnimationClock();
+		final double tick = 1000.0 / 60;
+		for (int i = 0; i < 5; i++) {
+			clock.advance(atlas, State.Idle, tick);
+		}
+		if (clock.getFrame() != 0) {
+			System.err.println("Frame changed too early!");
+			allPassed = false;
+		}
+		clock.advance(atlas, State.Idle, tick);
+		if (clock.getFrame() != 1) {
+			System.err.println("Frame should have changed after 100 ms, it's " + clock.getFrame());
+			allPassed = false;
+		}
+
+		// The same amount of time at 240 ticks a second lands on the same frame
+		final AnimationClock fast = new AnimationClock();
+		for (int i = 0; i < 24; i++) {
+			fast.advance(atlas, State.Idle, 1000.0 / 240);
+		}
+		if (fast.getFrame() != 1) {
+			System.err.println("Animation speed changed with the tick rate!");
+			allPassed = false;
+		}
+
+		// Changing state starts the animation over
+		clock.advance(atlas, State.Dead, tick);
+		if (clock.getFrame() != 0 || clock.getLoops() != 0) {
+			System.err.println("Changing state didn't restart the animation!");
+			allPassed = false;
+		}
+
+		// Playing every frame once counts as one loop
+		for (int i = 0; i < 4 * 6; i++) {
+			clock.advance(atlas, State.Dead, tick);
+		}
+		if (clock.getLoops() != 1) {
+			System.err.println("Animation should have looped once, but looped " + clock.getLoops() + " times");
+			allPassed = false;
+		}
+
+		// Starting part way through skips frames without counting a loop
+		final AnimationClock offset = new AnimationClock();
+		offset.start(atlas, State.Idle, 450);
+		if (offset.getState() != State.Idle || offset.getFrame() != 1 || offset.getLoops() != 0) {
+			System.err.println("Starting 450 ms in should show frame 1, but it's " + offset.getFrame());
+			allPassed = false;
+		}
+		offset.advance(atlas, State.Idle, 50);
+		if (offset.getFrame() != 2) {
+			System.err.println("The time left over from the start offset was lost!");
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** State the animation is playing. */
+	private State state = null;
+
+	/** Frame number being shown. */
+	private int frame = 0;
+
+	/** Time spent on the current frame, in milliseconds. */
+	private double elapsedMillis = 0;
+
+	/** Number of times the animation has played all the way through. */
+	private int loops = 0;
+
+	/**
+	 * Moves the animation forward.
+	 *
+	 * @param atlas  Atlas the frames come from.
+	 * @param state  State the character is in.
+	 * @param millis Time that passed, in milliseconds.
+	 */
+	public void advance(SpriteAtlas atlas, State state, double millis) {
+		if (state != this.state) {
+			start(atlas, state, 0);
+		}
+		elapsedMillis += millis;
+
+		final int frameMillis = atlas.getFrameMillis(state);
+		final int frameCount = atlas.getFrameCount(state);
+		while (elapsedMillis + EPSILON >= frameMillis) {
+			elapsedMillis -= frameMillis;
+			frame++;
+			if (frameCount > 0 && frame >= frameCount) {
+				frame = 0;
+				loops++;
+			}
+		}
+	}
+
+	/**
+	 * Gets the state the animation is playing.
+	 *
+	 * @return The state, null if the animation hasn't started.
+	 */
+	public State getState() {
+		return state;
+	}
+
+	/**
+	 * Gets the frame number being shown.
+	 *
+	 * @return The frame number.
+	 */
+	public int getFrame() {
+		return frame;
+	}
+
+	/**
+	 * Gets the number of times the animation has played all the way through since
+	 * it last started.
+	 *
+	 * @return Number of loops.
+	 */
+	public int getLoops() {
+		return loops;
+	}
+
+	/**
+	 * Starts playing a state part way through its animation. The offset wraps
+	 * around the length of the animation and doesn't count as a loop.
+	 *
+	 * @param atlas       Atlas the frames come from.
+	 * @param state       State to play.
+	 * @param startMillis Time into the animation to start at, in milliseconds.
+	 */
+	public void start(SpriteAtlas atlas, State state, double startMillis) {
+		this.state = state;
+		restart();
+
+		final int frameMillis = atlas.getFrameMillis(state);
+		final int frameCount = atlas.getFrameCount(state);
+		if (frameCount > 0 && startMillis > 0) {
+			elapsedMillis = startMillis % ((double) frameMillis * frameCount);
+			frame = (int) (elapsedMillis / frameMillis);
+			elapsedMillis -= (double) frame * frameMillis;
+		}
+	}
+
+	/**
+	 * Starts the animation over from the first frame.
+	 */
+	public void restart() {
+		frame = 0;
+		elapsedMillis = 0;
+		loops = 0;
+	}
+}
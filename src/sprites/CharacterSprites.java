@@ -0,0 +1,308 @@
+package sprites;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+import gameTools.AssetLoader;
+import gameTools.GameVariables;
+
+/**
+ * <p>
+ * CharacterSprites holds the images of one playable character. Each state's
+ * sprite sheet is only loaded the first time that state is needed, or in the
+ * background once the character is picked, so only characters that are
+ * actually played use memory for their full set of images. Sheets are cut into
+ * frames and then dropped from the {@link AssetLoader} cache, the frames are
+ * the only copy kept.
+ * </p>
+ *
+ * <p>
+ * The most recently used characters are kept (see {@link #RECENT_CHARACTERS}),
+ * so playing again with the same character doesn't load it again. The home
+ * screen only needs {@link #preview(String)}, one small frame per character.
+ * Testing is found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see Player
+ */
+public final class CharacterSprites implements GameVariables {
+
+	/** Number of characters kept after they stop being used. */
+	public static final int RECENT_CHARACTERS = 2;
+
+	/** Location of the character sprite sheets. */
+	private static final String FILE_LOCATION = "images/";
+
+	/** Number of frames across every sheet. */
+	private static final int SHEET_WIDTH = 4;
+
+	/** Number of frames down the Idle sheet. */
+	private static final int IDLE_HEIGHT = 2;
+
+	/** Number of frames down the Move and Attack sheets. */
+	private static final int MOVE_HEIGHT = 8;
+
+	/** How long each frame is shown, in milliseconds. */
+	private static final int FRAME_MILLIS = 100;
+
+	/** Recently used characters, least recently used first. */
+	private static final Map<String, CharacterSprites> recent = new LinkedHashMap<>(4, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CharacterSprites> eldest) {
+			return size() > RECENT_CHARACTERS;
+		}
+	};
+
+	/** Home screen preview frame of each character. */
+	private static final Map<String, BufferedImage> previews = new HashMap<>();
+
+	/** Loads sheets in the background, one at a time. */
+	private static final ExecutorService background = Executors.newSingleThreadExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "character-loader");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Gets the sprites of a character, reusing them if the character was used
+	 * recently. Nothing is loaded until a state is asked for.
+	 *
+	 * @param name Name of the character (Civilian1, Knight1, etc).
+	 * @return The character's sprites.
+	 */
+	public static synchronized CharacterSprites get(String name) {
+		return recent.computeIfAbsent(name, CharacterSprites::new);
+	}
+
+	/**
+	 * Gets the frame shown for a character on the home screen, the first idle
+	 * frame facing south. Only that one frame is cut from the sheet.
+	 *
+	 * @param name Name of the character.
+	 * @return The frame, or null if the sheet couldn't be loaded.
+	 */
+	public static synchronized BufferedImage preview(String name) {
+		if (previews.containsKey(name)) {
+			return previews.get(name);
+		}
+		BufferedImage frame = null;
+		final String path = sheetPath(name, State.Idle);
+		try {
+			final BufferedImage sheet = AssetLoader.getInstance().load(path);
+			final int width = sheet.getWidth() / SHEET_WIDTH;
+			final int height = sheet.getHeight() / IDLE_HEIGHT;
+			// Facings are in order along the sheet, one idle frame each
+			final int index = Facing.S.ordinal();
+			frame = SpriteAtlas.compatible(sheet.getSubimage(index % SHEET_WIDTH * width,
+					index / SHEET_WIDTH * height, width, height));
+			AssetLoader.getInstance().evict(path);
+		} catch (final IOException e) {
+			System.err.println("Image not found at '" + path + "'");
+		}
+		previews.put(name, frame);
+		return frame;
+	}
+
+	/**
+	 * Checks if an image is one of the character sprite sheets. These are loaded
+	 * on demand, so they shouldn't be preloaded.
+	 *
+	 * @param path Path to the image.
+	 * @return true if the image is a character sprite sheet.
+	 */
+	public static boolean isCharacterSheet(String path) {
+		final File file = new File(path);
+		if (!new File(FILE_LOCATION).equals(file.getParentFile())) {
+			return false;
+		}
+		final String name = file.getName();
+		for (final State state : State.values()) {
+			if (name.contains("_" + state + ".") || name.contains("_" + state + "(")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Finds the sheet for a state. Characters other than Knight1 hold a weapon.
+	 *
+	 * @param name  Name of the character.
+	 * @param state The state.
+	 * @return Path to the sheet.
+	 */
+	private static String sheetPath(String name, State state) {
+		if (state != State.Dead && !name.equals("Knight1")) {
+			return FILE_LOCATION + name + "_" + state + "(Weapon1)" + ".png";
+		}
+		return FILE_LOCATION + name + "_" + state + ".png";
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		if (!isCharacterSheet("images/Knight1_Idle.png") || !isCharacterSheet("images/Civilian1_Move(weapon1).png")
+				|| isCharacterSheet("images/HomeScreen.png") || isCharacterSheet("Textures/Ghost/Ghost_Idle.png")) {
+			System.err.println("Character sheets weren't told apart from other images!");
+			allPassed = false;
+		}
+
+		// Only the most recent characters are kept
+		final CharacterSprites first = get("Knight1");
+		get("Civilian1");
+		if (get("Knight1") != first) {
+			System.err.println("A recently used character wasn't kept!");
+			allPassed = false;
+		}
+		get("Civilian2");
+		get("Civilian1(black)");
+		if (get("Knight1") == first) {
+			System.err.println("The least recently used character should have been dropped!");
+			allPassed = false;
+		}
+
+		// Nothing is loaded until it's asked for
+		final CharacterSprites knight = get("Knight1");
+		if (knight.isLoaded(State.Idle) || knight.isLoaded(State.Move)) {
+			System.err.println("States were loaded before they were asked for!");
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Name of the character. */
+	private final String name;
+
+	/** Loads of each state, made the first time the state is asked for. */
+	private final Map<State, FutureTask<SpriteCache>> states = new EnumMap<>(State.class);
+
+	/**
+	 * Constructs a new CharacterSprites, use {@link #get(String)} to get one.
+	 *
+	 * @param name Name of the character.
+	 */
+	private CharacterSprites(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Gets the frames of a state, loading its sheet if it hasn't been loaded yet.
+	 * If the sheet is already being loaded in the background, this waits for it.
+	 *
+	 * @param state The state.
+	 * @return The state's frames, scaled when they are drawn. The atlas has no
+	 *         frames for the state if its sheet couldn't be loaded.
+	 */
+	public SpriteCache get(State state) {
+		final FutureTask<SpriteCache> task = task(state);
+		task.run();
+		try {
+			return task.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return new SpriteCache(new SpriteAtlas.Builder(FRAME_MILLIS).build());
+		} catch (final ExecutionException e) {
+			throw new IllegalStateException("Loading " + name + " " + state + " failed", e.getCause());
+		}
+	}
+
+	/**
+	 * Checks if a state has finished loading.
+	 *
+	 * @param state The state.
+	 * @return true if the state's frames are ready.
+	 */
+	public synchronized boolean isLoaded(State state) {
+		final FutureTask<SpriteCache> task = states.get(state);
+		return task != null && task.isDone();
+	}
+
+	/**
+	 * Loads every state that isn't loaded yet on a background thread, Idle first.
+	 *
+	 * @return Completes once every state is loaded.
+	 */
+	public CompletableFuture<Void> loadInBackground() {
+		return CompletableFuture.runAsync(() -> {
+			for (final State state : State.values()) {
+				get(state);
+			}
+		}, background);
+	}
+
+	/**
+	 * Gets the load task of a state, making it if the state hasn't been asked for.
+	 *
+	 * @param state The state.
+	 * @return The load task.
+	 */
+	private synchronized FutureTask<SpriteCache> task(State state) {
+		return states.computeIfAbsent(state, s -> new FutureTask<>(() -> load(s)));
+	}
+
+	/**
+	 * Loads the sheet of a state and cuts it into frames. The Dead image is one
+	 * frame used for every direction.
+	 *
+	 * @param state The state.
+	 * @return The state's frames.
+	 */
+	private SpriteCache load(State state) {
+		final SpriteAtlas.Builder builder = new SpriteAtlas.Builder(FRAME_MILLIS);
+		final String path = sheetPath(name, state);
+		final BufferedImage sheet;
+		try {
+			sheet = AssetLoader.getInstance().load(path);
+		} catch (final IOException e) {
+			System.err.println("Image not found at '" + path + "'");
+			return new SpriteCache(builder.build());
+		}
+
+		if (state == State.Dead) {
+			builder.add(State.Dead, sheet);
+		} else {
+			final int rows = state == State.Idle ? IDLE_HEIGHT : MOVE_HEIGHT;
+			final int width = sheet.getWidth() / SHEET_WIDTH;
+			final int height = sheet.getHeight() / rows;
+			final int framesPerFacing = SHEET_WIDTH * rows / Facing.values().length;
+
+			// Each facing's frames follow the last facing's along the sheet
+			int count = 0;
+			for (int y = 0; y < rows; y++) {
+				for (int x = 0; x < SHEET_WIDTH; x++) {
+					final Facing facing = Facing.values()[count / framesPerFacing];
+					builder.add(state, facing,
+							SpriteAtlas.compatible(sheet.getSubimage(x * width, y * height, width, height)));
+					count++;
+				}
+			}
+			// The frames are copies, so the sheet isn't needed anymore
+			AssetLoader.getInstance().evict(path);
+		}
+		return new SpriteCache(builder.build());
+	}
+}
@@ -7,7 +7,7 @@ import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import javax.swing.JFrame;
@@ -17,9 +17,9 @@ import javax.swing.WindowConstants;
 import chunks.Chunk;
 import chunks.ChunkManager;
 import gameTools.CollisionDetection;
+import gameTools.GameEvents;
 import gameTools.GameVariables;
-import main.Main;
-import panels.GamePanel;
+import gameTools.TickClock;
 
 /**
  *
@@ -70,7 +70,8 @@ public abstract class Enemy implements GameVariables {
 			final Graphics2D g2d = (Graphics2D) g;
 
 			for (final Enemy drawable : drawables) {
-				drawable.draw(g2d);
+				drawable.drawFrame(g2d, drawable.getFrame(), ChunkManager.xOffset + drawable.position_x,
+						ChunkManager.yOffset + drawable.position_y, drawable.currentFrameAttacking);
 			}
 		}
 	}
@@ -89,8 +90,17 @@ public abstract class Enemy implements GameVariables {
 	/** Conversion is a constant used to resize our enemy to our liking */
 	private static final int IMAGESIZECONVERSION = 2;
 
-	/** How many times the enemy is drawn before the next image is selected . */
-	protected static final int DRAW_FRAMES = 5;
+	/** Seconds added to the clock when an enemy is killed. */
+	private static final int KILL_TIME_BONUS = 15;
+
+	/** How long each image of the enemy is shown, in milliseconds. */
+	protected static final int FRAME_MILLIS = 100;
+
+	/**
+	 * Used to pick where each enemy starts its looping animations, so a room full
+	 * of enemies doesn't move in step.
+	 */
+	private static final Random PHASE_RANDOM = new Random();
 	/**
 	 * How close the player can get to the enemy horizontally before it goes towards
 	 * the player.
@@ -171,6 +181,47 @@ public abstract class Enemy implements GameVariables {
 		final Enemy casper = ghostCreator.createEnemy(110, 10);
 		final Enemy gandalf = mageCreator.createEnemy(110, 110);
 
+		boolean allPassed = true;
+
+		// Testing that enemies sharing a factory animate on their own
+		final Enemy[] crowd = new Enemy[20];
+		for (int i = 0; i < crowd.length; i++) {
+			crowd[i] = ghostCreator.createEnemy(0, 0);
+		}
+		final int deadOne = 7;
+		crowd[deadOne].subtractHitCount(crowd[deadOne].getHitCount());
+		final int tickRate = TickClock.getInstance().getTickRate();
+		// The death animation is 4 images long, so it should last 400 ms no matter
+		// how many other ghosts are animating
+		final int deathTicks = (int) Math.ceil(4 * FRAME_MILLIS * tickRate / 1000.0);
+		int removedAfter = -1;
+		for (int tick = 1; tick <= deathTicks * 2 && removedAfter < 0; tick++) {
+			for (int i = 0; i < crowd.length; i++) {
+				final boolean remove = crowd[i].animate();
+				if (remove && i != deadOne) {
+					System.err.println("A living ghost said it should be removed!");
+					allPassed = false;
+				} else if (remove) {
+					removedAfter = tick;
+				}
+			}
+		}
+		if (Math.abs(removedAfter - deathTicks) > 1) {
+			System.err.println("Dead ghost should be removed after " + deathTicks + " ticks, but it was after "
+					+ removedAfter);
+			allPassed = false;
+		}
+
+		// Animating one ghost shouldn't move another ghost's animation
+		final int before = spooky.animClock.getFrame();
+		for (int tick = 0; tick < tickRate; tick++) {
+			casper.animate();
+		}
+		if (spooky.animClock.getFrame() != before) {
+			System.err.println("Animating one ghost changed another ghost's animation!");
+			allPassed = false;
+		}
+
 		// Create JFrame and DrawingPanel to test our enemy drawing and image loading.
 		final JFrame frame = new JFrame("Drawing Application");
 		final DrawingPanel panel = new DrawingPanel();
@@ -188,8 +239,6 @@ public abstract class Enemy implements GameVariables {
 		frame.setLocationRelativeTo(null); // Center the window
 		frame.setVisible(true);
 
-		boolean allPassed = true;
-
 		// Load the 0 level, it'll create two enemies
 		final ChunkManager cmanager = ChunkManager.getInstance();
 		cmanager.loadLevel(0, 0);
@@ -409,10 +458,40 @@ public abstract class Enemy implements GameVariables {
 	private final int maxKnockbackCount = 10;
 
 	/**
-	 * attackCount keeps track of the number of frames that have passed since
-	 * attacking has started.
+	 * Left edge of the path the enemy roams along, learned when it turns around at
+	 * a wall.
+	 */
+	private int roamMinX = Integer.MIN_VALUE;
+
+	/**
+	 * Right edge of the path the enemy roams along, learned when it turns around
+	 * at a wall.
 	 */
-	protected int attackCount = 0;
+	private int roamMaxX = Integer.MAX_VALUE;
+
+	/** Most roaming steps taken when catching up without a known roaming path. */
+	private static final int MAX_CATCH_UP_STEPS = 16;
+
+	/** Turns x movement per reference tick into movement for this tick. */
+	private final TickClock.Accumulator xMover = new TickClock.Accumulator();
+
+	/** Turns y movement per reference tick into movement for this tick. */
+	private final TickClock.Accumulator yMover = new TickClock.Accumulator();
+
+	/** Last tick EnemyLOD simulated this enemy on. */
+	int lastUpdateTick = 0;
+
+	/** Last tick EnemyLOD checked this enemy's tier on. */
+	int lodStamp = 0;
+
+	/** The simulation tier EnemyLOD put this enemy in, null if never checked. */
+	EnemyLOD.Tier lodTier = null;
+
+	/** Where the enemy is in its animation. */
+	protected final AnimationClock animClock = new AnimationClock();
+
+	/** How far into the idle and move animations this enemy starts, in milliseconds. */
+	protected final double phaseMillis = PHASE_RANDOM.nextDouble() * FRAME_MILLIS * 10;
 
 	/** Set initial state. */
 	protected Facing currentFacing = Facing.E;
@@ -432,35 +511,29 @@ public abstract class Enemy implements GameVariables {
 	 */
 	protected int[][] DELTAS;
 
-	/**
-	 * draw count keeps track of how many times draw has been called before
-	 * switching to the next image in the list.
-	 */
-	protected int drawCount = 0;
+	/** Image the enemy is currently showing, set each tick by animate. */
+	protected BufferedImage currentFrame;
+
+	/** If currentFrame is an attack image. */
+	protected boolean currentFrameAttacking = false;
+
 	/**
 	 * Keeps track of if facing is locked.
 	 */
 	protected boolean facingLocked = false;
 
-	/**
-	 * Holds the final death image which will be used to end the enemy death
-	 * animation.
-	 */
-	protected BufferedImage finalDeathImage;
-
 	/** Height of enemy. */
 	protected int HEIGHT;
 
 	/**
-	 * Holds all Buffered images for each state. Images do not change based on,
-	 * 'Facing' except for being flipped left and right.
+	 * Holds all images for each state, shared by every enemy of the same type.
+	 * Images do not change based on 'Facing' except for being flipped left and
+	 * right.
 	 */
-	protected Map<State, List<BufferedImage>> images;
+	protected SpriteAtlas atlas;
 
-	/**
-	 * Number of attacking images.
-	 */
-	protected int NUMATTACKINGIMAGES;
+	/** The atlas images scaled to the size they're drawn at. */
+	protected SpriteCache sprites;
 
 	/**
 	 * Padding used when attacking, attacking images are slightly different sizes.
@@ -507,6 +580,43 @@ public abstract class Enemy implements GameVariables {
 		return CollisionDetection.getCollision(playerXCoords, playerYCoords, otherXCoords, otherYCoords);
 	}
 
+	/**
+	 * Fast forwards an enemy that hasn't been simulated for a number of ticks. If
+	 * the enemy knows the path it roams along, it is placed where it would be after
+	 * walking back and forth along it. Otherwise it roams a few steps if its chunk
+	 * is loaded, or stays asleep where it is.
+	 *
+	 * @param ticks Number of ticks the enemy missed.
+	 */
+	public void catchUp(int ticks) {
+		if (ticks <= 0 || currentState == State.Dead) {
+			return;
+		}
+		if (knockback) {
+			resetKnockback();
+		}
+
+		if (roamMinX < roamMaxX && roamMinX != Integer.MIN_VALUE && roamMaxX != Integer.MAX_VALUE) {
+			// Walk back and forth between the two edges of the path
+			final int span = roamMaxX - roamMinX;
+			final int clampedX = Math.max(roamMinX, Math.min(roamMaxX, position_x));
+			int phase = roamingSpeed >= 0 ? clampedX - roamMinX : 2 * span - (clampedX - roamMinX);
+			final long distance = Math.round(Math.abs(roamingSpeed) * ticks * TickClock.getInstance().scale());
+			phase = (int) ((phase + distance) % (2L * span));
+			final int speed = Math.abs(roamingSpeed);
+			if (phase <= span) {
+				position_x = roamMinX + phase;
+				roamingSpeed = speed;
+			} else {
+				position_x = roamMinX + 2 * span - phase;
+				roamingSpeed = -speed;
+			}
+			changeState(roamingSpeed, 0);
+		} else if (inActiveChunk()) {
+			roam(Math.min(ticks, MAX_CATCH_UP_STEPS));
+		}
+	}
+
 	/**
 	 * Changes state and direction of Enemy depending on values of x and y. If x and
 	 * y both don't equal 0, then the enemy is moving, else, it's idle. If s is
@@ -533,60 +643,91 @@ public abstract class Enemy implements GameVariables {
 	}
 
 	/**
-	 * Draw the enemy to the screen. Return true if the enemy should be removed from
-	 * the enemy list. This happens when the death animation moves through a full
-	 * loop of the death images.
+	 * Moves the enemy's animation forward by one tick and stores the image that
+	 * should be shown. Return true if the enemy should be removed from the enemy
+	 * list. This happens when the death animation moves through a full loop of the
+	 * death images.
 	 *
-	 * @param g Graphics2D object used for drawing.
 	 * @return true if this enemy should be removed from the enemy list.
 	 */
-	public synchronized boolean draw(Graphics2D g) {
-		// Store position based on movement of the map
-		final int final_x = ChunkManager.xOffset + position_x;
-		final int final_y = ChunkManager.yOffset + position_y;
-		final int attackXAdjustment;
-		final int attackYAdjustment;
-		if (currentState == State.Attack) {
-			attackXAdjustment = PADDING[1] * IMAGESIZECONVERSION;
-			attackYAdjustment = PADDING[0] * IMAGESIZECONVERSION;
-			attackCount++;
-		} else {
-			attackXAdjustment = 0;
-			attackYAdjustment = 0;
-		}
-		if (drawCount < DRAW_FRAMES) { // Draw the current image and increment drawCount
-			if (currentFacing == Facing.E) { // Facing right
-				g.drawImage(images.get(currentState).get(0), final_x + WIDTH + attackXAdjustment,
-						final_y - attackYAdjustment, -(WIDTH + attackXAdjustment * 2), HEIGHT + attackYAdjustment * 2,
-						null);
-			} else { // Facing left
-				g.drawImage(images.get(currentState).get(0), final_x - attackXAdjustment, final_y - attackYAdjustment,
-						WIDTH + attackXAdjustment * 2, HEIGHT + attackYAdjustment * 2, null);
-			}
-			drawCount++;
-		} else { // Draw the same thing as last time, then switch to the next image for next draw
-			final BufferedImage img = images.get(currentState).remove(0);
-			if (currentFacing == Facing.E) { // Facing right
-				g.drawImage(img, final_x + WIDTH + attackXAdjustment, final_y - attackYAdjustment,
-						-(WIDTH + attackXAdjustment * 2), HEIGHT + attackYAdjustment * 2, null);
-			} else { // Facing left
-				g.drawImage(img, final_x - attackXAdjustment, final_y - attackYAdjustment,
-						WIDTH + attackXAdjustment * 2, HEIGHT + attackYAdjustment * 2, null);
-			}
-			images.get(currentState).add(img); // Add the current image to the back of the list.
-			drawCount = 0;
-			if (currentState == State.Dead && img == finalDeathImage) {
-				return true;
-			}
+	public synchronized boolean animate() {
+		currentFrameAttacking = currentState == State.Attack;
+		if (animClock.getState() != currentState) {
+			// Attacks and deaths always play from the start
+			final boolean looping = currentState == State.Idle || currentState == State.Move;
+			animClock.start(atlas, currentState, looping ? phaseMillis : 0);
 		}
-		if (attackCount >= (DRAW_FRAMES + 1) * NUMATTACKINGIMAGES) {
-			attackCount = 0;
+		currentFrame = sprites.get(currentState, currentFacing, animClock.getFrame(),
+				WIDTH + attackXAdjustment(currentFrameAttacking) * 2, HEIGHT + attackYAdjustment(currentFrameAttacking) * 2);
+		animClock.advance(atlas, currentState, 1000.0 / TickClock.getInstance().getTickRate());
+
+		// The enemy is removed once the final death image has been shown
+		final boolean remove = currentState == State.Dead && animClock.getLoops() > 0;
+
+		// The attack is over once every attack image has been shown
+		if (!remove && currentState == State.Attack && animClock.getLoops() > 0) {
 			stateLocked = false;
 			facingLocked = false;
 			currentState = State.Idle;
 		}
 
-		return false;
+		return remove;
+	}
+
+	/**
+	 * Draws an image of the enemy at a spot on the screen. Doesn't change the
+	 * enemy, so it's safe to call from the render thread. Images are mirrored and
+	 * scaled to their final size before they get here, so they are only copied to
+	 * the screen.
+	 *
+	 * @param g         Graphics2D object used for drawing.
+	 * @param frame     The scaled image to draw, nothing is drawn if null.
+	 * @param final_x   X position on the screen.
+	 * @param final_y   Y position on the screen.
+	 * @param attacking If the image is an attack image, they are drawn bigger.
+	 */
+	public void drawFrame(Graphics2D g, BufferedImage frame, int final_x, int final_y, boolean attacking) {
+		if (frame == null) {
+			return;
+		}
+		g.drawImage(frame, final_x - attackXAdjustment(attacking), final_y - attackYAdjustment(attacking), null);
+	}
+
+	/**
+	 * Finds how much wider an image is on each side when attacking, attack images
+	 * are drawn bigger.
+	 *
+	 * @param attacking If the image is an attack image.
+	 * @return The extra width on each side.
+	 */
+	private int attackXAdjustment(boolean attacking) {
+		return attacking ? PADDING[1] * IMAGESIZECONVERSION : 0;
+	}
+
+	/**
+	 * Finds how much taller an image is on each side when attacking, attack images
+	 * are drawn bigger.
+	 *
+	 * @param attacking If the image is an attack image.
+	 * @return The extra height on each side.
+	 */
+	private int attackYAdjustment(boolean attacking) {
+		return attacking ? PADDING[0] * IMAGESIZECONVERSION : 0;
+	}
+
+	/**
+	 * Finds how far the enemy is from the edge of the screen.
+	 *
+	 * @return Distance in pixels between the enemy and the screen, 0 if visible.
+	 */
+	public int distanceFromScreen() {
+		final int tempX = position_x + ChunkManager.xOffset;
+		final int tempY = position_y + ChunkManager.yOffset;
+
+		final int dx = Math.max(0, Math.max(-(tempX + WIDTH), tempX - SCREEN_WIDTH));
+		final int dy = Math.max(0, Math.max(-(tempY + HEIGHT), tempY - SCREEN_HEIGHT));
+
+		return Math.max(dx, dy);
 	}
 
 	/**
@@ -647,6 +788,33 @@ public abstract class Enemy implements GameVariables {
 		return currentState;
 	}
 
+	/**
+	 * Gets the direction the enemy is facing.
+	 *
+	 * @return The direction the enemy is facing.
+	 */
+	public Facing getFacing() {
+		return currentFacing;
+	}
+
+	/**
+	 * Gets the image the enemy is currently showing.
+	 *
+	 * @return The current image, null if the enemy hasn't been animated yet.
+	 */
+	public BufferedImage getFrame() {
+		return currentFrame;
+	}
+
+	/**
+	 * Checks if the image the enemy is currently showing is an attack image.
+	 *
+	 * @return true if the current image is an attack image.
+	 */
+	public boolean isFrameAttacking() {
+		return currentFrameAttacking;
+	}
+
 	/**
 	 * Gets the width of the enemy.
 	 *
@@ -656,6 +824,26 @@ public abstract class Enemy implements GameVariables {
 		return WIDTH;
 	}
 
+	/**
+	 * Checks if the enemy is inside one of the chunks in ChunkManager.activeChunks,
+	 * which are the only chunks walls are checked in.
+	 *
+	 * @return true if the enemy is in an active chunk.
+	 */
+	public boolean inActiveChunk() {
+		final int x = position_x + ChunkManager.xOffset;
+		final int y = position_y + ChunkManager.yOffset;
+		final int[] xCoords = new int[] { x, x + WIDTH, x + WIDTH, x };
+		final int[] yCoords = new int[] { y, y, y + HEIGHT, y + HEIGHT };
+
+		for (final Chunk c : ChunkManager.activeChunks) {
+			if (c.containsPoints(xCoords, yCoords)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Checks if the enemy is in range of the player so it can start moving towards
 	 * the player.
@@ -741,16 +929,18 @@ public abstract class Enemy implements GameVariables {
 		final int currentY = currentCoords[1];
 
 		if (knockback) {
+			// Checked as far as this tick's knockback can move the enemy
+			final TickClock clock = TickClock.getInstance();
+			final int probeX = position_x + ChunkManager.xOffset + clock.reach(knockbackDx);
+			final int probeY = position_y + ChunkManager.yOffset + clock.reach(knockbackDy);
 			// If knockback would result in a collision with a wall, then end the knockback
-			if (wallCollision(position_x + ChunkManager.xOffset + knockbackDx,
-					position_y + ChunkManager.yOffset + knockbackDy)) {
+			if (wallCollision(probeX, probeY)) {
 				resetKnockback();
 			} else {
 
 				// If knocking the enemy back would result in hitting another enemy, knock that
 				// enemy back too
-				final List<Enemy> hitEnemies = enemyCollision(this, position_x + ChunkManager.xOffset + knockbackDx,
-						position_y + ChunkManager.yOffset + knockbackDy);
+				final List<Enemy> hitEnemies = enemyCollision(this, probeX, probeY);
 				if (hitEnemies.size() != 0) {
 					for (final Enemy e : hitEnemies) {
 						e.knockback(knockbackDir);
@@ -758,13 +948,14 @@ public abstract class Enemy implements GameVariables {
 					// Else just update the coords
 				} else {
 					update_coords(knockbackDx, knockbackDy);
+					forgetRoamBounds();
 				}
 
 			}
 
 			knockbackCounter++;
 			// Knockback limit, reset everything
-			if (knockbackCounter == maxKnockbackCount) {
+			if (knockbackCounter >= TickClock.getInstance().ticksFor(maxKnockbackCount)) {
 				resetKnockback();
 			}
 			// Checks if player is in range of enemy
@@ -774,8 +965,6 @@ public abstract class Enemy implements GameVariables {
 				stateLocked = true;
 				facingLocked = true;
 				currentState = State.Attack;
-				attackCount = 0;
-				drawCount = 0;
 
 				Facing dirToPlayer = Facing.N;
 
@@ -804,7 +993,6 @@ public abstract class Enemy implements GameVariables {
 				 * the player. Use oppositeDirection map to find the opposite direction the
 				 * enemy is to the player, so we know which way to move the player.
 				 */
-				GamePanel.ourPlayer.setGettingAttacked(true);
 				ChunkManager.playerHit(oppositeDirection.get(dirToPlayer), this.damage);
 			}
 		} else {
@@ -820,9 +1008,11 @@ public abstract class Enemy implements GameVariables {
 				changeState(dx, dy);
 				// Update position (movement)
 				update_coords(dx, dy);
+				if (dx != 0 || dy != 0) {
+					forgetRoamBounds();
+				}
 
 			} else {
-				GamePanel.ourPlayer.setGettingAttacked(false);
 				changeState(roamingSpeed, 0);
 				roam();
 			}
@@ -834,7 +1024,7 @@ public abstract class Enemy implements GameVariables {
 	 * player and the enemy. It then checks all possible directions it can move. If
 	 * the move would result in a smaller distance to the player, and wouldn't
 	 * result in a collision between a wall or a enemy, then it's considered a valid
-	 * move.
+	 * move. Each move is checked as far as it can go at the current tick rate.
 	 *
 	 * @return A 2D array of integers, which are the enemies new coordinates.
 	 */
@@ -849,10 +1039,11 @@ public abstract class Enemy implements GameVariables {
 		double minDistance = currentDistance;
 
 		// Check all possible ways the enemy could move.
+		final TickClock clock = TickClock.getInstance();
 		for (final int[] delta : DELTAS) {
 
-			final int newX = currentX + delta[0];
-			final int newY = currentY + delta[1];
+			final int newX = currentX + clock.reach(delta[0]);
+			final int newY = currentY + clock.reach(delta[1]);
 			final double distance = calculateDistance(PLAYER_X, PLAYER_Y, newX, newY);
 
 			/*
@@ -892,12 +1083,42 @@ public abstract class Enemy implements GameVariables {
 	 * Moves the enemy back and forth when it's not tracking the player.
 	 */
 	public void roam() {
+		roam(1);
+	}
+
+	/**
+	 * Moves the enemy back and forth when it's not tracking the player, covering
+	 * the distance of several ticks at once.
+	 *
+	 * @param steps Number of ticks worth of roaming to do.
+	 */
+	public void roam(int steps) {
+		// One tick at a time, so a wall is never skipped over
+		for (int i = 0; i < steps; i++) {
+			roamStep();
+		}
+	}
+
+	/**
+	 * Moves the enemy one tick along its roaming path, turning it around if it ran
+	 * into a wall or another enemy.
+	 */
+	private void roamStep() {
+		final boolean hitWall = wallCollision(position_x + ChunkManager.xOffset, position_y + ChunkManager.yOffset);
 		// If Enemy isn't colliding with a wall or other enemy, move it.
-		if (!wallCollision(position_x + ChunkManager.xOffset, position_y + ChunkManager.yOffset)
-				&& enemyCollision(this, roamingSpeed, 0).size() == 0) {
+		if (!hitWall && enemyCollision(this, roamingSpeed, 0).size() == 0) {
 			update_coords(roamingSpeed, 0);
 			// Else, change its direction
 		} else {
+			// Remember where the walls are, so the enemy can be fast forwarded later
+			if (hitWall) {
+				final int lastStep = TickClock.getInstance().reach(roamingSpeed);
+				if (roamingSpeed > 0) {
+					roamMaxX = position_x - lastStep;
+				} else {
+					roamMinX = position_x - lastStep;
+				}
+			}
 			roamingSpeed *= -1;
 			update_coords(roamingSpeed * 2, 0);
 			changeState(roamingSpeed, 0);
@@ -906,6 +1127,17 @@ public abstract class Enemy implements GameVariables {
 
 	}
 
+	/**
+	 * Sets the edges of the path the enemy roams along.
+	 *
+	 * @param minX Left edge of the roaming path.
+	 * @param maxX Right edge of the roaming path.
+	 */
+	public void setRoamBounds(int minX, int maxX) {
+		roamMinX = minX;
+		roamMaxX = maxX;
+	}
+
 	/**
 	 * Subtract health from the enemy.
 	 *
@@ -913,15 +1145,14 @@ public abstract class Enemy implements GameVariables {
 	 */
 	public void subtractHitCount(int amount) {
 		hitCount -= amount;
+		GameEvents.getInstance().post(GameEvents.Type.ENEMY_HIT, amount);
 		if (hitCount <= 0) {
 			if (currentState != State.Dead) {
 				stateLocked = true;
 				facingLocked = true;
 				currentState = State.Dead;
-				Main.enemyKilled();
-				Main.addTime(15);
-				GamePanel.ourPlayer.setGettingAttacked(false);
-				drawCount = 0;
+				GameEvents.getInstance().post(GameEvents.Type.ENEMY_KILLED);
+				GameEvents.getInstance().post(GameEvents.Type.TIME_ADDED, KILL_TIME_BONUS);
 			}
 		}
 	}
@@ -955,13 +1186,24 @@ public abstract class Enemy implements GameVariables {
 	}
 
 	/**
-	 * Update the position of the enemy.
+	 * Forgets the roaming path, used when the enemy moves off of it.
+	 */
+	private void forgetRoamBounds() {
+		roamMinX = Integer.MIN_VALUE;
+		roamMaxX = Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Update the position of the enemy. The shift is given per reference tick and
+	 * scaled to the current tick rate.
 	 *
 	 * @param dx horizontal shift in the enemy's position.
 	 * @param dy vertical shift in the enemy's position.
+	 *
+	 * @see TickClock
 	 */
 	private void update_coords(int dx, int dy) {
-		position_x += dx;
-		position_y += dy;
+		position_x += xMover.step(dx);
+		position_y += yMover.step(dy);
 	}
 }
@@ -1,13 +1,9 @@
 package sprites;
 
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
 
-import javax.imageio.ImageIO;
+import gameTools.AssetLoader;
 
 /**
  * EnemyFactory will be used to create up to five enemy factory classes: Beaver,
@@ -46,31 +42,50 @@ public abstract class EnemyFactory {
 	 */
 	public abstract Enemy createEnemy(int x, int y);
 
-	/** load_images should be implemented separately for each enemy */
-	protected abstract void load_images();
+	/**
+	 * load_images should be implemented separately for each enemy.
+	 *
+	 * @return The atlas holding every image of the enemy.
+	 */
+	protected abstract SpriteAtlas load_images();
+
+	/**
+	 * Adds an image to an atlas for every facing, using a mirrored copy for facing
+	 * east.
+	 *
+	 * @param playerState State of enemy.
+	 * @param img         The image, as cut from the sprite sheet.
+	 * @param atlas       Atlas the image is added to.
+	 */
+	private void add_image(Enemy.State playerState, BufferedImage img, SpriteAtlas.Builder atlas) {
+		atlas.add(playerState, SpriteAtlas.compatible(img));
+		atlas.add(playerState, Enemy.Facing.E, SpriteAtlas.mirrored(img));
+	}
 
 	/**
-	 * load_spritesheet should be the same for each enemy.
+	 * load_spritesheet should be the same for each enemy. Enemy art faces west, so
+	 * each image is added for every facing, along with a mirrored copy for
+	 * facing east. Images are copied out of the sheet when loaded so they never
+	 * have to be flipped when drawn.
 	 *
 	 * @param FILE_LOCATION  Location of file
 	 * @param character_name Name of character.
 	 * @param playerState    State of enemy.
 	 * @param imageNumber    Image number.
-	 * @param images         Map of images.
+	 * @param atlas          Atlas the images are added to.
 	 */
 	protected void load_spritesheet(String FILE_LOCATION, String character_name, Enemy.State playerState,
-			int imageNumber, Map<Enemy.State, List<BufferedImage>> images) {
+			int imageNumber, SpriteAtlas.Builder atlas) {
 		BufferedImage spriteSheet = null;
 		// Load the spritesheet file
 		if (playerState.toString() != null) {
 			final String resource = FILE_LOCATION + character_name + "_" + playerState.toString() + ".png";
 			try {
-				spriteSheet = ImageIO.read(new File(resource));
+				spriteSheet = AssetLoader.getInstance().load(resource);
 			} catch (final IOException e) {
 				System.out.println("Image not found at '" + resource + "'");
 			}
 		}
-		images.put(playerState, new LinkedList<>());
 		// Save constants used for sprite sheet loading
 		final int height = spriteSheet.getHeight();
 		final int width = spriteSheet.getWidth();
@@ -78,21 +93,21 @@ public abstract class EnemyFactory {
 			for (int i = 0; i < imageNumber; i++) {
 				final BufferedImage img = spriteSheet.getSubimage(0, (height / imageNumber) * i, width,
 						height / imageNumber);
-				images.get(playerState).add(img);
+				add_image(playerState, img, atlas);
 			}
 		} else if (playerState == sprites.Enemy.State.Dead) {
 			for (int i = imageNumber - 1; i >= 0; i--) {
 				final BufferedImage img = spriteSheet.getSubimage(LEFT_PADDING,
 						(height / imageNumber) * i + TOP_PADDING, (width - LEFT_PADDING) - RIGHT_PADDING,
 						((height / imageNumber) - TOP_PADDING) - BOTTOM_PADDING);
-				images.get(playerState).add(img);
+				add_image(playerState, img, atlas);
 			}
 		} else {
 			for (int i = 0; i < imageNumber; i++) {
 				final BufferedImage img = spriteSheet.getSubimage(LEFT_PADDING,
 						(height / imageNumber) * i + TOP_PADDING, (width - LEFT_PADDING) - RIGHT_PADDING,
 						((height / imageNumber) - TOP_PADDING) - BOTTOM_PADDING);
-				images.get(playerState).add(img);
+				add_image(playerState, img, atlas);
 			}
 		}
 	}
@@ -0,0 +1,396 @@
+package sprites;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import gameTools.GameVariables;
+
+/**
+ * <p>
+ * EnemyLOD decides how much simulation each enemy gets every tick. Enemies are
+ * split into three tiers based on how far they are from the screen:
+ * </p>
+ * <ul>
+ * <li>{@link Tier#ACTIVE}: visible on the screen, moved every tick.</li>
+ * <li>{@link Tier#NEAR}: just off the screen, caught up every few ticks.</li>
+ * <li>{@link Tier#FAR}: everything else, asleep until they get closer. When
+ * they wake up they are fast-forwarded along their roaming path.</li>
+ * </ul>
+ *
+ * <p>
+ * Far enemies are only re-checked a few at a time, so the cost of a tick stays
+ * flat no matter how many enemies are in the level. Testing is found in the
+ * main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see Enemy
+ */
+public class EnemyLOD implements GameVariables {
+
+	/**
+	 * Simulation tiers an enemy can be in.
+	 */
+	public enum Tier {
+		/** Enemy is visible, update every tick. */
+		ACTIVE,
+		/** Enemy is close to the screen, update at a reduced rate. */
+		NEAR,
+		/** Enemy is far away, it sleeps until it gets closer. */
+		FAR
+	}
+
+	/**
+	 * The current instance of EnemyLOD.
+	 */
+	private static EnemyLOD single_instance = null;
+
+	/**
+	 * Makes a new instance of EnemyLOD. EnemyLOD is a singleton because there is
+	 * only one set of enemies in the game.
+	 *
+	 * @return The current instance of EnemyLOD.
+	 */
+	public static synchronized EnemyLOD getInstance() {
+		if (single_instance == null) {
+			single_instance = new EnemyLOD();
+		}
+
+		return single_instance;
+	}
+
+	/**
+	 * Main method, used for testing. Uses the level 0 enemies, so the Textures
+	 * folder is needed.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		final EnemyLOD lod = new EnemyLOD();
+		final EnemyFactory ghostCreator = GhostFactory.getInstance();
+
+		// One enemy on the screen, one just off it and one very far away
+		final Enemy onScreen = ghostCreator.createEnemy(PLAYER_X + 200, PLAYER_Y);
+		final Enemy nearby = ghostCreator.createEnemy(SCREEN_WIDTH + 100, PLAYER_Y);
+		final Enemy farAway = ghostCreator.createEnemy(SCREEN_WIDTH * 20, SCREEN_HEIGHT * 20);
+		Enemy.enemies.add(onScreen);
+		Enemy.enemies.add(nearby);
+		Enemy.enemies.add(farAway);
+
+		lod.update();
+
+		if (lod.classify(onScreen) != Tier.ACTIVE || !Enemy.activeEnemies.contains(onScreen)) {
+			System.err.println("On screen enemy should be in the active tier!");
+			allPassed = false;
+		}
+		if (lod.classify(nearby) != Tier.NEAR || Enemy.activeEnemies.contains(nearby)) {
+			System.err.println("Enemy just off the screen should be in the near tier!");
+			allPassed = false;
+		}
+		if (lod.classify(farAway) != Tier.FAR || lod.getNearCount() != 1) {
+			System.err.println("Far away enemy should be in the far tier!");
+			allPassed = false;
+		}
+
+		// A far enemy shouldn't move while it sleeps
+		final int[] farCoords = farAway.getPosition();
+		for (int i = 0; i < 20; i++) {
+			lod.update();
+		}
+		final int[] newFarCoords = farAway.getPosition();
+		if (farCoords[0] != newFarCoords[0] || farCoords[1] != newFarCoords[1]) {
+			System.err.println("Far enemy moved when it should be asleep!");
+			allPassed = false;
+		}
+
+		// Fast forwarding along a known roaming path should stay inside the path
+		final int startX = farAway.position_x;
+		farAway.setRoamBounds(startX - 50, startX + 50);
+		farAway.catchUp(1030);
+		if (farAway.position_x < startX - 50 || farAway.position_x > startX + 50 || farAway.position_x == startX) {
+			System.err.println("Fast forwarded enemy left its roaming path!");
+			allPassed = false;
+		}
+
+		// The amount of work per tick should be capped by the budgets
+		lod.setFarBudget(1);
+		if (lod.getFarBudget() != 1) {
+			System.err.println("Far budget wasn't updated!");
+			allPassed = false;
+		}
+
+		lod.reset();
+		Enemy.enemies.clear();
+		Enemy.activeEnemies.clear();
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/**
+	 * How far (in pixels) outside the screen an enemy can be and still count as
+	 * near.
+	 */
+	private int nearMargin = SCREEN_WIDTH / 2;
+
+	/** How many ticks pass between updates of a near enemy. */
+	private int nearInterval = 4;
+
+	/** Most near enemies that can be caught up in one tick. */
+	private int nearBudget = 64;
+
+	/** Most far enemies that are re-checked in one tick. */
+	private int farBudget = 128;
+
+	/** Number of ticks that have been simulated. */
+	private int tick = 0;
+
+	/**
+	 * Every enemy in the level, used to walk through the far enemies a few at a
+	 * time.
+	 */
+	private final List<Enemy> roster = new ArrayList<>();
+
+	/** Set to true when roster needs to be rebuilt from Enemy.enemies. */
+	private boolean rosterDirty = true;
+
+	/** Where the next far check starts in roster. */
+	private int farCursor = 0;
+
+	/** Where the next near update starts in nearEnemies. */
+	private int nearCursor = 0;
+
+	/** Enemies currently in the near tier. */
+	private List<Enemy> nearEnemies = new ArrayList<>();
+
+	/** Enemies that will be in the near tier after this tick. */
+	private List<Enemy> nextNearEnemies = new ArrayList<>();
+
+	/** Enemies that will be in the active tier after this tick. */
+	private final List<Enemy> nextActiveEnemies = new ArrayList<>();
+
+	/** Enemies that need to be checked this tick. */
+	private final List<Enemy> candidates = new ArrayList<>();
+
+	/**
+	 * Constructs a new EnemyLOD.
+	 */
+	private EnemyLOD() {
+
+	}
+
+	/**
+	 * Finds which tier the enemy should be in right now.
+	 *
+	 * @param e The enemy to check.
+	 * @return The tier the enemy belongs in.
+	 */
+	public Tier classify(Enemy e) {
+		if (e.isVisible()) {
+			return Tier.ACTIVE;
+		}
+		if (e.distanceFromScreen() <= nearMargin) {
+			return Tier.NEAR;
+		}
+		return Tier.FAR;
+	}
+
+	/**
+	 * Gets the most far enemies checked per tick.
+	 *
+	 * @return The far budget.
+	 */
+	public int getFarBudget() {
+		return farBudget;
+	}
+
+	/**
+	 * Gets the most near enemies updated per tick.
+	 *
+	 * @return The near budget.
+	 */
+	public int getNearBudget() {
+		return nearBudget;
+	}
+
+	/**
+	 * Gets the number of enemies currently in the near tier.
+	 *
+	 * @return Number of near enemies.
+	 */
+	public int getNearCount() {
+		return nearEnemies.size();
+	}
+
+	/**
+	 * Gets the number of ticks between near enemy updates.
+	 *
+	 * @return The near update interval.
+	 */
+	public int getNearInterval() {
+		return nearInterval;
+	}
+
+	/**
+	 * Gets how far outside the screen an enemy can be and still be near.
+	 *
+	 * @return The near margin in pixels.
+	 */
+	public int getNearMargin() {
+		return nearMargin;
+	}
+
+	/**
+	 * Tells EnemyLOD that enemies were added or removed, so the roster is rebuilt
+	 * on the next tick.
+	 */
+	public void invalidate() {
+		rosterDirty = true;
+	}
+
+	/**
+	 * Clears all tiers, used when a level is reset.
+	 */
+	public void reset() {
+		roster.clear();
+		nearEnemies.clear();
+		nextNearEnemies.clear();
+		nextActiveEnemies.clear();
+		candidates.clear();
+		rosterDirty = true;
+		farCursor = 0;
+		nearCursor = 0;
+		tick = 0;
+	}
+
+	/**
+	 * Sets the most far enemies checked per tick.
+	 *
+	 * @param farBudget The new far budget, at least 1.
+	 */
+	public void setFarBudget(int farBudget) {
+		this.farBudget = Math.max(1, farBudget);
+	}
+
+	/**
+	 * Sets the most near enemies updated per tick.
+	 *
+	 * @param nearBudget The new near budget, at least 1.
+	 */
+	public void setNearBudget(int nearBudget) {
+		this.nearBudget = Math.max(1, nearBudget);
+	}
+
+	/**
+	 * Sets the number of ticks between near enemy updates.
+	 *
+	 * @param nearInterval The new interval, at least 1.
+	 */
+	public void setNearInterval(int nearInterval) {
+		this.nearInterval = Math.max(1, nearInterval);
+	}
+
+	/**
+	 * Sets how far outside the screen an enemy can be and still be near.
+	 *
+	 * @param nearMargin The new margin in pixels.
+	 */
+	public void setNearMargin(int nearMargin) {
+		this.nearMargin = Math.max(0, nearMargin);
+	}
+
+	/**
+	 * Runs one tick of enemy simulation. Puts each enemy that was checked into the
+	 * right tier, then moves the active enemies and catches up some of the near
+	 * ones.
+	 */
+	public void update() {
+		tick++;
+
+		if (rosterDirty || roster.size() != Enemy.enemies.size()) {
+			roster.clear();
+			roster.addAll(Enemy.enemies);
+			rosterDirty = false;
+			if (farCursor >= roster.size()) {
+				farCursor = 0;
+			}
+		}
+
+		// Enemies in the active and near tiers are checked every tick, far ones a few
+		// at a time
+		candidates.clear();
+		candidates.addAll(Enemy.activeEnemies);
+		candidates.addAll(nearEnemies);
+		final int farChecks = Math.min(farBudget, roster.size());
+		for (int i = 0; i < farChecks; i++) {
+			candidates.add(roster.get(farCursor));
+			farCursor = (farCursor + 1) % roster.size();
+		}
+
+		nextActiveEnemies.clear();
+		nextNearEnemies.clear();
+		for (final Enemy e : candidates) {
+			// Skip duplicates and enemies that were removed from the level
+			if (e.lodStamp == tick || !Enemy.enemies.contains(e)) {
+				continue;
+			}
+			e.lodStamp = tick;
+
+			final Tier newTier = classify(e);
+			if (e.lodTier == null) {
+				// New enemy, it hasn't missed any ticks yet
+				e.lastUpdateTick = tick - 1;
+			} else if (e.lodTier == Tier.FAR && newTier != Tier.FAR) {
+				// Waking up, fast forward the time spent asleep
+				e.catchUp(tick - 1 - e.lastUpdateTick);
+				e.lastUpdateTick = tick - 1;
+			}
+			e.lodTier = newTier;
+
+			if (newTier == Tier.ACTIVE) {
+				nextActiveEnemies.add(e);
+			} else if (newTier == Tier.NEAR) {
+				nextNearEnemies.add(e);
+			}
+		}
+
+		Enemy.activeEnemies.clear();
+		Enemy.activeEnemies.addAll(nextActiveEnemies);
+
+		final List<Enemy> temp = nearEnemies;
+		nearEnemies = nextNearEnemies;
+		nextNearEnemies = temp;
+
+		// Move enemies that are active
+		for (final Enemy e : nextActiveEnemies) {
+			e.catchUp(tick - 1 - e.lastUpdateTick);
+			if (e.getState() != State.Dead) {
+				e.move();
+			}
+			e.lastUpdateTick = tick;
+		}
+
+		// Catch up near enemies that have waited long enough, up to the budget
+		if (nearCursor >= nearEnemies.size()) {
+			nearCursor = 0;
+		}
+		int budget = nearBudget;
+		for (int i = 0; i < nearEnemies.size() && budget > 0; i++) {
+			final Enemy e = nearEnemies.get((nearCursor + i) % nearEnemies.size());
+			if (tick - e.lastUpdateTick >= nearInterval) {
+				e.catchUp(tick - e.lastUpdateTick);
+				e.lastUpdateTick = tick;
+				budget--;
+			}
+		}
+		if (!nearEnemies.isEmpty()) {
+			nearCursor = (nearCursor + nearBudget) % nearEnemies.size();
+		}
+	}
+}
@@ -1,9 +1,5 @@
 package sprites;
 
-import java.awt.image.BufferedImage;
-import java.util.List;
-import java.util.Map;
-
 /**
  * Ghost is a child of Enemy with attributes and unique images. Testing is found
  * in Enemy.java.
@@ -15,20 +11,16 @@ public class Ghost extends Enemy {
 	/**
 	 * Create a ghost, which should be done through a GhostFactory.
 	 *
-	 * @param x               starting x position
-	 * @param y               starting y position
-	 * @param images          static images for ghost
-	 * @param PADDING         image padding to remove for non-moving images
-	 * @param attackImages    the number of attacking images
-	 * @param finalDeathImage the final death image of the ghost
+	 * @param x       starting x position
+	 * @param y       starting y position
+	 * @param sprites static images for ghost, shared by every ghost
+	 * @param PADDING image padding to remove for non-moving images
 	 */
-	public Ghost(int x, int y, Map<State, List<BufferedImage>> images, int[] PADDING, int attackImages,
-			BufferedImage finalDeathImage) {
-		this.images = images;
+	public Ghost(int x, int y, SpriteCache sprites, int[] PADDING) {
+		this.sprites = sprites;
+		this.atlas = sprites.getAtlas();
 		this.PADDING = PADDING;
-		this.NUMATTACKINGIMAGES = attackImages;
 		this.damage = 2000;
-		this.finalDeathImage = finalDeathImage;
 		WIDTH = 60;
 		HEIGHT = 60;
 		position_x = x;
@@ -1,10 +1,5 @@
 package sprites;
 
-import java.awt.image.BufferedImage;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 /**
  * GhostFactory will load the static images for Ghosts and create enemies using
  * the createEnemy function. Testing is found in Enemy.java.
@@ -13,12 +8,11 @@ import java.util.Map;
 public class GhostFactory extends EnemyFactory {
 
 	/**
-	 * Final death image.
+	 * Hold images (which should be the same for all Ghosts), scaled to the size
+	 * they're drawn at. The images are never changed, every Ghost keeps track of its
+	 * own place in the animations.
 	 */
-	static private BufferedImage finalDeathImage;
-
-	/** Hold images (which should be the same for all Ghosts) */
-	static private Map<Enemy.State, List<BufferedImage>> images = new HashMap<>();
+	private final SpriteCache images;
 
 	/**
 	 * Number of attacking images.
@@ -56,32 +50,26 @@ public class GhostFactory extends EnemyFactory {
 		BOTTOM_PADDING = 14;
 		LEFT_PADDING = 14;
 		PADDING = new int[] { TOP_PADDING, RIGHT_PADDING, BOTTOM_PADDING, LEFT_PADDING };
-		load_images();
+		images = new SpriteCache(load_images());
 	}
 
 	@Override
 	public Enemy createEnemy(int x, int y) {
-		return new Ghost(x, y, images, PADDING, NUMATTACKINGIMAGES, finalDeathImage);
-	}
-
-	/**
-	 * Sets the final death image.
-	 */
-	private void set_final_death_image() {
-		finalDeathImage = images.get(Enemy.State.Dead).get(NUMDEATHIMAGES - 1);
+		return new Ghost(x, y, images, PADDING);
 	}
 
 	@Override
-	protected void load_images() {
+	protected SpriteAtlas load_images() {
 		final String character_name = "Ghost";
 		final String FILE_LOCATION = "Textures/Ghost/";
 		final int imageNumber = 3; // This is the number of images in the spriteSheet
+		final SpriteAtlas.Builder builder = new SpriteAtlas.Builder(Enemy.FRAME_MILLIS);
 
 		// Load a spritesheet for each player state
-		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Idle, imageNumber, images);
-		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Move, imageNumber, images);
-		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Attack, NUMATTACKINGIMAGES, images);
-		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Dead, NUMDEATHIMAGES, images);
-		set_final_death_image();
+		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Idle, imageNumber, builder);
+		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Move, imageNumber, builder);
+		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Attack, NUMATTACKINGIMAGES, builder);
+		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Dead, NUMDEATHIMAGES, builder);
+		return builder.build();
 	}
 }
\ No newline at end of file
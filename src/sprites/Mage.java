@@ -1,9 +1,5 @@
 package sprites;
 
-import java.awt.image.BufferedImage;
-import java.util.List;
-import java.util.Map;
-
 /**
  * Mage is a child of Enemy with attributes and unique images. Testing is found
  * in Enemy.java.
@@ -15,20 +11,16 @@ public class Mage extends Enemy {
 	/**
 	 * Create a Mage, which should be done through a MageFactory.
 	 *
-	 * @param x               starting x position
-	 * @param y               starting y position
-	 * @param images          static images for mage
-	 * @param PADDING         image padding to remove for non-moving images
-	 * @param attackImages    the number of attacking images
-	 * @param finalDeathImage the final death image of the mage.
+	 * @param x       starting x position
+	 * @param y       starting y position
+	 * @param sprites static images for mage, shared by every mage
+	 * @param PADDING image padding to remove for non-moving images
 	 */
-	public Mage(int x, int y, Map<State, List<BufferedImage>> images, int[] PADDING, int attackImages,
-			BufferedImage finalDeathImage) {
-		this.images = images;
+	public Mage(int x, int y, SpriteCache sprites, int[] PADDING) {
+		this.sprites = sprites;
+		this.atlas = sprites.getAtlas();
 		this.PADDING = PADDING;
-		this.NUMATTACKINGIMAGES = attackImages;
 		this.damage = 2500;
-		this.finalDeathImage = finalDeathImage;
 		WIDTH = 70;
 		HEIGHT = 70;
 		position_x = x;
@@ -1,10 +1,5 @@
 package sprites;
 
-import java.awt.image.BufferedImage;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 /**
  * MageFactory will load the Mage images and create Mage instances using the
  * createEnemy function. Testing is found in Enemy.java.
@@ -13,12 +8,11 @@ import java.util.Map;
 public class MageFactory extends EnemyFactory {
 
 	/**
-	 * Final death image.
+	 * Hold images (which should be the same for all Mages), scaled to the size
+	 * they're drawn at. The images are never changed, every Mage keeps track of its
+	 * own place in the animations.
 	 */
-	static public BufferedImage finalDeathImage;
-
-	/** Hold images (which should be the same for all Mages) */
-	static private Map<Enemy.State, List<BufferedImage>> images = new HashMap<>();
+	private final SpriteCache images;
 
 	/**
 	 * Number of attacking images.
@@ -30,11 +24,6 @@ public class MageFactory extends EnemyFactory {
 	 */
 	static private final int NUMDEATHIMAGES = 6;
 
-	/**
-	 * Padding for images
-	 */
-	static private int[] PADDING;
-
 	/** Singleton: Only one MageFactory should be created. */
 	private static MageFactory single_instance = null;
 
@@ -61,33 +50,27 @@ public class MageFactory extends EnemyFactory {
 		BOTTOM_PADDING = 12;
 		LEFT_PADDING = 12;
 		PADDING = new int[] { TOP_PADDING, RIGHT_PADDING, BOTTOM_PADDING, LEFT_PADDING };
-		load_images();
+		images = new SpriteCache(load_images());
 	}
 
 	@Override
 	public Enemy createEnemy(int x, int y) {
-		return new Mage(x, y, images, PADDING, NUMATTACKINGIMAGES, finalDeathImage);
-	}
-
-	/**
-	 * Sets the final death image.
-	 */
-	private void set_final_death_image() {
-		finalDeathImage = images.get(Enemy.State.Dead).get(NUMDEATHIMAGES - 1);
+		return new Mage(x, y, images, PADDING);
 	}
 
 	@Override
-	protected void load_images() {
+	protected SpriteAtlas load_images() {
 		final String character_name = "Mage";
 		final String FILE_LOCATION = "Textures/Mage/";
 		final int imageNumber = 3; // This is the number of images in the spriteSheet
+		final SpriteAtlas.Builder builder = new SpriteAtlas.Builder(Enemy.FRAME_MILLIS);
 
 		// Load a sprite sheet for each player state
-		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Idle, imageNumber, images);
-		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Move, imageNumber, images);
-		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Attack, NUMATTACKINGIMAGES, images);
-		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Dead, NUMDEATHIMAGES, images);
-		set_final_death_image();
+		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Idle, imageNumber, builder);
+		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Move, imageNumber, builder);
+		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Attack, NUMATTACKINGIMAGES, builder);
+		load_spritesheet(FILE_LOCATION, character_name, sprites.Enemy.State.Dead, NUMDEATHIMAGES, builder);
+		return builder.build();
 	}
 
 }
@@ -5,21 +5,17 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import javax.imageio.ImageIO;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 import javax.swing.WindowConstants;
 
 import gameTools.GameVariables;
+import gameTools.TickClock;
 
 /**
  * <p>
@@ -37,24 +33,20 @@ import gameTools.GameVariables;
  * @see GameVariables
  */
 public class Player implements GameVariables {
-	/** location of player sprites. */
-	private static final String FILE_LOCATION = "images/";
-
 	/**
 	 * Tracks the health of our player.
 	 */
 	private int health = 10000;
 
 	/**
-	 * Draw count is used to track the number of draws that have occurred since the
-	 * last animation update.
+	 * Where the player is in its animation.
 	 */
-	private int drawCount = 0;
+	private final AnimationClock animClock = new AnimationClock();
 
 	/**
-	 * Count of frames that attack has been drawn.
+	 * When the home screen display animation started, in nanoseconds.
 	 */
-	private int attackCount = 0;
+	private final long displayStart = System.nanoTime();
 
 	/**
 	 * Size of the player (this controls the drawn size while PLAYER_WIDTH/HEIGHT
@@ -67,11 +59,6 @@ public class Player implements GameVariables {
 	 */
 	private String characterName = null;
 	
-	/**
-	 * Default the player to be holding a weapon.
-	 */
-	private boolean holdingWeapon = true;
-
 	/**
 	 * True if an animation has started that must be completed.
 	 */
@@ -88,25 +75,35 @@ public class Player implements GameVariables {
 	/** Set initial player direction. */
 	private Facing currentFacing = Facing.S;
 
-	/** How many frames that pass before each image switch. */
-	private final int FRAMESPERSWITCH = 6;
+	/** Image the player is currently showing, set each tick by animate. */
+	private volatile BufferedImage currentFrame;
+
+	/** How long each image is shown, in milliseconds. */
+	private static final int FRAME_MILLIS = 100;
+
+	/** How long each image is shown on the home screen display, in milliseconds. */
+	private static final int DISPLAY_FRAME_MILLIS = 600;
+
+	/** How long the player counts as getting attacked after a hit, in milliseconds. */
+	private static final long ATTACKED_MILLIS = 1000;
 
 	/**
-	 * Keeps track of if the player is getting attacked.
+	 * Time (from System.nanoTime()) the player stops counting as getting attacked.
+	 * Set when a hit event arrives, on the event thread.
 	 */
-	private boolean gettingAttacked = false;
+	private volatile long attackedUntil = 0;
 
 	/**
-	 * Keeps track of the final attack images to determine when we should switch to
-	 * the next animation.
+	 * All images of the player, each state is loaded the first time it's needed.
+	 * Null until load_images is called.
 	 */
-	private Map<Facing, BufferedImage> finalAttackImages;
+	private CharacterSprites character;
 
 	/**
-	 * A map of images that can be accessed by first specifying the player state and
-	 * direction faced.
+	 * The home screen display image, scaled to the size it's drawn at. Null
+	 * until load_display_images is called.
 	 */
-	private final Map<State, Map<Facing, List<BufferedImage>>> images = new HashMap<>();
+	private SpriteCache display;
 
 	/**
 	 * Enemies the player hit.
@@ -142,128 +139,47 @@ public class Player implements GameVariables {
 	private Facing attackFacing = Facing.N;
 
 	/**
-	 * For the display, we only need to load a subset of the total images.
+	 * For the display, we only need one image of the character.
 	 * 
 	 * @param character_name the name of the character to be loaded.
 	 */
 	public void load_display_images(String character_name) {
 		characterName = character_name;
-		images.clear();
-		final int SPRITESHEET_WIDTH = 4;
-		final int SPRITESHEET_IDLE_HEIGHT = 2;
-		load_spritesheet(character_name, State.Idle, SPRITESHEET_WIDTH, SPRITESHEET_IDLE_HEIGHT);
+		character = null;
+		final BufferedImage preview = CharacterSprites.preview(character_name);
+		final SpriteAtlas.Builder builder = new SpriteAtlas.Builder(FRAME_MILLIS);
+		if (preview != null) {
+			builder.add(State.Idle, Facing.S, preview);
+		}
+		display = new SpriteCache(builder.build());
 	}
 	
 	/**
-	 * Load images for each player state.
+	 * Load images for each player state. Idle is loaded first, the rest are
+	 * loaded in the background, and any state needed before it's loaded is loaded
+	 * right away.
 	 *
 	 * @param character_name the name of the player file to be selected (Civilian1,
 	 *                       Civilian2, Civilian1(black), etc).
 	 */
 	public void load_images(String character_name) {
-		images.clear();
-		// Declare spritesheet dimensions
-		final int SPRITESHEET_WIDTH = 4;
-		final int SPRITESHEET_IDLE_HEIGHT = 2;
-		final int SPRITESHEET_MOVE_HEIGHT = 8;
-
-		// Load a spritesheet for each player state
-		load_spritesheet(character_name, State.Idle, SPRITESHEET_WIDTH, SPRITESHEET_IDLE_HEIGHT);
-		load_spritesheet(character_name, State.Move, SPRITESHEET_WIDTH, SPRITESHEET_MOVE_HEIGHT);
-		load_spritesheet(character_name, State.Attack, SPRITESHEET_WIDTH, SPRITESHEET_MOVE_HEIGHT);
-		set_final_attack_images();
-		load_dead_image(character_name);
-	}
-
-	/**
-	 * Set the final attack images to determine when the animation should stop.
-	 */
-	public void set_final_attack_images() {
-		finalAttackImages = new HashMap<>();
-		final Map<Facing, List<BufferedImage>> attackMap = images.get(State.Attack);
-		for (Facing direction : Facing.values()) {
-			finalAttackImages.put(direction, attackMap.get(direction).get(attackMap.get(direction).size() - 1));
-		}
+		characterName = character_name;
+		display = null;
+		character = CharacterSprites.get(character_name);
+		character.loadInBackground();
 	}
 
 	/**
-	 * Load an individual spritesheet.
+	 * Gets the images of the current state, loading them if they aren't loaded
+	 * yet.
 	 *
-	 * @param character_name the name of the player file to be selected (Civilian1,
-	 *                       Civilian2, Civilian1(black), etc).
-	 * @param playerState    the player state that is to be loaded.
-	 * @param xDim           the x dimension of the spritesheet.
-	 * @param yDim           the y dimension of the spritesheet.
-	 */
-	private void load_spritesheet(String character_name, State playerState, int xDim, int yDim) {
-		BufferedImage spriteSheet = null;
-		// Load the spritesheet file
-		if (playerState.toString() != null) {
-			final String resource;
-			if (holdingWeapon && character_name != "Knight1") {
-				resource = FILE_LOCATION + character_name + "_" + playerState.toString() + "(Weapon1)" + ".png";
-			} else {
-				resource = FILE_LOCATION + character_name + "_" + playerState.toString() + ".png";
-			}
-			try {
-				spriteSheet = ImageIO.read(new File(resource));
-			} catch (IOException e) {
-				System.err.println("Image not found at '" + resource + "'");
-			}
-		}
-		// Split the spritesheet into individual images.
-		if (spriteSheet != null) {
-			// Create a new HashMap for the specified player state.
-			images.put(playerState, new HashMap<>());
-			// Save constants used for spritesheet loading
-			final int height = spriteSheet.getHeight();
-			final int width = spriteSheet.getWidth();
-			final int framesPerAnim = xDim * yDim / Facing.values().length;
-
-			// Count and direction will be changed based on the number of the image being
-			// loaded.
-			int count = 0;
-			Facing direction = Facing.values()[count];
-			// Create the first list for the original state-facing pair.
-			images.get(playerState).put(Facing.S, new LinkedList<BufferedImage>());
-			for (int y = 0; y < yDim; y++) {
-				for (int x = 0; x < xDim; x++) {
-					// Read and resize image
-					// Read image
-					BufferedImage subImage = spriteSheet.getSubimage(x * width / xDim, y * height / yDim, width / xDim,
-							height / yDim);
-
-					// Add to the map
-					images.get(playerState).get(direction).add(subImage);
-
-					// Update the count of images added to this particular direction
-					count++;
-					if (count % framesPerAnim == 0 && count != xDim * yDim) {
-						direction = Facing.values()[count / framesPerAnim];
-						images.get(playerState).put(direction, new LinkedList<BufferedImage>());
-					}
-				}
-			}
-		}
-	}
-
-	/**
-	 * Loads dead image for player.
-	 * 
-	 * @param character_name Name of character.
-	 */
-	private void load_dead_image(String character_name) {
-		BufferedImage spriteSheet = null;
-		final String resource;
-		resource = FILE_LOCATION + character_name + "_" + "Dead" + ".png";
-		try {
-			spriteSheet = ImageIO.read(new File(resource));
-		} catch (IOException e) {
-			System.err.println("Image not found at '" + resource + "'");
+	 * @return The images, null if no images have been loaded.
+	 */
+	private SpriteCache currentSprites() {
+		if (character != null) {
+			return character.get(currentState);
 		}
-		images.put(State.Dead, new HashMap<>());
-		images.get(State.Dead).put(Facing.N, new LinkedList<BufferedImage>());
-		images.get(State.Dead).get(Facing.N).add(spriteSheet);
+		return display;
 	}
 
 	/**
@@ -377,36 +293,67 @@ public class Player implements GameVariables {
 	}
 
 	/**
-	 * Draw our player. Draw handles the switching from one image in a sequence to
-	 * the next.
+	 * Moves the player's animation forward by one tick. Handles the switching from
+	 * one image in a sequence to the next, and stores the image that should be
+	 * shown so it can be drawn later.
+	 */
+	public synchronized void animate() {
+		final SpriteCache sprites = currentSprites();
+		if (sprites == null || !sprites.getAtlas().hasState(currentState)) {
+			return;
+		}
+		currentFrame = scaledFrame(sprites, animClock.getFrame());
+		animClock.advance(sprites.getAtlas(), currentState, 1000.0 / TickClock.getInstance().getTickRate());
+		// Once every attack image has been shown, the attack is over.
+		if (currentState == State.Attack && animClock.getLoops() > 0) {
+			unlockState();
+			unlockFacing();
+			currentState = State.Idle;
+		}
+	}
+
+	/**
+	 * Draws an image of the player in the middle of the screen. Doesn't change the
+	 * player, so it's safe to call from the render thread.
 	 *
-	 * @param g 2Dgraphics to draw on.
-	 */
-	public void draw(Graphics2D g) {
-		final BufferedImage myImage = images.get(currentState).get(currentFacing).get(0);
-		final int imageXAdjustment = (myImage.getWidth() * SIZE - PLAYER_WIDTH) / 2;
-		final int imageYAdjustment = (myImage.getHeight() * SIZE - PLAYER_HEIGHT) / 2;
-		if (currentState == State.Attack) {
-			attackCount += 1;
+	 * @param g     2Dgraphics to draw on.
+	 * @param frame The scaled image to draw, nothing is drawn if null.
+	 */
+	public void drawFrame(Graphics2D g, BufferedImage frame) {
+		if (frame == null) {
+			return;
 		}
-		if (drawCount < FRAMESPERSWITCH - 1) { // For x ticks of the game loop, draw the same image.
-			g.drawImage(myImage, PLAYER_X - imageXAdjustment, PLAYER_Y - imageYAdjustment,
-					PLAYER_WIDTH + imageXAdjustment * 2, PLAYER_HEIGHT + imageYAdjustment * 2, null);
-			drawCount++;
-		} else { // Then, switch the image to the next one in the sequence.
-			BufferedImage img = images.get(currentState).get(currentFacing).remove(0);
-			g.drawImage(img, PLAYER_X - imageXAdjustment, PLAYER_Y - imageYAdjustment,
-					PLAYER_WIDTH + imageXAdjustment * 2, PLAYER_HEIGHT + imageYAdjustment * 2, null);
-			images.get(currentState).get(currentFacing).add(img);
-			drawCount = 0;
-			// Check currentState before test to increase performance with a quicker test.
-			if (currentState == State.Attack && img == finalAttackImages.get(currentFacing)) {
-				unlockState();
-				unlockFacing();
-				currentState = State.Idle;
-				attackCount = 0;
-			}
+		final int imageXAdjustment = (frame.getWidth() - PLAYER_WIDTH) / 2;
+		final int imageYAdjustment = (frame.getHeight() - PLAYER_HEIGHT) / 2;
+		g.drawImage(frame, PLAYER_X - imageXAdjustment, PLAYER_Y - imageYAdjustment, null);
+	}
+
+	/**
+	 * Gets an image for the current state and direction, scaled by SIZE to the
+	 * size it's drawn at.
+	 *
+	 * @param sprites     Images of the current state.
+	 * @param imageNumber The image number, wraps around.
+	 * @return The scaled image, null if there isn't one.
+	 */
+	private BufferedImage scaledFrame(SpriteCache sprites, int imageNumber) {
+		final BufferedImage source = sprites.getAtlas().getFrame(currentState, currentFacing, imageNumber);
+		if (source == null) {
+			return null;
 		}
+		final int imageXAdjustment = (source.getWidth() * SIZE - PLAYER_WIDTH) / 2;
+		final int imageYAdjustment = (source.getHeight() * SIZE - PLAYER_HEIGHT) / 2;
+		return sprites.get(currentState, currentFacing, imageNumber, PLAYER_WIDTH + imageXAdjustment * 2,
+				PLAYER_HEIGHT + imageYAdjustment * 2);
+	}
+
+	/**
+	 * Gets the image the player is currently showing.
+	 *
+	 * @return The current image, null if the player hasn't been animated yet.
+	 */
+	public BufferedImage getFrame() {
+		return currentFrame;
 	}
 	
 	/**
@@ -415,33 +362,19 @@ public class Player implements GameVariables {
 	 * @param g The Graphics2D object to be drawn with.
 	 */
 	public synchronized void draw_display(Graphics2D g) {
-		if (images == null || images.get(currentState) == null)
+		final SpriteCache sprites = currentSprites();
+		if (sprites == null || !sprites.getAtlas().hasState(currentState))
+			return;
+		// The image is picked from the time since the display started, so how often
+		// the home screen repaints doesn't change the animation speed.
+		final int imageNumber = (int) ((System.nanoTime() - displayStart) / 1_000_000 / DISPLAY_FRAME_MILLIS);
+		final BufferedImage myImage = scaledFrame(sprites, imageNumber);
+		if (myImage == null)
 			return;
-		final BufferedImage myImage = images.get(currentState).get(currentFacing).get(0);
-		final int imageXAdjustment = (myImage.getWidth() * SIZE - PLAYER_WIDTH) / 2;
-		final int imageYAdjustment = (myImage.getHeight() * SIZE - PLAYER_HEIGHT) / 2;
+		final int imageXAdjustment = (myImage.getWidth() - PLAYER_WIDTH) / 2;
+		final int imageYAdjustment = (myImage.getHeight() - PLAYER_HEIGHT) / 2;
 		final int displayPadding = 140;
-		if (currentState == State.Attack) {
-			attackCount += 1;
-		}
-		if (drawCount < FRAMESPERSWITCH - 1) { // For x ticks of the game loop, draw the same image.
-			g.drawImage(myImage, displayPadding - imageXAdjustment, displayPadding / 3 - imageYAdjustment,
-					PLAYER_WIDTH + imageXAdjustment * 2, PLAYER_HEIGHT + imageYAdjustment * 2, null);
-			drawCount++;
-		} else { // Then, switch the image to the next one in the sequence.
-			BufferedImage img = images.get(currentState).get(currentFacing).remove(0);
-			g.drawImage(img, displayPadding - imageXAdjustment, displayPadding / 3 - imageYAdjustment,
-					PLAYER_WIDTH + imageXAdjustment * 2, PLAYER_HEIGHT + imageYAdjustment * 2, null);
-			images.get(currentState).get(currentFacing).add(img);
-			drawCount = 0;
-			// Check currentState before test to increase performance with a quicker test.
-			if (currentState == State.Attack && img == finalAttackImages.get(currentFacing)) {
-				unlockState();
-				unlockFacing();
-				currentState = State.Idle;
-				attackCount = 0;
-			}
-		}
+		g.drawImage(myImage, displayPadding - imageXAdjustment, displayPadding / 3 - imageYAdjustment, null);
 	}
 
 	/**
@@ -450,18 +383,17 @@ public class Player implements GameVariables {
 	public synchronized void reset() {
 		stateLocked = false;
 		facingLocked = false;
-		attackCount = 0;
-		drawCount = 0;
+		animClock.restart();
 		setState(State.Idle);
 		setFacing(Facing.N);
 		health = 10000;
 	}
 
 	/**
-	 * Set the drawcount back to zero.
+	 * Start the current animation over from the first image.
 	 */
-	public void resetDrawCount() {
-		drawCount = 0;
+	public synchronized void restartAnimation() {
+		animClock.restart();
 	}
 
 	/**
@@ -542,22 +474,23 @@ public class Player implements GameVariables {
 	}
 
 	/**
-	 * While the player is being hit by an enemy, this will return true.
+	 * While the player is being hit by an enemy, this will return true. The player
+	 * stops being attacked {@value #ATTACKED_MILLIS} ms after the last hit.
 	 * 
 	 * @return boolean if the player is getting attacked.
 	 */
 	public boolean isGettingAttacked() {
-		return gettingAttacked;
+		return System.nanoTime() - attackedUntil < 0;
 	}
 
 	/**
-	 * Set whether or not the player is attacking.
+	 * Set whether or not the player is getting attacked.
 	 * 
-	 * @param t boolean true to set the player to be attacking and false to be not
-	 *          attacking.
+	 * @param t boolean true if the player was just hit, it lasts
+	 *          {@value #ATTACKED_MILLIS} ms. false to stop it right away.
 	 */
 	public void setGettingAttacked(boolean t) {
-		gettingAttacked = t;
+		attackedUntil = t ? System.nanoTime() + ATTACKED_MILLIS * 1_000_000L : System.nanoTime();
 	}
 
 	///////////////// BELOW CODE IS USED JUST FOR TESTING PURPOSES
@@ -668,12 +601,12 @@ public class Player implements GameVariables {
 			allPassed = false;
 		}
 		/*
-		 * stateLocked = false; facingLocked = false; attackCount = 0; drawCount = 0;
+		 * stateLocked = false; facingLocked = false; animClock.restart();
 		 * setState(State.Idle); setFacing(Facing.N); health = 10000;
 		 */
 		// Testing reset
 		p1.reset();
-		if (p1.stateLocked || p1.facingLocked || p1.attackCount != 0 || p1.drawCount != 0
+		if (p1.stateLocked || p1.facingLocked || p1.animClock.getFrame() != 0
 				|| p1.currentState != State.Idle || p1.currentFacing != Facing.N || p1.health != 10000) {
 			System.err.println("reset() failed to reset 1 or more variables!");
 			allPassed = false;
@@ -729,15 +662,14 @@ public class Player implements GameVariables {
 		Facing direction = Facing.SE; // Test the direction the player is facing
 		int speed = (int) (0.1 * 1000); // Set seconds (first number) between each image.
 
-		while (true) {
-			BufferedImage img = p1.images.get(playerState).get(direction).remove(0);
+		for (int i = 0;; i++) {
+			BufferedImage img = p1.character.get(playerState).getAtlas().getFrame(playerState, direction, i);
 			displayImage(img);
 			try {
 				Thread.sleep(speed);
 			} catch (InterruptedException e) {
 				e.printStackTrace();
 			}
-			p1.images.get(playerState).get(direction).add(img);
 		}
 	}
 }
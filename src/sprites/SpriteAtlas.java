@@ -0,0 +1,340 @@
+package sprites;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import gameTools.GameVariables;
+
+/**
+ * <p>
+ * SpriteAtlas holds every animation frame for one type of character. Frames
+ * are found by (state, facing, frame number) and are never changed once the
+ * atlas is built, so one atlas can be shared by every character of that type.
+ * Each state also has a frame time in milliseconds, which is how long each of
+ * its frames is shown.
+ * </p>
+ *
+ * <p>
+ * Animations are played with an {@link AnimationClock}, each character keeps
+ * its own clock. Frames should be copied into images of their own with
+ * {@link #compatible(BufferedImage)} (and {@link #mirrored(BufferedImage)} for
+ * characters that only have art for one side), so they can be drawn without
+ * flipping and without reading from a large sprite sheet. Testing is found in
+ * the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see AnimationClock
+ */
+public final class SpriteAtlas implements GameVariables {
+
+	/**
+	 * Builds a SpriteAtlas. Frames are added in the order they are played.
+	 */
+	public static class Builder {
+
+		/** Frames added for each state and facing. */
+		private final Map<State, Map<Facing, List<BufferedImage>>> frames = new EnumMap<>(State.class);
+
+		/** Frames added for each state that look the same in every direction. */
+		private final Map<State, List<BufferedImage>> anyFacing = new EnumMap<>(State.class);
+
+		/** Frame time of each state in milliseconds. */
+		private final Map<State, Integer> frameMillis = new EnumMap<>(State.class);
+
+		/** Frame time used for states that don't set their own. */
+		private final int defaultFrameMillis;
+
+		/**
+		 * Constructs a new Builder.
+		 *
+		 * @param defaultFrameMillis Frame time used for states that don't set their
+		 *                           own, in milliseconds.
+		 */
+		public Builder(int defaultFrameMillis) {
+			this.defaultFrameMillis = defaultFrameMillis;
+		}
+
+		/**
+		 * Adds a frame to the end of an animation.
+		 *
+		 * @param state  State the frame is for.
+		 * @param facing Direction the frame is for.
+		 * @param frame  The frame image.
+		 * @return This builder.
+		 */
+		public Builder add(State state, Facing facing, BufferedImage frame) {
+			frames.computeIfAbsent(state, s -> new EnumMap<>(Facing.class))
+					.computeIfAbsent(facing, f -> new ArrayList<>()).add(frame);
+			return this;
+		}
+
+		/**
+		 * Adds a frame to the end of an animation that looks the same in every
+		 * direction.
+		 *
+		 * @param state State the frame is for.
+		 * @param frame The frame image.
+		 * @return This builder.
+		 */
+		public Builder add(State state, BufferedImage frame) {
+			anyFacing.computeIfAbsent(state, s -> new ArrayList<>()).add(frame);
+			return this;
+		}
+
+		/**
+		 * Builds the atlas.
+		 *
+		 * @return The finished atlas.
+		 */
+		public SpriteAtlas build() {
+			final State[] states = State.values();
+			final Facing[] facings = Facing.values();
+			final BufferedImage[][][] atlasFrames = new BufferedImage[states.length][facings.length][];
+			final int[] atlasMillis = new int[states.length];
+
+			for (final State state : states) {
+				atlasMillis[state.ordinal()] = frameMillis.getOrDefault(state, defaultFrameMillis);
+
+				// Frames that look the same in every direction share one array
+				final List<BufferedImage> shared = anyFacing.get(state);
+				final BufferedImage[] sharedFrames = shared == null ? null : shared.toArray(new BufferedImage[0]);
+
+				final Map<Facing, List<BufferedImage>> byFacing = frames.get(state);
+				for (final Facing facing : facings) {
+					final List<BufferedImage> list = byFacing == null ? null : byFacing.get(facing);
+					if (list != null) {
+						atlasFrames[state.ordinal()][facing.ordinal()] = list.toArray(new BufferedImage[0]);
+					} else {
+						atlasFrames[state.ordinal()][facing.ordinal()] = sharedFrames;
+					}
+				}
+			}
+
+			return new SpriteAtlas(atlasFrames, atlasMillis);
+		}
+
+		/**
+		 * Sets how long each frame of a state is shown.
+		 *
+		 * @param state  The state.
+		 * @param millis Frame time in milliseconds, at least 1.
+		 * @return This builder.
+		 */
+		public Builder setFrameMillis(State state, int millis) {
+			frameMillis.put(state, Math.max(1, millis));
+			return this;
+		}
+	}
+
+	/**
+	 * Copies an image into a new image in the format the screen uses, so drawing
+	 * it is a plain copy. Sub images of a sprite sheet are copied into images of
+	 * their own.
+	 *
+	 * @param image The image to copy.
+	 * @return The copy.
+	 */
+	public static BufferedImage compatible(BufferedImage image) {
+		return copy(image, false);
+	}
+
+	/**
+	 * Copies an image flipped left to right, in the format the screen uses.
+	 *
+	 * @param image The image to copy.
+	 * @return The flipped copy.
+	 */
+	public static BufferedImage mirrored(BufferedImage image) {
+		return copy(image, true);
+	}
+
+	/**
+	 * Makes a new empty translucent image in the format the screen uses. When
+	 * there is no screen a plain ARGB image is used.
+	 *
+	 * @param width  Width of the image.
+	 * @param height Height of the image.
+	 * @return The empty image.
+	 */
+	static BufferedImage blank(int width, int height) {
+		if (GraphicsEnvironment.isHeadless()) {
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+		return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+				.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+	}
+
+	/**
+	 * Copies an image into a new translucent image in the format the screen uses.
+	 *
+	 * @param image  The image to copy.
+	 * @param mirror If the image should be flipped left to right.
+	 * @return The copy.
+	 */
+	private static BufferedImage copy(BufferedImage image, boolean mirror) {
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final BufferedImage copy = blank(width, height);
+		final Graphics2D g = copy.createGraphics();
+		if (mirror) {
+			g.drawImage(image, width, 0, -width, height, null);
+		} else {
+			g.drawImage(image, 0, 0, null);
+		}
+		g.dispose();
+		return copy;
+	}
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		final BufferedImage idle0 = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+		final BufferedImage idle1 = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+		final BufferedImage north = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+		final SpriteAtlas atlas = new Builder(100).add(State.Idle, idle0).add(State.Idle, idle1)
+				.add(State.Move, Facing.N, north).setFrameMillis(State.Move, 50).build();
+
+		if (atlas.getFrame(State.Idle, Facing.E, 1) != idle1 || atlas.getFrame(State.Idle, Facing.N, 0) != idle0) {
+			System.err.println("Frames that look the same in every direction weren't found!");
+			allPassed = false;
+		}
+		if (atlas.getFrame(State.Move, Facing.N, 0) != north || atlas.getFrame(State.Move, Facing.S, 0) != null) {
+			System.err.println("Frames for one direction weren't kept separate!");
+			allPassed = false;
+		}
+		if (atlas.getFrameCount(State.Idle, Facing.W) != 2 || atlas.getFrameCount(State.Dead, Facing.W) != 0) {
+			System.err.println("Frame counts are wrong!");
+			allPassed = false;
+		}
+		if (atlas.getFrameMillis(State.Idle) != 100 || atlas.getFrameMillis(State.Move) != 50) {
+			System.err.println("Frame times are wrong!");
+			allPassed = false;
+		}
+		if (!atlas.hasState(State.Idle) || atlas.hasState(State.Dead)) {
+			System.err.println("hasState is wrong!");
+			allPassed = false;
+		}
+
+		// Frame numbers past the end wrap around
+		if (atlas.getFrame(State.Idle, Facing.S, 3) != idle1) {
+			System.err.println("Frame number didn't wrap around!");
+			allPassed = false;
+		}
+
+		// Mirrored copies are flipped left to right
+		final BufferedImage sheet = new BufferedImage(4, 2, BufferedImage.TYPE_INT_ARGB);
+		sheet.setRGB(0, 0, 0xFFFF0000);
+		final BufferedImage left = sheet.getSubimage(0, 0, 2, 2);
+		final BufferedImage copy = compatible(left);
+		final BufferedImage flipped = mirrored(left);
+		if (copy.getRGB(0, 0) != 0xFFFF0000 || flipped.getRGB(1, 0) != 0xFFFF0000 || flipped.getRGB(0, 0) != 0) {
+			System.err.println("Copied images have the wrong pixels!");
+			allPassed = false;
+		}
+		if (copy.getWidth() != 2 || copy.getRaster().getParent() != null) {
+			System.err.println("Copies should be images of their own, not views of the sheet!");
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Every frame, indexed by [state][facing][frame]. */
+	private final BufferedImage[][][] frames;
+
+	/** Frame time of each state in milliseconds. */
+	private final int[] frameMillis;
+
+	/**
+	 * Constructs a new SpriteAtlas, use a {@link Builder} to make one.
+	 *
+	 * @param frames      Every frame, indexed by [state][facing][frame].
+	 * @param frameMillis Frame time of each state in milliseconds.
+	 */
+	private SpriteAtlas(BufferedImage[][][] frames, int[] frameMillis) {
+		this.frames = frames;
+		this.frameMillis = frameMillis;
+	}
+
+	/**
+	 * Gets a frame. Frame numbers past the end of the animation wrap around.
+	 *
+	 * @param state  State of the character.
+	 * @param facing Direction the character is facing.
+	 * @param frame  Frame number.
+	 * @return The frame, or null if there are no frames for the state and facing.
+	 */
+	public BufferedImage getFrame(State state, Facing facing, int frame) {
+		final BufferedImage[] animation = frames[state.ordinal()][facing.ordinal()];
+		if (animation == null || animation.length == 0) {
+			return null;
+		}
+		return animation[frame % animation.length];
+	}
+
+	/**
+	 * Gets the number of frames in an animation.
+	 *
+	 * @param state  State of the character.
+	 * @param facing Direction the character is facing.
+	 * @return Number of frames, 0 if there are none.
+	 */
+	public int getFrameCount(State state, Facing facing) {
+		final BufferedImage[] animation = frames[state.ordinal()][facing.ordinal()];
+		return animation == null ? 0 : animation.length;
+	}
+
+	/**
+	 * Gets the number of frames in the animation for a state. Every direction of a
+	 * state has the same number of frames.
+	 *
+	 * @param state State of the character.
+	 * @return Number of frames, 0 if there are none.
+	 */
+	public int getFrameCount(State state) {
+		for (final BufferedImage[] animation : frames[state.ordinal()]) {
+			if (animation != null && animation.length > 0) {
+				return animation.length;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Gets how long each frame of a state is shown.
+	 *
+	 * @param state The state.
+	 * @return Frame time in milliseconds.
+	 */
+	public int getFrameMillis(State state) {
+		return frameMillis[state.ordinal()];
+	}
+
+	/**
+	 * Checks if the atlas has any frames for a state.
+	 *
+	 * @param state The state.
+	 * @return true if the state has frames.
+	 */
+	public boolean hasState(State state) {
+		return getFrameCount(state) > 0;
+	}
+}
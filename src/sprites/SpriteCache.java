@@ -0,0 +1,211 @@
+package sprites;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import gameTools.GameVariables;
+
+/**
+ * <p>
+ * SpriteCache holds the frames of a {@link SpriteAtlas} already scaled to the
+ * size they are drawn on the screen, so drawing a frame is a plain copy with
+ * no scaling. Frames are found by (state, facing, frame number, size) and are
+ * scaled the first time they're asked for.
+ * </p>
+ *
+ * <p>
+ * Each state is cached at one size. Asking for a state at a different size
+ * throws away the frames cached for it and scales them again at the new size.
+ * Frames that are shared by every facing in the atlas are only scaled once.
+ * Testing is found in the main method.
+ * </p>
+ *
+ * @since October 19, 2026
+ *
+ * @see SpriteAtlas
+ */
+public final class SpriteCache implements GameVariables {
+
+	/**
+	 * Main method, used for testing.
+	 *
+	 * @param args Arguments passed.
+	 */
+	public static void main(String[] args) {
+		boolean allPassed = true;
+
+		final BufferedImage idle = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+		idle.setRGB(9, 9, 0xFF00FF00);
+		final BufferedImage north = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+		final SpriteAtlas atlas = new SpriteAtlas.Builder(100).add(State.Idle, idle).add(State.Idle, Facing.N, north)
+				.build();
+		final SpriteCache cache = new SpriteCache(atlas);
+
+		final BufferedImage scaled = cache.get(State.Idle, Facing.S, 0, 30, 20);
+		if (scaled.getWidth() != 30 || scaled.getHeight() != 20 || scaled.getRGB(29, 19) != 0xFF00FF00) {
+			System.err.println("Frame wasn't scaled to the size asked for!");
+			allPassed = false;
+		}
+		if (cache.get(State.Idle, Facing.S, 0, 30, 20) != scaled) {
+			System.err.println("Frame was scaled again when it was already cached!");
+			allPassed = false;
+		}
+
+		// Facings that share a frame in the atlas share the scaled frame too
+		if (cache.get(State.Idle, Facing.E, 0, 30, 20) != scaled || cache.getScaledCount() != 1) {
+			System.err.println("A shared frame was scaled more than once!");
+			allPassed = false;
+		}
+		if (cache.get(State.Idle, Facing.N, 0, 30, 20) == scaled) {
+			System.err.println("A facing with its own frame got another facing's frame!");
+			allPassed = false;
+		}
+
+		// A new size rebuilds the state
+		final BufferedImage bigger = cache.get(State.Idle, Facing.S, 0, 40, 40);
+		if (bigger.getWidth() != 40 || cache.getRebuildCount() != 1) {
+			System.err.println("Changing the size didn't rebuild the cached frames!");
+			allPassed = false;
+		}
+
+		if (cache.get(State.Dead, Facing.S, 0, 30, 20) != null) {
+			System.err.println("A state with no frames should give null!");
+			allPassed = false;
+		}
+
+		if (allPassed) {
+			System.out.println("All cases passed!");
+		} else {
+			System.err.println("At least one case failed!");
+		}
+	}
+
+	/** Atlas the frames are scaled from. */
+	private final SpriteAtlas atlas;
+
+	/** Scaled frames, indexed by [state][facing][frame]. */
+	private final BufferedImage[][][] frames;
+
+	/** Width each state is cached at, 0 if nothing is cached. */
+	private final int[] widths;
+
+	/** Height each state is cached at, 0 if nothing is cached. */
+	private final int[] heights;
+
+	/** Number of frames scaled. */
+	private int scaledCount = 0;
+
+	/** Number of times a state was thrown away because its size changed. */
+	private int rebuildCount = 0;
+
+	/**
+	 * Constructs a new SpriteCache.
+	 *
+	 * @param atlas Atlas the frames are scaled from.
+	 */
+	public SpriteCache(SpriteAtlas atlas) {
+		this.atlas = atlas;
+		final int states = State.values().length;
+		frames = new BufferedImage[states][Facing.values().length][];
+		widths = new int[states];
+		heights = new int[states];
+	}
+
+	/**
+	 * Gets a frame scaled to a size. Frame numbers past the end of the animation
+	 * wrap around.
+	 *
+	 * @param state  State of the character.
+	 * @param facing Direction the character is facing.
+	 * @param frame  Frame number.
+	 * @param width  Width the frame is drawn at.
+	 * @param height Height the frame is drawn at.
+	 * @return The scaled frame, or null if the atlas has no frames for the state
+	 *         and facing.
+	 */
+	public synchronized BufferedImage get(State state, Facing facing, int frame, int width, int height) {
+		final int count = atlas.getFrameCount(state, facing);
+		if (count == 0 || width <= 0 || height <= 0) {
+			return null;
+		}
+		final int s = state.ordinal();
+		if (widths[s] != width || heights[s] != height) {
+			if (widths[s] != 0) {
+				rebuildCount++;
+			}
+			for (int f = 0; f < frames[s].length; f++) {
+				frames[s][f] = null;
+			}
+			widths[s] = width;
+			heights[s] = height;
+		}
+
+		BufferedImage[] animation = frames[s][facing.ordinal()];
+		if (animation == null) {
+			animation = new BufferedImage[count];
+			frames[s][facing.ordinal()] = animation;
+		}
+		final int i = frame % count;
+		if (animation[i] == null) {
+			animation[i] = scale(state, facing, i, width, height);
+		}
+		return animation[i];
+	}
+
+	/**
+	 * Gets the atlas the frames are scaled from.
+	 *
+	 * @return The atlas.
+	 */
+	public SpriteAtlas getAtlas() {
+		return atlas;
+	}
+
+	/**
+	 * Gets the number of times a state was thrown away because it was asked for at
+	 * a new size.
+	 *
+	 * @return Number of rebuilds.
+	 */
+	public synchronized int getRebuildCount() {
+		return rebuildCount;
+	}
+
+	/**
+	 * Gets the number of frames that have been scaled.
+	 *
+	 * @return Number of frames scaled.
+	 */
+	public synchronized int getScaledCount() {
+		return scaledCount;
+	}
+
+	/**
+	 * Scales a frame, or reuses the scaled frame of another facing if the atlas
+	 * gives every facing the same image.
+	 *
+	 * @param state  State of the character.
+	 * @param facing Direction the character is facing.
+	 * @param frame  Frame number, already wrapped.
+	 * @param width  Width to scale to.
+	 * @param height Height to scale to.
+	 * @return The scaled frame.
+	 */
+	private BufferedImage scale(State state, Facing facing, int frame, int width, int height) {
+		final BufferedImage source = atlas.getFrame(state, facing, frame);
+		for (final Facing other : Facing.values()) {
+			final BufferedImage[] animation = frames[state.ordinal()][other.ordinal()];
+			if (other != facing && animation != null && animation.length > frame && animation[frame] != null
+					&& atlas.getFrame(state, other, frame) == source) {
+				return animation[frame];
+			}
+		}
+
+		final BufferedImage scaled = SpriteAtlas.blank(width, height);
+		final Graphics2D g = scaled.createGraphics();
+		g.drawImage(source, 0, 0, width, height, null);
+		g.dispose();
+		scaledCount++;
+		return scaled;
+	}
+}